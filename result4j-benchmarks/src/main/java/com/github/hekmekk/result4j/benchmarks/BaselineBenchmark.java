@@ -0,0 +1,58 @@
+package com.github.hekmekk.result4j.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The same workloads as {@link ResultBenchmark}, expressed with {@link Optional} and plain
+ * branching, to put the numbers of the former into perspective.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BaselineBenchmark {
+
+  @Benchmark
+  public Optional<Integer> optionalMap(final Mix mix) {
+    final int i = mix.next();
+    final Optional<Integer> o = mix.fails[i] ? Optional.empty() : Optional.of(mix.values[i]);
+    return o.map(v -> v + 1);
+  }
+
+  @Benchmark
+  public int optionalLongChain(final Mix mix) {
+    final int i = mix.next();
+    final Optional<Integer> o = mix.fails[i] ? Optional.empty() : Optional.of(mix.values[i]);
+    return o.map(v -> v + 1)
+        .flatMap(v -> v % 7 == 0 ? Optional.empty() : Optional.of(v))
+        .map(v -> v * 2)
+        .flatMap(v -> Optional.of(v - 1))
+        .map(v -> v / 3)
+        .map(v -> v + 2)
+        .flatMap(v -> Optional.of(v * v))
+        .orElse(-1);
+  }
+
+  @Benchmark
+  public int plainLongChain(final Mix mix) {
+    final int i = mix.next();
+    if (mix.fails[i]) {
+      return -1;
+    }
+    int v = mix.values[i] + 1;
+    if (v % 7 == 0) {
+      return 0;
+    }
+    v = (v * 2 - 1) / 3 + 2;
+    return v * v;
+  }
+}
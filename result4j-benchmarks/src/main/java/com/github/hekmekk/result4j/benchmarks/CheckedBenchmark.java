@@ -0,0 +1,77 @@
+package com.github.hekmekk.result4j.benchmarks;
+
+import com.github.hekmekk.result4j.Completable;
+import com.github.hekmekk.result4j.Result;
+import com.github.hekmekk.result4j.StackCapture;
+import com.github.hekmekk.result4j.StacklessException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link Result#of} and {@link Completable#of} against a plain try/catch doing the same
+ * work. Failing calls throw a freshly constructed exception, just like production code does.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CheckedBenchmark {
+
+  private static int parse(final Mix mix, final int i) throws Exception {
+    if (mix.fails[i]) {
+      throw new Exception("FAILURE");
+    }
+    return mix.values[i];
+  }
+
+  private static final StacklessException REJECTED = new StacklessException("FAILURE");
+
+  private static int parseStackless(final Mix mix, final int i) {
+    if (mix.fails[i]) {
+      throw REJECTED;
+    }
+    return mix.values[i];
+  }
+
+  @Benchmark
+  public Result<Integer, Throwable> resultOfStackless(final Mix mix) {
+    final int i = mix.next();
+    return Result.of(() -> parseStackless(mix, i));
+  }
+
+  @Benchmark
+  public Result<Integer, Throwable> resultOfSuppressed(final Mix mix) {
+    final int i = mix.next();
+    return Result.of(() -> parse(mix, i), StackCapture.suppressed());
+  }
+
+  @Benchmark
+  public Result<Integer, Throwable> resultOf(final Mix mix) {
+    final int i = mix.next();
+    return Result.of(() -> parse(mix, i));
+  }
+
+  @Benchmark
+  public Completable<Throwable> completableOf(final Mix mix, final Blackhole bh) {
+    final int i = mix.next();
+    return Completable.of(() -> bh.consume(parse(mix, i)));
+  }
+
+  @Benchmark
+  public int tryCatch(final Mix mix) {
+    final int i = mix.next();
+    try {
+      return parse(mix, i);
+    } catch (Exception e) {
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.github.hekmekk.result4j.benchmarks;
+
+import com.github.hekmekk.result4j.Result;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Precomputed inputs with a configurable share of failures, so that success-heavy and failure-heavy
+ * workloads can be compared without measuring the random number generator.
+ */
+@State(Scope.Thread)
+public class Mix {
+
+  private static final int SIZE = 1024;
+
+  private static final int MASK = SIZE - 1;
+
+  @Param({"0.0", "0.1", "0.9"})
+  public double failureRate;
+
+  final int[] values = new int[SIZE];
+
+  final boolean[] fails = new boolean[SIZE];
+
+  final Exception error = new IllegalStateException("FAILURE");
+
+  @SuppressWarnings("unchecked")
+  final Result<Integer, Exception>[] results = new Result[SIZE];
+
+  private int index;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42);
+    for (int i = 0; i < SIZE; i++) {
+      values[i] = random.nextInt(1000);
+      fails[i] = random.nextDouble() < failureRate;
+      results[i] = fails[i] ? Result.failure(error) : Result.success(values[i]);
+    }
+  }
+
+  int next() {
+    index = (index + 1) & MASK;
+    return index;
+  }
+}
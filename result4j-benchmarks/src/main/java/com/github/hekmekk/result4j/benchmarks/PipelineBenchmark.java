@@ -0,0 +1,50 @@
+package com.github.hekmekk.result4j.benchmarks;
+
+import com.github.hekmekk.result4j.Result;
+import com.github.hekmekk.result4j.ResultPipeline;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a six-stage chain of {@link Result} combinators with the same {@link ResultPipeline}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PipelineBenchmark {
+
+  private static final String ODD = "ODD";
+
+  private static final ResultPipeline<Integer, Integer, String> PIPELINE =
+      ResultPipeline.<Integer, String>start()
+          .map(v -> v + 1000)
+          .map(v -> v * 3)
+          .flatMap(v -> v % 2 == 0 ? Result.success(v) : Result.failure(ODD))
+          .map(v -> v / 2)
+          .map(v -> v + 7)
+          .recover(e -> -1);
+
+  @Benchmark
+  public Result<Integer, String> chain(final Mix mix) {
+    return Result.<Integer, String>success(mix.values[mix.next()])
+        .map(v -> v + 1000)
+        .map(v -> v * 3)
+        .flatMap(v -> v % 2 == 0 ? Result.success(v) : Result.failure(ODD))
+        .map(v -> v / 2)
+        .map(v -> v + 7)
+        .recover(e -> -1);
+  }
+
+  @Benchmark
+  public Result<Integer, String> pipeline(final Mix mix) {
+    return PIPELINE.apply(mix.values[mix.next()]);
+  }
+}
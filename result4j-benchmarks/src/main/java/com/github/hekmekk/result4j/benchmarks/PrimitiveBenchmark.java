@@ -0,0 +1,37 @@
+package com.github.hekmekk.result4j.benchmarks;
+
+import com.github.hekmekk.result4j.IntResult;
+import com.github.hekmekk.result4j.Result;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Compares boxed {@link Result} chains of numbers with their {@link IntResult} equivalents. */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PrimitiveBenchmark {
+
+  @Benchmark
+  public int boxed(final Mix mix) {
+    final int i = mix.next();
+    final Result<Integer, Exception> r =
+        mix.fails[i] ? Result.failure(mix.error) : Result.success(mix.values[i] + 1000);
+    return r.map(v -> v * 3).map(v -> v + 7).map(v -> v / 2).fold(v -> v, e -> -1);
+  }
+
+  @Benchmark
+  public int primitive(final Mix mix) {
+    final int i = mix.next();
+    final IntResult<Exception> r =
+        mix.fails[i] ? IntResult.failure(mix.error) : IntResult.success(mix.values[i] + 1000);
+    return r.map(v -> v * 3).map(v -> v + 7).map(v -> v / 2).orElse(-1);
+  }
+}
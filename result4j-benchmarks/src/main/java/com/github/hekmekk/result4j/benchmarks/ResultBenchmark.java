@@ -0,0 +1,66 @@
+package com.github.hekmekk.result4j.benchmarks;
+
+import com.github.hekmekk.result4j.Result;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Measures the combinators of {@link Result} on a mix of successes and failures. */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultBenchmark {
+
+  @Benchmark
+  public Result<Integer, Exception> create(final Mix mix) {
+    final int i = mix.next();
+    return mix.fails[i] ? Result.failure(mix.error) : Result.success(mix.values[i]);
+  }
+
+  @Benchmark
+  public Result<Integer, Exception> map(final Mix mix) {
+    return mix.results[mix.next()].map(v -> v + 1);
+  }
+
+  @Benchmark
+  public Result<Integer, Exception> flatMap(final Mix mix) {
+    return mix.results[mix.next()].flatMap(v -> Result.success(v + 1));
+  }
+
+  @Benchmark
+  public Result<Integer, Exception> recover(final Mix mix) {
+    return mix.results[mix.next()].recover(e -> 0);
+  }
+
+  @Benchmark
+  public Result<Integer, Exception> recoverWithClass(final Mix mix) {
+    return mix.results[mix.next()].recoverWith(IllegalStateException.class, e -> Result.success(0));
+  }
+
+  @Benchmark
+  public int fold(final Mix mix) {
+    return mix.results[mix.next()].fold(v -> v, e -> -1);
+  }
+
+  @Benchmark
+  public int longChain(final Mix mix) {
+    return mix.results[mix.next()]
+        .map(v -> v + 1)
+        .flatMap(v -> v % 7 == 0 ? Result.failure(mix.error) : Result.success(v))
+        .map(v -> v * 2)
+        .flatMap(v -> Result.success(v - 1))
+        .map(v -> v / 3)
+        .recoverWith(IllegalStateException.class, e -> Result.success(0))
+        .map(v -> v + 2)
+        .flatMap(v -> Result.success(v * v))
+        .recover(e -> -1)
+        .fold(v -> v, e -> -2);
+  }
+}
@@ -0,0 +1,56 @@
+package com.github.hekmekk.result4j.benchmarks;
+
+import com.github.hekmekk.result4j.Result;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link Result#fold} with pattern matching on the sealed cases of the Java 17 variant of
+ * {@link Result}. Only built on Java 17 and later.
+ *
+ * <p>The fold goes through one shared helper with three different pairs of functions, as it would
+ * in an application, which makes the calls of the functions megamorphic. Pattern matching needs no
+ * functions at all.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PatternBenchmark {
+
+  private static int fold(
+      final Result<Integer, Exception> r,
+      final Function<Integer, Integer> f,
+      final Function<Exception, Integer> g) {
+    return r.fold(f, g);
+  }
+
+  private static int match(final Result<Integer, Exception> r, final int add, final int error) {
+    if (r instanceof Result.Success<Integer, Exception> s) {
+      return s.value() + add;
+    }
+    return error;
+  }
+
+  @Benchmark
+  public int fold(final Mix mix) {
+    final Result<Integer, Exception> r = mix.results[mix.next()];
+    return fold(r, v -> v + 1, e -> -1)
+        + fold(r, v -> v + 2, e -> -2)
+        + fold(r, v -> v + 3, e -> -3);
+  }
+
+  @Benchmark
+  public int pattern(final Mix mix) {
+    final Result<Integer, Exception> r = mix.results[mix.next()];
+    return match(r, 1, -1) + match(r, 2, -2) + match(r, 3, -3);
+  }
+}
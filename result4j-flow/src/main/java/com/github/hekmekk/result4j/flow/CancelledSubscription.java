@@ -0,0 +1,14 @@
+package com.github.hekmekk.result4j.flow;
+
+import java.util.concurrent.Flow;
+
+/** Handed to subscribers which are rejected right away. */
+enum CancelledSubscription implements Flow.Subscription {
+  INSTANCE;
+
+  @Override
+  public void request(final long n) {}
+
+  @Override
+  public void cancel() {}
+}
@@ -0,0 +1,276 @@
+package com.github.hekmekk.result4j.flow;
+
+import com.github.hekmekk.result4j.Result;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Flow.Processor} which splits a stream of {@link Result}s: success values are published
+ * to its own subscriber, errors to the subscriber of {@link #failures()}, dead-letter style.
+ *
+ * <p>Each output buffers at most {@code bufferSize} items. Upstream demand never exceeds the free
+ * space of the fuller buffer, so a slow consumer on either side eventually slows down the producer,
+ * rather than letting a buffer grow without bound.
+ *
+ * <p>Subscribing to {@link #failures()} is optional. Until it has a subscriber, the first {@code
+ * bufferSize} errors are kept for it, and any further ones are dropped and counted by {@link
+ * #droppedFailures()}, so that the success output never stalls waiting for an absent consumer.
+ *
+ * <p>Cancelling the success output cancels the upstream subscription. Cancelling the failure output
+ * only discards further errors. Each output accepts a single subscriber.
+ *
+ * @param <V> the type of success value
+ * @param <E> the type of the failure error
+ */
+public final class FailureRouter<V, E> implements Flow.Processor<Result<V, E>, V> {
+
+  private final int bufferSize;
+
+  private final Output<V> successes = new Output<>(true);
+
+  private final Output<E> failures = new Output<>(false);
+
+  private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+
+  private final AtomicLong outstanding = new AtomicLong();
+
+  private final AtomicLong droppedFailures = new AtomicLong();
+
+  private final AtomicInteger wip = new AtomicInteger();
+
+  private volatile boolean done;
+
+  private volatile Throwable error;
+
+  private boolean upstreamCancelled;
+
+  public FailureRouter(final int bufferSize) {
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("bufferSize must be positive");
+    }
+    this.bufferSize = bufferSize;
+  }
+
+  /** The publisher of all errors. */
+  public Flow.Publisher<E> failures() {
+    return failures;
+  }
+
+  /** The number of errors dropped because {@link #failures()} had no subscriber. */
+  public long droppedFailures() {
+    return droppedFailures.get();
+  }
+
+  @Override
+  public void subscribe(final Flow.Subscriber<? super V> subscriber) {
+    successes.subscribe(subscriber);
+  }
+
+  @Override
+  public void onSubscribe(final Flow.Subscription subscription) {
+    Objects.requireNonNull(subscription, "subscription must not be null");
+    if (!upstream.compareAndSet(null, subscription)) {
+      subscription.cancel();
+      return;
+    }
+    drain();
+  }
+
+  @Override
+  public void onNext(final Result<V, E> item) {
+    Objects.requireNonNull(item, "item must not be null");
+    outstanding.decrementAndGet();
+    if (item instanceof Result.Success) {
+      successes.offer(item.unsafeGet());
+    } else if (failures.subscriber.get() == null && failures.buffered.get() >= bufferSize) {
+      droppedFailures.incrementAndGet();
+    } else {
+      failures.offer(item.unsafeGetError());
+    }
+    drain();
+  }
+
+  @Override
+  public void onError(final Throwable throwable) {
+    Objects.requireNonNull(throwable, "throwable must not be null");
+    error = throwable;
+    done = true;
+    drain();
+  }
+
+  @Override
+  public void onComplete() {
+    done = true;
+    drain();
+  }
+
+  /** Delivers buffered items and replenishes upstream demand; runs on one thread at a time. */
+  private void drain() {
+    if (wip.getAndIncrement() != 0) {
+      return;
+    }
+
+    int missed = 1;
+    do {
+      final Flow.Subscription subscription = upstream.get();
+      cancelUpstreamIfAbandoned(subscription);
+      successes.deliver();
+      failures.deliver();
+      cancelUpstreamIfAbandoned(subscription);
+
+      if (subscription != null && !done) {
+        final long failuresFree =
+            failures.subscriber.get() == null ? bufferSize : bufferSize - failures.buffered.get();
+        final long free = Math.min(bufferSize - successes.buffered.get(), failuresFree);
+        final long want = free - outstanding.get();
+        if (want > 0) {
+          outstanding.addAndGet(want);
+          subscription.request(want);
+        }
+      }
+      missed = wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  /** Called from the drain loop only. */
+  private void cancelUpstreamIfAbandoned(final Flow.Subscription subscription) {
+    if (successes.cancelled && subscription != null && !upstreamCancelled) {
+      upstreamCancelled = true;
+      done = true;
+      subscription.cancel();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FailureRouter[successes="
+        + successes.buffered.get()
+        + ", failures="
+        + failures.buffered.get()
+        + ", droppedFailures="
+        + droppedFailures.get()
+        + "]";
+  }
+
+  private final class Output<T> implements Flow.Publisher<T>, Flow.Subscription {
+
+    private final boolean primary;
+
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger buffered = new AtomicInteger();
+
+    private final AtomicLong requested = new AtomicLong();
+
+    private final AtomicReference<Flow.Subscriber<? super T>> subscriber = new AtomicReference<>();
+
+    private volatile boolean cancelled;
+
+    private volatile Throwable invalidRequest;
+
+    private boolean terminated;
+
+    Output(final boolean primary) {
+      this.primary = primary;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> s) {
+      Objects.requireNonNull(s, "subscriber must not be null");
+      if (!subscriber.compareAndSet(null, s)) {
+        s.onSubscribe(CancelledSubscription.INSTANCE);
+        s.onError(new IllegalStateException("FailureRouter allows one subscriber per output"));
+        return;
+      }
+      s.onSubscribe(this);
+      drain();
+    }
+
+    @Override
+    public void request(final long n) {
+      if (n <= 0) {
+        invalidRequest = new IllegalArgumentException("request must be positive, was " + n);
+      } else {
+        requested.getAndAccumulate(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      drain();
+    }
+
+    void offer(final T item) {
+      queue.offer(item);
+      buffered.incrementAndGet();
+    }
+
+    /** Called from the drain loop only. */
+    void deliver() {
+      final Flow.Subscriber<? super T> s = subscriber.get();
+      if (terminated) {
+        discard();
+        return;
+      }
+
+      if (cancelled) {
+        terminated = true;
+        discard();
+        return;
+      }
+
+      if (s == null) {
+        return;
+      }
+
+      if (invalidRequest != null) {
+        terminated = true;
+        cancelled = primary;
+        discard();
+        s.onError(invalidRequest);
+        return;
+      }
+
+      long r = requested.get();
+      long emitted = 0;
+      while (emitted != r) {
+        final T item = queue.poll();
+        if (item == null) {
+          break;
+        }
+        buffered.decrementAndGet();
+        s.onNext(item);
+        emitted++;
+        if (cancelled) {
+          return;
+        }
+      }
+      if (emitted > 0 && r != Long.MAX_VALUE) {
+        requested.addAndGet(-emitted);
+      }
+
+      if (done && queue.isEmpty()) {
+        terminated = true;
+        final Throwable t = error;
+        if (t != null) {
+          s.onError(t);
+        } else {
+          s.onComplete();
+        }
+      }
+    }
+
+    private void discard() {
+      while (queue.poll() != null) {
+        buffered.decrementAndGet();
+      }
+    }
+  }
+}
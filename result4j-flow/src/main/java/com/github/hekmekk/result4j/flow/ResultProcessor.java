@@ -0,0 +1,232 @@
+package com.github.hekmekk.result4j.flow;
+
+import com.github.hekmekk.result4j.Result;
+import com.github.hekmekk.result4j.ResultPipeline;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * A {@link Flow.Processor} which transforms every {@link Result} passing through it.
+ *
+ * <p>Every item is transformed into exactly one item, so demand is passed upstream as is and
+ * nothing is ever buffered. Demand signalled before the upstream subscription arrives is kept and
+ * forwarded once it does. If the transformation throws, the upstream subscription is cancelled and
+ * the exception is signalled downstream. Once downstream cancels, it receives no more signals, not
+ * even completion or an error.
+ *
+ * <p>A processor accepts a single subscriber.
+ *
+ * @param <V> the type of incoming success values
+ * @param <U> the type of outgoing success values
+ * @param <E> the type of the failure error
+ */
+public final class ResultProcessor<V, U, E> implements Flow.Processor<Result<V, E>, Result<U, E>> {
+
+  private final Function<? super Result<V, E>, ? extends Result<U, E>> f;
+
+  private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+
+  private final AtomicReference<Flow.Subscriber<? super Result<U, E>>> downstream =
+      new AtomicReference<>();
+
+  private final AtomicLong pendingDemand = new AtomicLong();
+
+  private boolean done;
+
+  private Throwable error;
+
+  private boolean terminated;
+
+  /** Set once no more items are wanted from upstream, by downstream or after a failure. */
+  private volatile boolean cancelled;
+
+  /** Set once downstream cancelled, after which it receives no more signals at all. */
+  private volatile boolean downstreamCancelled;
+
+  private ResultProcessor(final Function<? super Result<V, E>, ? extends Result<U, E>> f) {
+    this.f = f;
+  }
+
+  /** Applies {@code f} to every item. */
+  public static <V, U, E> ResultProcessor<V, U, E> of(
+      final Function<? super Result<V, E>, ? extends Result<U, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return new ResultProcessor<>(f);
+  }
+
+  /** Applies all stages of {@code pipeline} to every item. */
+  public static <V, U, E> ResultProcessor<V, U, E> of(final ResultPipeline<V, U, E> pipeline) {
+    Objects.requireNonNull(pipeline, "pipeline must not be null");
+    return new ResultProcessor<>(pipeline::applyTo);
+  }
+
+  public static <V, U, E> ResultProcessor<V, U, E> map(final Function<? super V, ? extends U> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return new ResultProcessor<>(r -> r.map(f));
+  }
+
+  public static <V, U, E> ResultProcessor<V, U, E> flatMap(
+      final Function<? super V, ? extends Result<? extends U, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return new ResultProcessor<>(r -> r.flatMap(f));
+  }
+
+  public static <V, E, F extends E> ResultProcessor<V, V, E> recoverWith(
+      final Class<F> errorType, final Function<F, ? extends Result<? extends V, E>> f) {
+    Objects.requireNonNull(errorType, "errorType must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    return new ResultProcessor<>(r -> r.recoverWith(errorType, f));
+  }
+
+  public static <V, E, F extends E> ResultProcessor<V, V, E> recover(
+      final Class<F> errorType, final Function<F, ? extends V> f) {
+    Objects.requireNonNull(errorType, "errorType must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    return new ResultProcessor<>(r -> r.recover(errorType, f));
+  }
+
+  @Override
+  public void subscribe(final Flow.Subscriber<? super Result<U, E>> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber must not be null");
+    if (!downstream.compareAndSet(null, subscriber)) {
+      subscriber.onSubscribe(CancelledSubscription.INSTANCE);
+      subscriber.onError(new IllegalStateException("ResultProcessor allows only one subscriber"));
+      return;
+    }
+
+    subscriber.onSubscribe(new Downstream());
+    terminateIfDone();
+  }
+
+  @Override
+  public void onSubscribe(final Flow.Subscription subscription) {
+    Objects.requireNonNull(subscription, "subscription must not be null");
+    if (!upstream.compareAndSet(null, subscription)) {
+      subscription.cancel();
+      return;
+    }
+
+    if (cancelled) {
+      subscription.cancel();
+      return;
+    }
+    forwardPendingDemand(subscription);
+  }
+
+  private void forwardPendingDemand(final Flow.Subscription subscription) {
+    final long n = pendingDemand.getAndSet(0);
+    if (n > 0) {
+      subscription.request(n);
+    }
+  }
+
+  @Override
+  public void onNext(final Result<V, E> item) {
+    Objects.requireNonNull(item, "item must not be null");
+    if (cancelled) {
+      return;
+    }
+
+    final Result<U, E> transformed;
+    try {
+      transformed = Objects.requireNonNull(f.apply(item), "f must not return null");
+    } catch (Throwable t) {
+      cancelUpstream();
+      onError(t);
+      return;
+    }
+    downstream.get().onNext(transformed);
+  }
+
+  @Override
+  public void onError(final Throwable throwable) {
+    Objects.requireNonNull(throwable, "throwable must not be null");
+    synchronized (this) {
+      if (done) {
+        return;
+      }
+      done = true;
+      error = throwable;
+    }
+    terminateIfDone();
+  }
+
+  @Override
+  public void onComplete() {
+    synchronized (this) {
+      if (done) {
+        return;
+      }
+      done = true;
+    }
+    terminateIfDone();
+  }
+
+  private void terminateIfDone() {
+    final Flow.Subscriber<? super Result<U, E>> subscriber = downstream.get();
+    final Throwable t;
+    synchronized (this) {
+      if (!done || terminated || downstreamCancelled || subscriber == null) {
+        return;
+      }
+      terminated = true;
+      t = error;
+    }
+
+    if (t != null) {
+      subscriber.onError(t);
+    } else {
+      subscriber.onComplete();
+    }
+  }
+
+  private void cancelUpstream() {
+    cancelled = true;
+    final Flow.Subscription subscription = upstream.get();
+    if (subscription != null) {
+      subscription.cancel();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "ResultProcessor[upstream=" + upstream.get() + "]";
+  }
+
+  private final class Downstream implements Flow.Subscription {
+
+    @Override
+    public void request(final long n) {
+      if (cancelled) {
+        return;
+      }
+
+      if (n <= 0) {
+        cancelUpstream();
+        onError(new IllegalArgumentException("request must be positive, was " + n));
+        return;
+      }
+
+      final Flow.Subscription subscription = upstream.get();
+      if (subscription != null) {
+        subscription.request(n);
+        return;
+      }
+
+      pendingDemand.getAndAccumulate(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+      final Flow.Subscription arrived = upstream.get();
+      if (arrived != null) {
+        forwardPendingDemand(arrived);
+      }
+    }
+
+    @Override
+    public void cancel() {
+      downstreamCancelled = true;
+      cancelUpstream();
+    }
+  }
+}
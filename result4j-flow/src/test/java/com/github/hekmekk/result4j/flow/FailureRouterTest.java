@@ -0,0 +1,176 @@
+package com.github.hekmekk.result4j.flow;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.hekmekk.result4j.Result;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class FailureRouterTest {
+
+  private static final class RecordingSubscription implements Flow.Subscription {
+
+    final AtomicLong requested = new AtomicLong();
+
+    final AtomicBoolean cancelled = new AtomicBoolean();
+
+    @Override
+    public void request(final long n) {
+      requested.addAndGet(n);
+    }
+
+    @Override
+    public void cancel() {
+      cancelled.set(true);
+    }
+  }
+
+  @Test
+  void shouldRouteSuccessesAndFailures() throws Exception {
+    final FailureRouter<Integer, String> router = new FailureRouter<>(16);
+    final TestSubscriber<Integer> successes = new TestSubscriber<>();
+    final TestSubscriber<String> failures = new TestSubscriber<>();
+    router.subscribe(successes);
+    router.failures().subscribe(failures);
+    successes.request(Long.MAX_VALUE);
+    failures.request(Long.MAX_VALUE);
+
+    final List<Integer> expected = new ArrayList<>();
+    try (SubmissionPublisher<Result<Integer, String>> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(router);
+      for (int i = 0; i < 1000; i++) {
+        if (i % 10 == 0) {
+          publisher.submit(Result.failure("E" + i));
+        } else {
+          publisher.submit(Result.success(i));
+          expected.add(i);
+        }
+      }
+    }
+    assertThat(successes.awaitTermination(), is(true));
+    assertThat(failures.awaitTermination(), is(true));
+    assertThat(successes.items, is(expected));
+    assertThat(failures.items.size(), is(100));
+    assertThat(failures.items.get(99), is("E990"));
+  }
+
+  @Test
+  void upstreamDemandShouldBeBoundedByBuffers() {
+    final FailureRouter<Integer, String> router = new FailureRouter<>(4);
+    final RecordingSubscription upstream = new RecordingSubscription();
+    final TestSubscriber<Integer> successes = new TestSubscriber<>();
+    final TestSubscriber<String> failures = new TestSubscriber<>();
+    router.subscribe(successes);
+    router.failures().subscribe(failures);
+    router.onSubscribe(upstream);
+    assertThat(upstream.requested.get(), is(4L));
+
+    for (int i = 0; i < 4; i++) {
+      router.onNext(Result.failure("E" + i));
+    }
+    assertThat(upstream.requested.get(), is(4L));
+
+    failures.request(2);
+    assertThat(failures.items, is(List.of("E0", "E1")));
+    assertThat(upstream.requested.get(), is(6L));
+
+    router.onNext(Result.success(1));
+    router.onNext(Result.success(2));
+    assertThat(successes.items.isEmpty(), is(true));
+    successes.request(10);
+    assertThat(successes.items, is(List.of(1, 2)));
+    assertThat(upstream.requested.get(), is(8L));
+    failures.request(2);
+    assertThat(upstream.requested.get(), is(10L));
+  }
+
+  @Test
+  void shouldNotStallWithoutFailureSubscriber() {
+    final FailureRouter<Integer, String> router = new FailureRouter<>(2);
+    final RecordingSubscription upstream = new RecordingSubscription();
+    final TestSubscriber<Integer> successes = new TestSubscriber<>();
+    router.subscribe(successes);
+    successes.request(Long.MAX_VALUE);
+    router.onSubscribe(upstream);
+    assertThat(upstream.requested.get(), is(2L));
+
+    for (int i = 0; i < 5; i++) {
+      router.onNext(Result.failure("E" + i));
+    }
+    router.onNext(Result.success(1));
+    assertThat(upstream.requested.get(), is(8L));
+    assertThat(successes.items, is(List.of(1)));
+    assertThat(router.droppedFailures(), is(3L));
+
+    final TestSubscriber<String> failures = new TestSubscriber<>();
+    router.failures().subscribe(failures);
+    failures.request(Long.MAX_VALUE);
+    assertThat(failures.items, is(List.of("E0", "E1")));
+  }
+
+  @Test
+  void cancellingSuccessesShouldCancelUpstream() {
+    final FailureRouter<Integer, String> router = new FailureRouter<>(4);
+    final RecordingSubscription upstream = new RecordingSubscription();
+    final TestSubscriber<Integer> successes = new TestSubscriber<>();
+    router.subscribe(successes);
+    router.onSubscribe(upstream);
+    successes.subscription.cancel();
+    assertThat(upstream.cancelled.get(), is(true));
+  }
+
+  @Test
+  void cancellingFailuresShouldDiscardErrors() {
+    final FailureRouter<Integer, String> router = new FailureRouter<>(2);
+    final RecordingSubscription upstream = new RecordingSubscription();
+    final TestSubscriber<Integer> successes = new TestSubscriber<>();
+    final TestSubscriber<String> failures = new TestSubscriber<>();
+    router.subscribe(successes);
+    router.failures().subscribe(failures);
+    router.onSubscribe(upstream);
+    failures.subscription.cancel();
+    router.onNext(Result.failure("E1"));
+    router.onNext(Result.failure("E2"));
+    assertThat(upstream.requested.get(), is(4L));
+    assertThat(upstream.cancelled.get(), is(false));
+    assertThat(failures.items.isEmpty(), is(true));
+  }
+
+  @Test
+  void errorShouldReachBothOutputsAfterBufferedItems() {
+    final FailureRouter<Integer, String> router = new FailureRouter<>(4);
+    final TestSubscriber<Integer> successes = new TestSubscriber<>();
+    final TestSubscriber<String> failures = new TestSubscriber<>();
+    router.subscribe(successes);
+    router.onSubscribe(new RecordingSubscription());
+    router.onNext(Result.success(1));
+    router.onError(new IllegalStateException());
+    assertThat(successes.error == null, is(true));
+    successes.request(1);
+    assertThat(successes.items, is(List.of(1)));
+    assertThat(successes.error, instanceOf(IllegalStateException.class));
+    router.failures().subscribe(failures);
+    assertThat(failures.error, instanceOf(IllegalStateException.class));
+  }
+
+  @Test
+  void invalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new FailureRouter<>(0));
+    final FailureRouter<Integer, String> router = new FailureRouter<>(1);
+    final TestSubscriber<Integer> successes = new TestSubscriber<>();
+    router.subscribe(successes);
+    successes.request(-1);
+    assertThat(successes.error, instanceOf(IllegalArgumentException.class));
+    final TestSubscriber<Integer> second = new TestSubscriber<>();
+    router.subscribe(second);
+    assertThat(second.error, instanceOf(IllegalStateException.class));
+  }
+}
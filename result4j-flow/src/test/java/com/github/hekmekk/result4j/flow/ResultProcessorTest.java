@@ -0,0 +1,150 @@
+package com.github.hekmekk.result4j.flow;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.hekmekk.result4j.Result;
+import com.github.hekmekk.result4j.ResultPipeline;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ResultProcessorTest {
+
+  @Test
+  void mapShouldTransformEveryItem() throws Exception {
+    final ResultProcessor<Integer, String, String> processor = ResultProcessor.map(n -> "#" + n);
+    final TestSubscriber<Result<String, String>> subscriber = new TestSubscriber<>();
+    try (SubmissionPublisher<Result<Integer, String>> publisher = new SubmissionPublisher<>()) {
+      publisher.subscribe(processor);
+      processor.subscribe(subscriber);
+      subscriber.request(Long.MAX_VALUE);
+      publisher.submit(Result.success(1));
+      publisher.submit(Result.failure("E"));
+      publisher.submit(Result.success(2));
+    }
+    assertThat(subscriber.awaitTermination(), is(true));
+    assertThat(
+        subscriber.items,
+        is(List.of(Result.success("#1"), Result.failure("E"), Result.success("#2"))));
+    assertThat(subscriber.completed, is(true));
+  }
+
+  @Test
+  void shouldForwardDemandUnchanged() {
+    final AtomicLong requested = new AtomicLong();
+    final ResultProcessor<Integer, Integer, String> processor =
+        ResultProcessor.flatMap(n -> Result.success(n + 1));
+    final TestSubscriber<Result<Integer, String>> subscriber = new TestSubscriber<>();
+    processor.subscribe(subscriber);
+    subscriber.request(3);
+    processor.onSubscribe(
+        new Flow.Subscription() {
+          @Override
+          public void request(final long n) {
+            requested.addAndGet(n);
+          }
+
+          @Override
+          public void cancel() {}
+        });
+    assertThat(requested.get(), is(3L));
+    subscriber.request(2);
+    assertThat(requested.get(), is(5L));
+    processor.onNext(Result.success(1));
+    assertThat(subscriber.items, is(List.of(Result.success(2))));
+  }
+
+  @Test
+  void recoverWithAndPipeline() {
+    final ResultProcessor<Integer, Integer, Throwable> recovering =
+        ResultProcessor.recoverWith(IOException.class, e -> Result.success(0));
+    final TestSubscriber<Result<Integer, Throwable>> subscriber = new TestSubscriber<>();
+    recovering.subscribe(subscriber);
+    recovering.onNext(Result.failure(new IOException()));
+    assertThat(subscriber.items, is(List.of(Result.success(0))));
+
+    final ResultProcessor<Integer, Integer, String> pipeline =
+        ResultProcessor.of(ResultPipeline.<Integer, String>start().map(n -> n * 2).recover(e -> 1));
+    final TestSubscriber<Result<Integer, String>> other = new TestSubscriber<>();
+    pipeline.subscribe(other);
+    pipeline.onNext(Result.success(21));
+    pipeline.onNext(Result.failure("E"));
+    assertThat(other.items, is(List.of(Result.success(42), Result.success(1))));
+  }
+
+  @Test
+  void throwingTransformationShouldCancelUpstream() throws Exception {
+    final ResultProcessor<Integer, Integer, String> processor =
+        ResultProcessor.map(
+            n -> {
+              throw new IllegalStateException();
+            });
+    final TestSubscriber<Result<Integer, String>> subscriber = new TestSubscriber<>();
+    final SubmissionPublisher<Result<Integer, String>> publisher = new SubmissionPublisher<>();
+    publisher.subscribe(processor);
+    processor.subscribe(subscriber);
+    subscriber.request(1);
+    publisher.submit(Result.success(1));
+    assertThat(subscriber.awaitTermination(), is(true));
+    assertThat(subscriber.error, instanceOf(IllegalStateException.class));
+    publisher.close();
+  }
+
+  @Test
+  void shouldAcceptOnlyOneSubscriber() {
+    final ResultProcessor<Integer, Integer, String> processor = ResultProcessor.of(r -> r);
+    processor.subscribe(new TestSubscriber<>());
+    final TestSubscriber<Result<Integer, String>> second = new TestSubscriber<>();
+    processor.subscribe(second);
+    assertThat(second.error, instanceOf(IllegalStateException.class));
+  }
+
+  @Test
+  void nonPositiveRequestShouldSignalError() {
+    final ResultProcessor<Integer, Integer, String> processor = ResultProcessor.of(r -> r);
+    final TestSubscriber<Result<Integer, String>> subscriber = new TestSubscriber<>();
+    processor.subscribe(subscriber);
+    subscriber.request(0);
+    assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+  }
+
+  @Test
+  void completionBeforeSubscriptionShouldBeDelivered() {
+    final ResultProcessor<Integer, Integer, String> processor = ResultProcessor.of(r -> r);
+    processor.onComplete();
+    final TestSubscriber<Result<Integer, String>> subscriber = new TestSubscriber<>();
+    processor.subscribe(subscriber);
+    assertThat(subscriber.completed, is(true));
+  }
+
+  @Test
+  void shouldNotSignalTerminationAfterCancel() {
+    final ResultProcessor<Integer, Integer, String> processor = ResultProcessor.of(r -> r);
+    final TestSubscriber<Result<Integer, String>> subscriber = new TestSubscriber<>();
+    processor.subscribe(subscriber);
+    subscriber.subscription.cancel();
+
+    processor.onNext(Result.success(1));
+    processor.onComplete();
+    processor.onError(new IllegalStateException());
+
+    assertThat(subscriber.items, is(List.of()));
+    assertThat(subscriber.completed, is(false));
+    assertThat(subscriber.error, is((Throwable) null));
+  }
+
+  @Test
+  void nullArgumentsShouldThrow() {
+    assertThrows(NullPointerException.class, () -> ResultProcessor.map(null));
+    assertThrows(NullPointerException.class, () -> ResultProcessor.flatMap(null));
+    assertThrows(
+        NullPointerException.class, () -> ResultProcessor.recoverWith(IOException.class, null));
+    assertThrows(NullPointerException.class, () -> ResultProcessor.recover(null, e -> 1));
+  }
+}
@@ -0,0 +1,58 @@
+package com.github.hekmekk.result4j.flow;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/** Records all signals and requests items only when told to. */
+final class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+  final List<T> items = new CopyOnWriteArrayList<>();
+
+  final CountDownLatch terminated = new CountDownLatch(1);
+
+  volatile Flow.Subscription subscription;
+
+  volatile Throwable error;
+
+  volatile boolean completed;
+
+  @Override
+  public void onSubscribe(final Flow.Subscription subscription) {
+    this.subscription = subscription;
+  }
+
+  @Override
+  public void onNext(final T item) {
+    items.add(item);
+  }
+
+  @Override
+  public void onError(final Throwable throwable) {
+    error = throwable;
+    terminated.countDown();
+  }
+
+  @Override
+  public void onComplete() {
+    completed = true;
+    terminated.countDown();
+  }
+
+  void request(final long n) {
+    subscription.request(n);
+  }
+
+  boolean awaitTermination() throws InterruptedException {
+    return terminated.await(5, TimeUnit.SECONDS);
+  }
+
+  void awaitItems(final int n) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (items.size() < n && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.github.hekmekk.result4j;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Completable} which becomes available at some point in the future. It wraps a {@link
+ * CompletionStage} of a {@link Completable} and provides the same combinators, without ever
+ * blocking a thread.
+ *
+ * @param <E> the type of the failure error
+ * @see AsyncResult
+ */
+public final class AsyncCompletable<E> {
+
+  private final CompletionStage<Completable<E>> stage;
+
+  private AsyncCompletable(final CompletionStage<Completable<E>> stage) {
+    this.stage = stage;
+  }
+
+  public static AsyncCompletable<Throwable> of(final CheckedRunnable r, final Executor executor) {
+    Objects.requireNonNull(r, "r must not be null");
+    Objects.requireNonNull(executor, "executor must not be null");
+    return new AsyncCompletable<>(CompletableFuture.supplyAsync(() -> Completable.of(r), executor));
+  }
+
+  public static <E> AsyncCompletable<E> from(final CompletionStage<Completable<E>> stage) {
+    Objects.requireNonNull(stage, "stage must not be null");
+    return new AsyncCompletable<>(stage);
+  }
+
+  public static <E> AsyncCompletable<E> from(final Completable<E> completable) {
+    Objects.requireNonNull(completable, "completable must not be null");
+    return new AsyncCompletable<>(CompletableFuture.completedFuture(completable));
+  }
+
+  public static <E> AsyncCompletable<E> success() {
+    return from(Completable.success());
+  }
+
+  public static <E> AsyncCompletable<E> failure(final E error) {
+    return from(Completable.failure(error));
+  }
+
+  public <U> CompletionStage<U> fold(
+      final Supplier<? extends U> f, final Function<? super E, ? extends U> g) {
+    Objects.requireNonNull(f, "f must not be null");
+    Objects.requireNonNull(g, "g must not be null");
+    return stage.thenApply(c -> c.fold(f, g));
+  }
+
+  @SuppressWarnings("unchecked")
+  public <F extends E> AsyncCompletable<E> recoverWith(
+      final Function<F, ? extends AsyncCompletable<E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return new AsyncCompletable<>(
+        stage.thenCompose(
+            c ->
+                c.fold(
+                    () -> CompletableFuture.completedFuture(c),
+                    e -> f.apply((F) e).toCompletionStage())));
+  }
+
+  @SuppressWarnings("unchecked")
+  public <F extends E> AsyncCompletable<E> recoverWith(
+      final Class<F> errorType, final Function<F, ? extends AsyncCompletable<E>> f) {
+    Objects.requireNonNull(errorType, "errorType must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    return new AsyncCompletable<>(
+        stage.thenCompose(
+            c ->
+                c.fold(
+                    () -> CompletableFuture.completedFuture(c),
+                    e ->
+                        errorType.isAssignableFrom(e.getClass())
+                            ? f.apply((F) e).toCompletionStage()
+                            : CompletableFuture.completedFuture(c))));
+  }
+
+  public AsyncCompletable<E> onSuccess(final Runnable r) {
+    Objects.requireNonNull(r, "r must not be null");
+    return new AsyncCompletable<>(stage.thenApply(c -> c.onSuccess(r)));
+  }
+
+  public AsyncCompletable<E> onFailure(final Consumer<E> c) {
+    Objects.requireNonNull(c, "c must not be null");
+    return new AsyncCompletable<>(stage.thenApply(completable -> completable.onFailure(c)));
+  }
+
+  public CompletionStage<Completable<E>> toCompletionStage() {
+    return stage;
+  }
+
+  @Override
+  public String toString() {
+    return "AsyncCompletable[stage=" + stage + "]";
+  }
+}
@@ -0,0 +1,152 @@
+package com.github.hekmekk.result4j;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A {@link Result} which becomes available at some point in the future. It wraps a {@link
+ * CompletionStage} of a {@link Result} and provides the same combinators, without ever blocking a
+ * thread.
+ *
+ * <p>Functions passed to the combinators are executed by whichever thread completes the underlying
+ * stage. If one of them throws, the exception completes the underlying stage exceptionally, just
+ * like it would be thrown from the corresponding method of {@link Result}.
+ *
+ * @param <V> the type of success value
+ * @param <E> the type of the failure error
+ */
+public final class AsyncResult<V, E> {
+
+  private final CompletionStage<Result<V, E>> stage;
+
+  private AsyncResult(final CompletionStage<Result<V, E>> stage) {
+    this.stage = stage;
+  }
+
+  public static <V> AsyncResult<V, Throwable> of(
+      final CheckedSupplier<V> s, final Executor executor) {
+    Objects.requireNonNull(s, "s must not be null");
+    Objects.requireNonNull(executor, "executor must not be null");
+    return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Result.of(s), executor));
+  }
+
+  /**
+   * Like {@link #of(CheckedSupplier, Executor)}, but completes with a {@link
+   * java.util.concurrent.TimeoutException} once {@code timeout} has passed. The thread running
+   * {@code s} is then interrupted; if {@code s} has not started yet, it never runs. See {@link
+   * Result#of(CheckedSupplier, Duration)}.
+   */
+  public static <V> AsyncResult<V, Throwable> of(
+      final CheckedSupplier<V> s, final Executor executor, final Duration timeout) {
+    return Deadlines.callAsync(s, executor, timeout, WheelTimer.shared());
+  }
+
+  public static <V, E> AsyncResult<V, E> from(final CompletionStage<Result<V, E>> stage) {
+    Objects.requireNonNull(stage, "stage must not be null");
+    return new AsyncResult<>(stage);
+  }
+
+  public static <V, E> AsyncResult<V, E> from(final Result<V, E> result) {
+    Objects.requireNonNull(result, "result must not be null");
+    return new AsyncResult<>(CompletableFuture.completedFuture(result));
+  }
+
+  public static <V, E> AsyncResult<V, E> success(final V value) {
+    return from(Result.success(value));
+  }
+
+  public static <V, E> AsyncResult<V, E> failure(final E error) {
+    return from(Result.failure(error));
+  }
+
+  @SuppressWarnings("unchecked")
+  public <U> AsyncResult<U, E> flatMap(
+      final Function<? super V, ? extends AsyncResult<? extends U, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return new AsyncResult<>(
+        stage.thenCompose(
+            r ->
+                r.fold(
+                    v -> (CompletionStage<Result<U, E>>) (Object) f.apply(v).toCompletionStage(),
+                    e -> CompletableFuture.completedFuture(Result.failure(e)))));
+  }
+
+  public <U> AsyncResult<U, E> map(final Function<? super V, ? extends U> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return new AsyncResult<>(stage.thenApply(r -> r.map(f)));
+  }
+
+  @SuppressWarnings("unchecked")
+  public <F extends E> AsyncResult<V, E> recoverWith(
+      final Function<F, ? extends AsyncResult<? extends V, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return new AsyncResult<>(
+        stage.thenCompose(
+            r ->
+                r.fold(
+                    v -> CompletableFuture.completedFuture(r),
+                    e ->
+                        (CompletionStage<Result<V, E>>)
+                            (Object) f.apply((F) e).toCompletionStage())));
+  }
+
+  @SuppressWarnings("unchecked")
+  public <F extends E> AsyncResult<V, E> recoverWith(
+      final Class<F> errorType, final Function<F, ? extends AsyncResult<? extends V, E>> f) {
+    Objects.requireNonNull(errorType, "errorType must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    return new AsyncResult<>(
+        stage.thenCompose(
+            r ->
+                r.fold(
+                    v -> CompletableFuture.completedFuture(r),
+                    e ->
+                        errorType.isAssignableFrom(e.getClass())
+                            ? (CompletionStage<Result<V, E>>)
+                                (Object) f.apply((F) e).toCompletionStage()
+                            : CompletableFuture.completedFuture(r))));
+  }
+
+  public <F extends E> AsyncResult<V, E> recover(final Function<F, ? extends V> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return new AsyncResult<>(stage.thenApply(r -> r.recover(f)));
+  }
+
+  public <F extends E> AsyncResult<V, E> recover(
+      final Class<F> errorType, final Function<F, ? extends V> f) {
+    Objects.requireNonNull(errorType, "errorType must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    return new AsyncResult<>(stage.thenApply(r -> r.recover(errorType, f)));
+  }
+
+  public <U> CompletionStage<U> fold(
+      final Function<? super V, ? extends U> f, final Function<? super E, ? extends U> g) {
+    Objects.requireNonNull(f, "f must not be null");
+    Objects.requireNonNull(g, "g must not be null");
+    return stage.thenApply(r -> r.fold(f, g));
+  }
+
+  public AsyncResult<V, E> onSuccess(final Consumer<V> c) {
+    Objects.requireNonNull(c, "c must not be null");
+    return new AsyncResult<>(stage.thenApply(r -> r.onSuccess(c)));
+  }
+
+  public AsyncResult<V, E> onFailure(final Consumer<E> c) {
+    Objects.requireNonNull(c, "c must not be null");
+    return new AsyncResult<>(stage.thenApply(r -> r.onFailure(c)));
+  }
+
+  public CompletionStage<Result<V, E>> toCompletionStage() {
+    return stage;
+  }
+
+  @Override
+  public String toString() {
+    return "AsyncResult[stage=" + stage + "]";
+  }
+}
@@ -0,0 +1,267 @@
+package com.github.hekmekk.result4j;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Limits the number of concurrent calls to a resource, returning a {@link Result.Failure} of {@link
+ * RejectedException} for calls beyond the limit instead of queuing them.
+ *
+ * <p>The limit is either fixed, or adapted to the observed latency (additive increase,
+ * multiplicative decrease): each call which finishes within {@code latencyThreshold} while the
+ * bulkhead is at least half full raises the limit by one, and each call which takes longer or fails
+ * lowers it to {@code backoffRatio} of its value, within {@code [minLimit, maxLimit]}. A slow
+ * dependency thereby quickly gets fewer concurrent calls, and the excess is shed.
+ *
+ * <p>Permits are counted in an atomic integer, so callers never block each other, and rejections
+ * return a failure which is preallocated per bulkhead.
+ */
+public final class Bulkhead {
+
+  private final String name;
+
+  private final boolean adaptive;
+
+  private final int minLimit;
+
+  private final int maxLimit;
+
+  private final long latencyThresholdNanos;
+
+  private final double backoffRatio;
+
+  private final Predicate<? super Throwable> recordOn;
+
+  private final LongSupplier ticker;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private final AtomicInteger limit;
+
+  private final Result<Object, Throwable> rejected;
+
+  private final Completable<Throwable> rejectedCompletable;
+
+  private Bulkhead(final Builder builder) {
+    this.name = builder.name;
+    this.adaptive = builder.latencyThreshold != null;
+    this.minLimit = builder.minLimit;
+    this.maxLimit = builder.maxLimit;
+    this.latencyThresholdNanos = adaptive ? builder.latencyThreshold.toNanos() : 0;
+    this.backoffRatio = builder.backoffRatio;
+    this.recordOn = builder.recordOn == null ? t -> true : builder.recordOn;
+    this.ticker = builder.ticker;
+    this.limit = new AtomicInteger(builder.initialLimit);
+    final RejectedException e = new RejectedException(name);
+    this.rejected = Result.failure(e);
+    this.rejectedCompletable = Completable.failure(e);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Calls {@code s}, unless the bulkhead is full. */
+  @SuppressWarnings("unchecked")
+  public <V> Result<V, Throwable> of(final CheckedSupplier<V> s) {
+    Objects.requireNonNull(s, "s must not be null");
+    final int permit = acquire();
+    if (permit < 0) {
+      return (Result<V, Throwable>) (Object) rejected;
+    }
+
+    final long start = adaptive ? ticker.getAsLong() : 0;
+    final Result<V, Throwable> result = Result.of(s);
+    release(permit, start, result instanceof Result.Success ? null : result.unsafeGetError());
+    return result;
+  }
+
+  /** Runs {@code r}, unless the bulkhead is full. */
+  public Completable<Throwable> of(final CheckedRunnable r) {
+    Objects.requireNonNull(r, "r must not be null");
+    final int permit = acquire();
+    if (permit < 0) {
+      return rejectedCompletable;
+    }
+
+    final long start = adaptive ? ticker.getAsLong() : 0;
+    final Completable<Throwable> completable = Completable.of(r);
+    release(
+        permit,
+        start,
+        completable instanceof Completable.Success ? null : completable.unsafeGetError());
+    return completable;
+  }
+
+  public String name() {
+    return name;
+  }
+
+  /** The current limit of concurrent calls. */
+  public int limit() {
+    return limit.get();
+  }
+
+  /** The number of calls running right now. */
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Takes a permit and returns the number of calls in flight before, or {@code -1} if the bulkhead
+   * is full.
+   */
+  private int acquire() {
+    for (; ; ) {
+      final int current = inFlight.get();
+      if (current >= limit.get()) {
+        return -1;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return current;
+      }
+    }
+  }
+
+  /** {@code error} is {@code null} if the call succeeded. */
+  private void release(final int permit, final long start, final Throwable error) {
+    inFlight.decrementAndGet();
+    if (!adaptive) {
+      return;
+    }
+
+    final boolean failed = error != null && recordOn.test(error);
+    final boolean slow = ticker.getAsLong() - start > latencyThresholdNanos;
+    int current;
+    int next;
+    do {
+      current = limit.get();
+      if (failed || slow) {
+        next = Math.max(minLimit, (int) (current * backoffRatio));
+      } else if ((permit + 1) * 2 >= current) {
+        next = Math.min(maxLimit, current + 1);
+      } else {
+        return;
+      }
+    } while (next != current && !limit.compareAndSet(current, next));
+  }
+
+  @Override
+  public String toString() {
+    return "Bulkhead[" + name + ", inFlight=" + inFlight.get() + ", limit=" + limit.get() + "]";
+  }
+
+  /** The error of calls rejected by a full {@link Bulkhead}. */
+  public static final class RejectedException extends StacklessException {
+
+    private static final long serialVersionUID = 1L;
+
+    private RejectedException(final String name) {
+      super("bulkhead " + name + " is full");
+    }
+  }
+
+  public static final class Builder {
+
+    private String name = "bulkhead";
+
+    private int initialLimit = 25;
+
+    private int minLimit = 1;
+
+    private int maxLimit = 25;
+
+    private Duration latencyThreshold;
+
+    private double backoffRatio = 0.9;
+
+    private Predicate<? super Throwable> recordOn;
+
+    private LongSupplier ticker = System::nanoTime;
+
+    private Builder() {}
+
+    /** The name of the guarded resource, which appears in the message of rejections. */
+    public Builder name(final String name) {
+      Objects.requireNonNull(name, "name must not be null");
+      this.name = name;
+      return this;
+    }
+
+    /** Fixes the limit of concurrent calls at {@code maxConcurrentCalls}. */
+    public Builder maxConcurrentCalls(final int maxConcurrentCalls) {
+      if (maxConcurrentCalls < 1) {
+        throw new IllegalArgumentException("maxConcurrentCalls must be positive");
+      }
+      this.initialLimit = maxConcurrentCalls;
+      this.minLimit = maxConcurrentCalls;
+      this.maxLimit = maxConcurrentCalls;
+      this.latencyThreshold = null;
+      return this;
+    }
+
+    /**
+     * Adapts the limit between {@code minLimit} and {@code maxLimit}, starting at {@code minLimit}.
+     * Calls which take longer than {@code latencyThreshold} count as failures.
+     */
+    public Builder adaptive(
+        final int minLimit, final int maxLimit, final Duration latencyThreshold) {
+      if (minLimit < 1) {
+        throw new IllegalArgumentException("minLimit must be positive");
+      }
+      if (maxLimit < minLimit) {
+        throw new IllegalArgumentException("maxLimit must not be less than minLimit");
+      }
+      Objects.requireNonNull(latencyThreshold, "latencyThreshold must not be null");
+      if (latencyThreshold.isNegative() || latencyThreshold.isZero()) {
+        throw new IllegalArgumentException("latencyThreshold must be positive");
+      }
+      this.initialLimit = minLimit;
+      this.minLimit = minLimit;
+      this.maxLimit = maxLimit;
+      this.latencyThreshold = latencyThreshold;
+      return this;
+    }
+
+    /** The factor, between 0 and 1, by which an adaptive limit shrinks on a failure. */
+    public Builder backoffRatio(final double backoffRatio) {
+      if (!(backoffRatio > 0 && backoffRatio < 1)) {
+        throw new IllegalArgumentException("backoffRatio must be in (0, 1)");
+      }
+      this.backoffRatio = backoffRatio;
+      return this;
+    }
+
+    /**
+     * Lowers an adaptive limit on errors of type {@code errorType} only. May be combined with
+     * further calls.
+     */
+    public Builder recordOn(final Class<? extends Throwable> errorType) {
+      Objects.requireNonNull(errorType, "errorType must not be null");
+      return recordIf(errorType::isInstance);
+    }
+
+    /**
+     * Lowers an adaptive limit on errors satisfying {@code p} only. May be combined with further
+     * calls.
+     */
+    public Builder recordIf(final Predicate<? super Throwable> p) {
+      Objects.requireNonNull(p, "p must not be null");
+      final Predicate<? super Throwable> previous = recordOn;
+      recordOn = previous == null ? p : t -> previous.test(t) || p.test(t);
+      return this;
+    }
+
+    Builder ticker(final LongSupplier ticker) {
+      this.ticker = ticker;
+      return this;
+    }
+
+    public Bulkhead build() {
+      return new Bulkhead(this);
+    }
+  }
+}
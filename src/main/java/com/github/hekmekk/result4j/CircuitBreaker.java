@@ -0,0 +1,352 @@
+package com.github.hekmekk.result4j;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Stops calling a failing dependency for a while, returning a {@link Result.Failure} of {@link
+ * OpenException} instead.
+ *
+ * <p>A breaker starts {@link State#CLOSED}, and counts calls and failures in a sliding window of
+ * time buckets. Once the window holds at least {@code minimumCalls} calls and the share of failures
+ * reaches {@code failureRateThreshold}, it becomes {@link State#OPEN}: calls are rejected without
+ * running them, with a preallocated failure. After {@code openDuration} it becomes {@link
+ * State#HALF_OPEN} and lets {@code halfOpenCalls} trial calls through. If all of them succeed, it
+ * closes again with an empty window; the first failing one opens it again.
+ *
+ * <p>All state is kept in atomic variables, so callers never block each other. Window buckets are
+ * only allocated when time moves on to the next bucket.
+ */
+public final class CircuitBreaker {
+
+  private static final Result<Object, Throwable> REJECTED = Result.failure(OpenException.INSTANCE);
+
+  private static final Completable<Throwable> REJECTED_COMPLETABLE =
+      Completable.failure(OpenException.INSTANCE);
+
+  private final double failureRateThreshold;
+
+  private final int minimumCalls;
+
+  private final long openNanos;
+
+  private final int halfOpenCalls;
+
+  private final Predicate<? super Throwable> recordOn;
+
+  private final LongSupplier ticker;
+
+  private final Window window;
+
+  private final Phase closed = new Phase(State.CLOSED, 0, 0);
+
+  private final AtomicReference<Phase> phase = new AtomicReference<>(closed);
+
+  private CircuitBreaker(final Builder builder) {
+    this.failureRateThreshold = builder.failureRateThreshold;
+    this.minimumCalls = builder.minimumCalls;
+    this.openNanos = builder.openDuration.toNanos();
+    this.halfOpenCalls = builder.halfOpenCalls;
+    this.recordOn = builder.recordOn == null ? t -> true : builder.recordOn;
+    this.ticker = builder.ticker;
+    this.window = new Window(builder.buckets, builder.window.toNanos() / builder.buckets);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Calls {@code s}, unless the breaker is open. */
+  @SuppressWarnings("unchecked")
+  public <V> Result<V, Throwable> of(final CheckedSupplier<V> s) {
+    Objects.requireNonNull(s, "s must not be null");
+    final Phase p = acquire();
+    if (p == null) {
+      return (Result<V, Throwable>) (Object) REJECTED;
+    }
+
+    final Result<V, Throwable> result = Result.of(s);
+    record(p, result instanceof Result.Success ? null : result.unsafeGetError());
+    return result;
+  }
+
+  /** Runs {@code r}, unless the breaker is open. */
+  public Completable<Throwable> of(final CheckedRunnable r) {
+    Objects.requireNonNull(r, "r must not be null");
+    final Phase p = acquire();
+    if (p == null) {
+      return REJECTED_COMPLETABLE;
+    }
+
+    final Completable<Throwable> completable = Completable.of(r);
+    record(p, completable instanceof Completable.Success ? null : completable.unsafeGetError());
+    return completable;
+  }
+
+  public State state() {
+    final Phase p = phase.get();
+    if (p.state == State.OPEN && ticker.getAsLong() - p.since >= openNanos) {
+      return State.HALF_OPEN;
+    }
+    return p.state;
+  }
+
+  /** The trial calls still permitted in the current phase; for tests. */
+  int permits() {
+    return phase.get().permits.get();
+  }
+
+  /** Returns the phase a call is permitted in, or {@code null} if it is rejected. */
+  private Phase acquire() {
+    for (; ; ) {
+      final Phase p = phase.get();
+      switch (p.state) {
+        case CLOSED:
+          return p;
+        case OPEN:
+          final long now = ticker.getAsLong();
+          if (now - p.since < openNanos) {
+            return null;
+          }
+          phase.compareAndSet(p, new Phase(State.HALF_OPEN, now, halfOpenCalls));
+          break;
+        default:
+          final int n = p.permits.get();
+          if (n <= 0) {
+            return null;
+          }
+          if (p.permits.compareAndSet(n, n - 1)) {
+            return p;
+          }
+      }
+    }
+  }
+
+  private void record(final Phase p, final Throwable error) {
+    final boolean failed = error != null && recordOn.test(error);
+    final long now = ticker.getAsLong();
+    if (p.state == State.CLOSED) {
+      window.record(now, failed);
+      if (failed && window.exceeds(now, minimumCalls, failureRateThreshold)) {
+        phase.compareAndSet(p, new Phase(State.OPEN, now, 0));
+      }
+    } else if (failed) {
+      phase.compareAndSet(p, new Phase(State.OPEN, now, 0));
+    } else if (p.successes.incrementAndGet() == halfOpenCalls) {
+      window.clear();
+      phase.compareAndSet(p, closed);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "CircuitBreaker[" + state() + "]";
+  }
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  /** The error of every call rejected by an open {@link CircuitBreaker}. */
+  public static final class OpenException extends StacklessException {
+
+    private static final long serialVersionUID = 1L;
+
+    static final OpenException INSTANCE = new OpenException();
+
+    private OpenException() {
+      super("circuit breaker is open");
+    }
+  }
+
+  private static final class Phase {
+
+    final State state;
+
+    final long since;
+
+    final AtomicInteger permits;
+
+    final AtomicInteger successes = new AtomicInteger();
+
+    Phase(final State state, final long since, final int permits) {
+      this.state = state;
+      this.since = since;
+      this.permits = new AtomicInteger(permits);
+    }
+  }
+
+  /** A ring of time buckets, each counting calls in its upper and failures in its lower half. */
+  private static final class Window {
+
+    private static final long CALL = 1L << 32;
+
+    private static final long FAILURE = 1L;
+
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    private final long bucketNanos;
+
+    Window(final int size, final long bucketNanos) {
+      this.buckets = new AtomicReferenceArray<>(size);
+      this.bucketNanos = bucketNanos;
+    }
+
+    void record(final long now, final boolean failed) {
+      final long epoch = Math.floorDiv(now, bucketNanos);
+      final int i = (int) Math.floorMod(epoch, (long) buckets.length());
+      Bucket b = buckets.get(i);
+      while (b == null || b.epoch < epoch) {
+        final Bucket fresh = new Bucket(epoch);
+        if (buckets.compareAndSet(i, b, fresh)) {
+          b = fresh;
+          break;
+        }
+        b = buckets.get(i);
+      }
+
+      if (b.epoch == epoch) {
+        b.counts.addAndGet(failed ? CALL | FAILURE : CALL);
+      }
+    }
+
+    boolean exceeds(final long now, final int minimumCalls, final double threshold) {
+      final long oldest = Math.floorDiv(now, bucketNanos) - buckets.length();
+      long calls = 0;
+      long failures = 0;
+      for (int i = 0; i < buckets.length(); i++) {
+        final Bucket b = buckets.get(i);
+        if (b != null && b.epoch > oldest) {
+          final long counts = b.counts.get();
+          calls += counts >>> 32;
+          failures += counts & 0xFFFFFFFFL;
+        }
+      }
+      return calls >= minimumCalls && failures >= threshold * calls;
+    }
+
+    void clear() {
+      for (int i = 0; i < buckets.length(); i++) {
+        buckets.set(i, null);
+      }
+    }
+  }
+
+  private static final class Bucket {
+
+    final long epoch;
+
+    final AtomicLong counts = new AtomicLong();
+
+    Bucket(final long epoch) {
+      this.epoch = epoch;
+    }
+  }
+
+  /**
+   * Builds a {@link CircuitBreaker}. By default it opens at a failure rate of 50% over at least 10
+   * calls within 10 seconds, in 10 buckets, stays open for 30 seconds, and then permits 1 trial
+   * call. Every error counts as a failure.
+   */
+  public static final class Builder {
+
+    private double failureRateThreshold = 0.5;
+
+    private int minimumCalls = 10;
+
+    private Duration window = Duration.ofSeconds(10);
+
+    private int buckets = 10;
+
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    private int halfOpenCalls = 1;
+
+    private Predicate<? super Throwable> recordOn;
+
+    private LongSupplier ticker = System::nanoTime;
+
+    private Builder() {}
+
+    /** The share of failed calls, between 0 and 1, at which the breaker opens. */
+    public Builder failureRateThreshold(final double failureRateThreshold) {
+      if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+        throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]");
+      }
+      this.failureRateThreshold = failureRateThreshold;
+      return this;
+    }
+
+    /** The number of calls in the window below which the breaker never opens. */
+    public Builder minimumCalls(final int minimumCalls) {
+      if (minimumCalls < 1) {
+        throw new IllegalArgumentException("minimumCalls must be positive");
+      }
+      this.minimumCalls = minimumCalls;
+      return this;
+    }
+
+    /** The time span of the sliding window, and the number of buckets it is divided into. */
+    public Builder window(final Duration window, final int buckets) {
+      Objects.requireNonNull(window, "window must not be null");
+      if (buckets < 1) {
+        throw new IllegalArgumentException("buckets must be positive");
+      }
+      if (window.toNanos() < buckets) {
+        throw new IllegalArgumentException("window must be at least one nanosecond per bucket");
+      }
+      this.window = window;
+      this.buckets = buckets;
+      return this;
+    }
+
+    public Builder openDuration(final Duration openDuration) {
+      Objects.requireNonNull(openDuration, "openDuration must not be null");
+      if (openDuration.isNegative()) {
+        throw new IllegalArgumentException("openDuration must not be negative");
+      }
+      this.openDuration = openDuration;
+      return this;
+    }
+
+    /** The number of trial calls which have to succeed to close the breaker again. */
+    public Builder halfOpenCalls(final int halfOpenCalls) {
+      if (halfOpenCalls < 1) {
+        throw new IllegalArgumentException("halfOpenCalls must be positive");
+      }
+      this.halfOpenCalls = halfOpenCalls;
+      return this;
+    }
+
+    /** Counts errors of type {@code errorType} as failures. May be combined with further calls. */
+    public Builder recordOn(final Class<? extends Throwable> errorType) {
+      Objects.requireNonNull(errorType, "errorType must not be null");
+      return recordIf(errorType::isInstance);
+    }
+
+    /** Counts errors satisfying {@code p} as failures. May be combined with further calls. */
+    public Builder recordIf(final Predicate<? super Throwable> p) {
+      Objects.requireNonNull(p, "p must not be null");
+      final Predicate<? super Throwable> previous = recordOn;
+      recordOn = previous == null ? p : t -> previous.test(t) || p.test(t);
+      return this;
+    }
+
+    Builder ticker(final LongSupplier ticker) {
+      this.ticker = Objects.requireNonNull(ticker, "ticker must not be null");
+      return this;
+    }
+
+    public CircuitBreaker build() {
+      return new CircuitBreaker(this);
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package com.github.hekmekk.result4j;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -16,22 +18,37 @@ import java.util.function.Supplier;
 public interface Completable<E> extends Serializable {
 
   static Completable<Throwable> of(CheckedRunnable r) {
-    try {
-      r.run();
-      return success();
-    } catch (Throwable t) {
-      return failure(t);
-    }
+    return ResultSupport.run(r, null);
+  }
+
+  /**
+   * Like {@link #of(CheckedRunnable)}, but trims the stack trace of a caught throwable according to
+   * {@code capture}.
+   */
+  static Completable<Throwable> of(CheckedRunnable r, StackCapture capture) {
+    Objects.requireNonNull(capture, "capture must not be null");
+    return ResultSupport.run(r, capture);
   }
 
+  /** Returns the shared {@link Success} instance. */
+  @SuppressWarnings("unchecked")
   static <E> Completable<E> success() {
-    return new Success<>();
+    return (Completable<E>) Success.INSTANCE;
   }
 
   static <E> Completable<E> failure(E error) {
     return new Failure<>(error);
   }
 
+  /**
+   * Converts a {@link Result} of {@link Done} into a {@link Completable}. A {@link Result.Success}
+   * maps to the shared {@link Success} instance without allocating.
+   */
+  static <E> Completable<E> from(Result<Done, E> result) {
+    Objects.requireNonNull(result, "result must not be null");
+    return result.fold(done -> success(), Completable::failure);
+  }
+
   <U> U fold(Supplier<? extends U> f, Function<? super E, ? extends U> g);
 
   default <U> U transform(Function<? super Completable<E>, ? extends U> f) {
@@ -50,12 +67,28 @@ public interface Completable<E> extends Serializable {
 
   Completable<E> onFailure(final Consumer<E> c);
 
+  /**
+   * Converts this into a {@link Result} of {@link Done}. A {@link Success} maps to a shared {@link
+   * Result.Success} instance without allocating.
+   */
+  Result<Done, E> toResult();
+
   final class Success<E> implements Completable<E> {
 
     private static final long serialVersionUID = 1L;
 
+    private static final Success<?> INSTANCE = new Success<>();
+
     private Success() {}
 
+    private Object writeReplace() {
+      return new SerializedResult(SerializedResult.COMPLETABLE_SUCCESS, null);
+    }
+
+    private Object readResolve() {
+      return INSTANCE;
+    }
+
     @Override
     public int hashCode() {
       return Objects.hashCode("Success[]");
@@ -104,6 +137,11 @@ public interface Completable<E> extends Serializable {
     public Completable<E> onFailure(final Consumer<E> c) {
       return this;
     }
+
+    @Override
+    public Result<Done, E> toResult() {
+      return Result.success(Done.DONE);
+    }
   }
 
   final class Failure<E> implements Completable<E> {
@@ -117,6 +155,19 @@ public interface Completable<E> extends Serializable {
       this.error = error;
     }
 
+    /** Returns the error, like the accessor of the Java 17 record. */
+    public E error() {
+      return error;
+    }
+
+    private Object writeReplace() {
+      return new SerializedResult(SerializedResult.COMPLETABLE_FAILURE, error);
+    }
+
+    private void readObject(final ObjectInputStream in) throws InvalidObjectException {
+      throw SerializedResult.proxyRequired();
+    }
+
     @Override
     public int hashCode() {
       return Objects.hashCode(error);
@@ -141,16 +192,9 @@ public interface Completable<E> extends Serializable {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <F extends E> Completable<E> recoverWith(
         final Class<F> errorType, final Function<F, ? extends Completable<E>> f) {
-      Objects.requireNonNull(errorType, "errorClazz must not be null");
-      Objects.requireNonNull(f, "f must not be null");
-      if (errorType.isAssignableFrom(error.getClass())) {
-        return f.apply((F) error);
-      }
-
-      return this;
+      return ResultSupport.recoverWith(this, errorType, f);
     }
 
     @Override
@@ -175,5 +219,10 @@ public interface Completable<E> extends Serializable {
       c.accept(error);
       return this;
     }
+
+    @Override
+    public Result<Done, E> toResult() {
+      return Result.failure(error);
+    }
   }
 }
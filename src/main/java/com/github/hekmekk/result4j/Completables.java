@@ -0,0 +1,190 @@
+package com.github.hekmekk.result4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/** Runs many {@link CheckedRunnable}s at once and combines their outcomes. */
+public final class Completables {
+
+  private Completables() {}
+
+  /**
+   * Runs all {@code tasks} on {@code executor} and waits for them. The outcome is a {@link
+   * Completable.Failure} with the errors of all failed tasks, in the order of {@code tasks}, if any
+   * task failed. See {@link #runAllAsync} for how tasks are run.
+   */
+  public static Completable<List<Throwable>> runAll(
+      final Collection<? extends CheckedRunnable> tasks,
+      final Executor executor,
+      final RunPolicy policy) {
+    return runAllAsync(tasks, executor, policy).toCompletionStage().toCompletableFuture().join();
+  }
+
+  /**
+   * Runs all {@code tasks} on {@code executor} without blocking the calling thread.
+   *
+   * <p>At most {@link RunPolicy#maxConcurrency()} tasks run at the same time: that many workers are
+   * submitted to the executor, each of which runs one task after the other until none is left. With
+   * {@link RunPolicy#failFast()}, tasks which have not started yet are skipped once a task fails;
+   * tasks which are already running complete normally. If the executor rejects a worker, the
+   * rejection is reported among the errors, and the remaining workers run its share of tasks, also
+   * with {@link RunPolicy#failFast()}. If it rejects all workers, every task is reported as failed
+   * with a {@link NotStartedException}.
+   */
+  public static AsyncCompletable<List<Throwable>> runAllAsync(
+      final Collection<? extends CheckedRunnable> tasks,
+      final Executor executor,
+      final RunPolicy policy) {
+    Objects.requireNonNull(tasks, "tasks must not be null");
+    Objects.requireNonNull(executor, "executor must not be null");
+    Objects.requireNonNull(policy, "policy must not be null");
+    final CheckedRunnable[] runnables = tasks.toArray(new CheckedRunnable[0]);
+    for (CheckedRunnable r : runnables) {
+      Objects.requireNonNull(r, "tasks must not contain null");
+    }
+
+    if (runnables.length == 0) {
+      return AsyncCompletable.success();
+    }
+
+    final Run run = new Run(runnables, policy.failFast);
+    final int workers = Math.min(policy.maxConcurrency, runnables.length);
+    run.active.set(workers);
+    for (int i = 0; i < workers; i++) {
+      try {
+        executor.execute(run::work);
+      } catch (Throwable t) {
+        run.reject(t);
+      }
+    }
+    return AsyncCompletable.from(run.future);
+  }
+
+  private static final class Run {
+
+    private final CheckedRunnable[] tasks;
+
+    private final boolean failFast;
+
+    private final AtomicReferenceArray<Throwable> errors;
+
+    private final List<Throwable> rejections = Collections.synchronizedList(new ArrayList<>());
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final CompletableFuture<Completable<List<Throwable>>> future =
+        new CompletableFuture<>();
+
+    private volatile boolean failed;
+
+    Run(final CheckedRunnable[] tasks, final boolean failFast) {
+      this.tasks = tasks;
+      this.failFast = failFast;
+      this.errors = new AtomicReferenceArray<>(tasks.length);
+    }
+
+    void work() {
+      int i;
+      while (!(failFast && failed) && (i = next.getAndIncrement()) < tasks.length) {
+        final Completable<Throwable> outcome = Completable.of(tasks[i]);
+        if (outcome instanceof Completable.Failure) {
+          errors.set(i, outcome.unsafeGetError());
+          failed = true;
+        }
+      }
+      exit();
+    }
+
+    void reject(final Throwable t) {
+      rejections.add(t);
+      exit();
+    }
+
+    private void exit() {
+      if (active.decrementAndGet() != 0) {
+        return;
+      }
+
+      final List<Throwable> all = new ArrayList<>(rejections);
+      final int started = Math.min(next.get(), tasks.length);
+      for (int i = 0; i < tasks.length; i++) {
+        final Throwable error = errors.get(i);
+        if (error != null) {
+          all.add(error);
+        } else if (i >= started && !(failFast && failed)) {
+          all.add(new NotStartedException(i, rejections.isEmpty() ? null : rejections.get(0)));
+        }
+      }
+      future.complete(
+          all.isEmpty()
+              ? Completable.success()
+              : Completable.failure(Collections.unmodifiableList(all)));
+    }
+  }
+
+  /** The error of a task which was not run, because the executor rejected all workers. */
+  public static final class NotStartedException extends StacklessException {
+
+    private static final long serialVersionUID = 1L;
+
+    private NotStartedException(final int task, final Throwable rejection) {
+      super("task " + task + " was not started", rejection);
+    }
+  }
+
+  /** Decides how many tasks {@link Completables} runs at once, and whether it stops early. */
+  public static final class RunPolicy {
+
+    private final boolean failFast;
+
+    private final int maxConcurrency;
+
+    private RunPolicy(final boolean failFast, final int maxConcurrency) {
+      this.failFast = failFast;
+      this.maxConcurrency = maxConcurrency;
+    }
+
+    /** Runs all tasks, whether others fail or not. */
+    public static RunPolicy collectAll() {
+      return new RunPolicy(false, Integer.MAX_VALUE);
+    }
+
+    /** Skips the tasks which have not started yet once a task fails. */
+    public static RunPolicy failFast() {
+      return new RunPolicy(true, Integer.MAX_VALUE);
+    }
+
+    /** Runs at most {@code maxConcurrency} tasks at the same time. */
+    public RunPolicy maxConcurrency(final int maxConcurrency) {
+      if (maxConcurrency < 1) {
+        throw new IllegalArgumentException("maxConcurrency must be positive");
+      }
+      return new RunPolicy(failFast, maxConcurrency);
+    }
+
+    public boolean isFailFast() {
+      return failFast;
+    }
+
+    public int maxConcurrency() {
+      return maxConcurrency;
+    }
+
+    @Override
+    public String toString() {
+      return "RunPolicy["
+          + (failFast ? "failFast" : "collectAll")
+          + (maxConcurrency == Integer.MAX_VALUE ? "" : ", maxConcurrency=" + maxConcurrency)
+          + "]";
+    }
+  }
+}
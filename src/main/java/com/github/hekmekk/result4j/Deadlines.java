@@ -0,0 +1,181 @@
+package com.github.hekmekk.result4j;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/** Implements {@link Result#of(CheckedSupplier, Duration)} and its asynchronous counterpart. */
+final class Deadlines {
+
+  private Deadlines() {}
+
+  static long toNanos(final Duration timeout) {
+    Objects.requireNonNull(timeout, "timeout must not be null");
+    if (timeout.isNegative()) {
+      throw new IllegalArgumentException("timeout must not be negative");
+    }
+    try {
+      return timeout.toNanos();
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  static TimeoutException timeout(final Duration timeout, final Result<?, Throwable> outcome) {
+    final TimeoutException e = new TimeoutException("timed out after " + timeout);
+    if (outcome instanceof Result.Failure) {
+      e.initCause(outcome.unsafeGetError());
+    }
+    return e;
+  }
+
+  /**
+   * Calls {@code s} on the current thread, which is interrupted once {@code timeout} passes. The
+   * interrupt is cleared again before returning, unless the thread had been interrupted already.
+   */
+  static <V> Result<V, Throwable> call(
+      final CheckedSupplier<V> s, final Duration timeout, final WheelTimer timer) {
+    Objects.requireNonNull(s, "s must not be null");
+    final long nanos = toNanos(timeout);
+    final Thread thread = Thread.currentThread();
+    final boolean wasInterrupted = thread.isInterrupted();
+    final Interrupter interrupter = new Interrupter(thread);
+    timer.schedule(interrupter, nanos);
+
+    final Result<V, Throwable> outcome = Result.of(s);
+    if (interrupter.cancel()) {
+      return outcome;
+    }
+
+    while (!interrupter.interrupted) {
+      Thread.yield();
+    }
+    if (!wasInterrupted) {
+      Thread.interrupted();
+    }
+    return Result.failure(timeout(timeout, outcome));
+  }
+
+  /**
+   * Calls {@code s} on {@code executor}. Once {@code timeout} passes, the returned {@link
+   * AsyncResult} completes with a {@link TimeoutException}, and the thread running {@code s}, if
+   * any, is interrupted; if {@code s} has not started yet, it never runs.
+   */
+  static <V> AsyncResult<V, Throwable> callAsync(
+      final CheckedSupplier<V> s,
+      final Executor executor,
+      final Duration timeout,
+      final WheelTimer timer) {
+    Objects.requireNonNull(s, "s must not be null");
+    Objects.requireNonNull(executor, "executor must not be null");
+    final long nanos = toNanos(timeout);
+    final AsyncCall<V> call = new AsyncCall<>(s, timeout);
+    timer.schedule(call, nanos);
+    try {
+      executor.execute(call);
+    } catch (Throwable t) {
+      if (call.cancel()) {
+        call.future.complete(Result.failure(t));
+      }
+    }
+    return AsyncResult.from(call.future);
+  }
+
+  private static final class Interrupter extends WheelTimer.Timeout {
+
+    private final Thread thread;
+
+    private volatile boolean interrupted;
+
+    Interrupter(final Thread thread) {
+      this.thread = thread;
+    }
+
+    @Override
+    void expire() {
+      thread.interrupt();
+      interrupted = true;
+    }
+  }
+
+  private static final class AsyncCall<V> extends WheelTimer.Timeout implements Runnable {
+
+    private static final int NEW = 0;
+
+    private static final int RUNNING = 1;
+
+    private static final int DONE = 2;
+
+    private static final int TIMED_OUT = 3;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<AsyncCall> STATUS =
+        AtomicIntegerFieldUpdater.newUpdater(AsyncCall.class, "status");
+
+    private final CheckedSupplier<V> s;
+
+    private final Duration timeout;
+
+    private final CompletableFuture<Result<V, Throwable>> future = new CompletableFuture<>();
+
+    private volatile int status;
+
+    private volatile Thread runner;
+
+    AsyncCall(final CheckedSupplier<V> s, final Duration timeout) {
+      this.s = s;
+      this.timeout = timeout;
+    }
+
+    @Override
+    public void run() {
+      runner = Thread.currentThread();
+      if (!STATUS.compareAndSet(this, NEW, RUNNING)) {
+        return;
+      }
+
+      final Result<V, Throwable> outcome = Result.of(s);
+      if (STATUS.compareAndSet(this, RUNNING, DONE)) {
+        cancel();
+        future.complete(outcome);
+        return;
+      }
+
+      synchronized (this) {
+        Thread.interrupted();
+      }
+    }
+
+    /**
+     * Times the call out. The interrupt is sent under the lock on this call, which {@link #run()}
+     * takes before clearing it.
+     */
+    @Override
+    void expire() {
+      if (STATUS.compareAndSet(this, NEW, TIMED_OUT)) {
+        completeWithTimeout();
+        return;
+      }
+      synchronized (this) {
+        if (!STATUS.compareAndSet(this, RUNNING, TIMED_OUT)) {
+          return;
+        }
+        runner.interrupt();
+      }
+      completeWithTimeout();
+    }
+
+    /**
+     * Completes the future on the default asynchronous pool of {@link CompletableFuture}, as the
+     * executor may be busy with the very call which timed out, and dependent stages must not run on
+     * the timer thread, which serves every deadline of the process.
+     */
+    private void completeWithTimeout() {
+      final Result<V, Throwable> failure = Result.failure(timeout(timeout, null));
+      CompletableFuture.runAsync(() -> future.complete(failure));
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.github.hekmekk.result4j;
+
+import java.io.Serializable;
+
+/**
+ * Signals that an operation completed successfully without producing a value. There is exactly one
+ * instance, {@link #DONE}, which survives serialization.
+ */
+public final class Done implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  public static final Done DONE = new Done();
+
+  private Done() {}
+
+  private Object readResolve() {
+    return DONE;
+  }
+
+  @Override
+  public String toString() {
+    return "Done";
+  }
+}
@@ -0,0 +1,316 @@
+package com.github.hekmekk.result4j;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A {@link Result} specialized for {@code double} values: An {@link DoubleResult} is either a
+ * {@link Success} with a {@code double} value or a {@link Failure} with an error. The value is
+ * never boxed, neither on construction nor when {@linkplain #map mapping} it.
+ *
+ * @param <E> the type of the failure error
+ */
+public interface DoubleResult<E> extends Serializable {
+
+  static <E> DoubleResult<E> success(double value) {
+    return new Success<>(value);
+  }
+
+  static <E> DoubleResult<E> failure(E error) {
+    return new Failure<>(error);
+  }
+
+  DoubleResult<E> flatMap(DoubleFunction<? extends DoubleResult<E>> f);
+
+  DoubleResult<E> map(DoubleUnaryOperator f);
+
+  <U> Result<U, E> mapToObj(DoubleFunction<? extends U> f);
+
+  <F extends E> DoubleResult<E> recoverWith(Function<F, ? extends DoubleResult<E>> f);
+
+  <F extends E> DoubleResult<E> recoverWith(
+      Class<F> errorType, Function<F, ? extends DoubleResult<E>> f);
+
+  <F extends E> DoubleResult<E> recover(ToDoubleFunction<F> f);
+
+  <F extends E> DoubleResult<E> recover(Class<F> errorType, ToDoubleFunction<F> f);
+
+  <U> U fold(DoubleFunction<? extends U> f, Function<? super E, ? extends U> g);
+
+  double orElse(double other);
+
+  double orElse(DoubleSupplier s);
+
+  double orElse(ToDoubleFunction<E> f);
+
+  double unsafeGet();
+
+  E unsafeGetError();
+
+  DoubleResult<E> onSuccess(final DoubleConsumer c);
+
+  DoubleResult<E> onFailure(final Consumer<E> c);
+
+  /** Boxes the value, if any. */
+  Result<Double, E> toResult();
+
+  final class Success<E> implements DoubleResult<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final double value;
+
+    private Success(final double value) {
+      this.value = value;
+    }
+
+    @Override
+    public int hashCode() {
+      return Double.hashCode(value);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return (obj == this)
+          || (obj instanceof Success) && Double.compare(value, ((Success) obj).value) == 0;
+    }
+
+    @Override
+    public String toString() {
+      return "Success[value=" + value + "]";
+    }
+
+    @Override
+    public DoubleResult<E> flatMap(final DoubleFunction<? extends DoubleResult<E>> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.apply(value);
+    }
+
+    @Override
+    public DoubleResult<E> map(final DoubleUnaryOperator f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return new Success<>(f.applyAsDouble(value));
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(final DoubleFunction<? extends U> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return Result.success(f.apply(value));
+    }
+
+    @Override
+    public <F extends E> DoubleResult<E> recoverWith(
+        final Function<F, ? extends DoubleResult<E>> f) {
+      return this;
+    }
+
+    @Override
+    public <F extends E> DoubleResult<E> recoverWith(
+        final Class<F> errorType, final Function<F, ? extends DoubleResult<E>> f) {
+      return this;
+    }
+
+    @Override
+    public <F extends E> DoubleResult<E> recover(final ToDoubleFunction<F> f) {
+      return this;
+    }
+
+    @Override
+    public <F extends E> DoubleResult<E> recover(
+        final Class<F> errorType, final ToDoubleFunction<F> f) {
+      return this;
+    }
+
+    @Override
+    public <U> U fold(
+        final DoubleFunction<? extends U> f, final Function<? super E, ? extends U> g) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.apply(value);
+    }
+
+    @Override
+    public double orElse(final double other) {
+      return value;
+    }
+
+    @Override
+    public double orElse(final DoubleSupplier s) {
+      return value;
+    }
+
+    @Override
+    public double orElse(final ToDoubleFunction<E> f) {
+      return value;
+    }
+
+    @Override
+    public double unsafeGet() {
+      return value;
+    }
+
+    @Override
+    public E unsafeGetError() {
+      throw new NoSuchElementException("unsafeGetError() on Success");
+    }
+
+    @Override
+    public DoubleResult<E> onSuccess(final DoubleConsumer c) {
+      Objects.requireNonNull(c, "c must not be null");
+      c.accept(value);
+      return this;
+    }
+
+    @Override
+    public DoubleResult<E> onFailure(final Consumer<E> c) {
+      return this;
+    }
+
+    @Override
+    public Result<Double, E> toResult() {
+      return Result.success(value);
+    }
+  }
+
+  final class Failure<E> implements DoubleResult<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final E error;
+
+    private Failure(final E error) {
+      Objects.requireNonNull(error, "error must not be null");
+      this.error = error;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(error);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return (obj == this)
+          || (obj instanceof Failure) && Objects.equals(error, ((Failure) obj).error);
+    }
+
+    @Override
+    public String toString() {
+      return "Failure[error=" + error + "]";
+    }
+
+    @Override
+    public DoubleResult<E> flatMap(final DoubleFunction<? extends DoubleResult<E>> f) {
+      return this;
+    }
+
+    @Override
+    public DoubleResult<E> map(final DoubleUnaryOperator f) {
+      return this;
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(final DoubleFunction<? extends U> f) {
+      return Result.failure(error);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F extends E> DoubleResult<E> recoverWith(
+        final Function<F, ? extends DoubleResult<E>> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.apply((F) error);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F extends E> DoubleResult<E> recoverWith(
+        final Class<F> errorType, final Function<F, ? extends DoubleResult<E>> f) {
+      Objects.requireNonNull(errorType, "errorClazz must not be null");
+      Objects.requireNonNull(f, "f must not be null");
+      if (errorType.isAssignableFrom(error.getClass())) {
+        return f.apply((F) error);
+      }
+
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F extends E> DoubleResult<E> recover(final ToDoubleFunction<F> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return new Success<>(f.applyAsDouble((F) error));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F extends E> DoubleResult<E> recover(
+        final Class<F> errorType, final ToDoubleFunction<F> f) {
+      Objects.requireNonNull(errorType, "errorClazz must not be null");
+      Objects.requireNonNull(f, "f must not be null");
+      if (errorType.isAssignableFrom(error.getClass())) {
+        return new Success<>(f.applyAsDouble((F) error));
+      }
+
+      return this;
+    }
+
+    @Override
+    public <U> U fold(
+        final DoubleFunction<? extends U> f, final Function<? super E, ? extends U> g) {
+      Objects.requireNonNull(g, "g must not be null");
+      return g.apply(error);
+    }
+
+    @Override
+    public double orElse(final double other) {
+      return other;
+    }
+
+    @Override
+    public double orElse(final DoubleSupplier s) {
+      Objects.requireNonNull(s, "s must not be null");
+      return s.getAsDouble();
+    }
+
+    @Override
+    public double orElse(final ToDoubleFunction<E> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.applyAsDouble(error);
+    }
+
+    @Override
+    public double unsafeGet() {
+      throw new NoSuchElementException("unsafeGet() on Failure");
+    }
+
+    @Override
+    public E unsafeGetError() {
+      return error;
+    }
+
+    @Override
+    public DoubleResult<E> onSuccess(final DoubleConsumer c) {
+      return this;
+    }
+
+    @Override
+    public DoubleResult<E> onFailure(final Consumer<E> c) {
+      Objects.requireNonNull(c, "c must not be null");
+      c.accept(error);
+      return this;
+    }
+
+    @Override
+    public Result<Double, E> toResult() {
+      return Result.failure(error);
+    }
+  }
+}
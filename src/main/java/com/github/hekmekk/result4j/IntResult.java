@@ -0,0 +1,308 @@
+package com.github.hekmekk.result4j;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link Result} specialized for {@code int} values: An {@link IntResult} is either a {@link
+ * Success} with a {@code int} value or a {@link Failure} with an error. The value is never boxed,
+ * neither on construction nor when {@linkplain #map mapping} it.
+ *
+ * @param <E> the type of the failure error
+ */
+public interface IntResult<E> extends Serializable {
+
+  static <E> IntResult<E> success(int value) {
+    return new Success<>(value);
+  }
+
+  static <E> IntResult<E> failure(E error) {
+    return new Failure<>(error);
+  }
+
+  IntResult<E> flatMap(IntFunction<? extends IntResult<E>> f);
+
+  IntResult<E> map(IntUnaryOperator f);
+
+  <U> Result<U, E> mapToObj(IntFunction<? extends U> f);
+
+  <F extends E> IntResult<E> recoverWith(Function<F, ? extends IntResult<E>> f);
+
+  <F extends E> IntResult<E> recoverWith(Class<F> errorType, Function<F, ? extends IntResult<E>> f);
+
+  <F extends E> IntResult<E> recover(ToIntFunction<F> f);
+
+  <F extends E> IntResult<E> recover(Class<F> errorType, ToIntFunction<F> f);
+
+  <U> U fold(IntFunction<? extends U> f, Function<? super E, ? extends U> g);
+
+  int orElse(int other);
+
+  int orElse(IntSupplier s);
+
+  int orElse(ToIntFunction<E> f);
+
+  int unsafeGet();
+
+  E unsafeGetError();
+
+  IntResult<E> onSuccess(final IntConsumer c);
+
+  IntResult<E> onFailure(final Consumer<E> c);
+
+  /** Boxes the value, if any. */
+  Result<Integer, E> toResult();
+
+  final class Success<E> implements IntResult<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int value;
+
+    private Success(final int value) {
+      this.value = value;
+    }
+
+    @Override
+    public int hashCode() {
+      return Integer.hashCode(value);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return (obj == this) || (obj instanceof Success) && value == ((Success) obj).value;
+    }
+
+    @Override
+    public String toString() {
+      return "Success[value=" + value + "]";
+    }
+
+    @Override
+    public IntResult<E> flatMap(final IntFunction<? extends IntResult<E>> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.apply(value);
+    }
+
+    @Override
+    public IntResult<E> map(final IntUnaryOperator f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return new Success<>(f.applyAsInt(value));
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(final IntFunction<? extends U> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return Result.success(f.apply(value));
+    }
+
+    @Override
+    public <F extends E> IntResult<E> recoverWith(final Function<F, ? extends IntResult<E>> f) {
+      return this;
+    }
+
+    @Override
+    public <F extends E> IntResult<E> recoverWith(
+        final Class<F> errorType, final Function<F, ? extends IntResult<E>> f) {
+      return this;
+    }
+
+    @Override
+    public <F extends E> IntResult<E> recover(final ToIntFunction<F> f) {
+      return this;
+    }
+
+    @Override
+    public <F extends E> IntResult<E> recover(final Class<F> errorType, final ToIntFunction<F> f) {
+      return this;
+    }
+
+    @Override
+    public <U> U fold(final IntFunction<? extends U> f, final Function<? super E, ? extends U> g) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.apply(value);
+    }
+
+    @Override
+    public int orElse(final int other) {
+      return value;
+    }
+
+    @Override
+    public int orElse(final IntSupplier s) {
+      return value;
+    }
+
+    @Override
+    public int orElse(final ToIntFunction<E> f) {
+      return value;
+    }
+
+    @Override
+    public int unsafeGet() {
+      return value;
+    }
+
+    @Override
+    public E unsafeGetError() {
+      throw new NoSuchElementException("unsafeGetError() on Success");
+    }
+
+    @Override
+    public IntResult<E> onSuccess(final IntConsumer c) {
+      Objects.requireNonNull(c, "c must not be null");
+      c.accept(value);
+      return this;
+    }
+
+    @Override
+    public IntResult<E> onFailure(final Consumer<E> c) {
+      return this;
+    }
+
+    @Override
+    public Result<Integer, E> toResult() {
+      return Result.success(value);
+    }
+  }
+
+  final class Failure<E> implements IntResult<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final E error;
+
+    private Failure(final E error) {
+      Objects.requireNonNull(error, "error must not be null");
+      this.error = error;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(error);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return (obj == this)
+          || (obj instanceof Failure) && Objects.equals(error, ((Failure) obj).error);
+    }
+
+    @Override
+    public String toString() {
+      return "Failure[error=" + error + "]";
+    }
+
+    @Override
+    public IntResult<E> flatMap(final IntFunction<? extends IntResult<E>> f) {
+      return this;
+    }
+
+    @Override
+    public IntResult<E> map(final IntUnaryOperator f) {
+      return this;
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(final IntFunction<? extends U> f) {
+      return Result.failure(error);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F extends E> IntResult<E> recoverWith(final Function<F, ? extends IntResult<E>> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.apply((F) error);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F extends E> IntResult<E> recoverWith(
+        final Class<F> errorType, final Function<F, ? extends IntResult<E>> f) {
+      Objects.requireNonNull(errorType, "errorClazz must not be null");
+      Objects.requireNonNull(f, "f must not be null");
+      if (errorType.isAssignableFrom(error.getClass())) {
+        return f.apply((F) error);
+      }
+
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F extends E> IntResult<E> recover(final ToIntFunction<F> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return new Success<>(f.applyAsInt((F) error));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F extends E> IntResult<E> recover(final Class<F> errorType, final ToIntFunction<F> f) {
+      Objects.requireNonNull(errorType, "errorClazz must not be null");
+      Objects.requireNonNull(f, "f must not be null");
+      if (errorType.isAssignableFrom(error.getClass())) {
+        return new Success<>(f.applyAsInt((F) error));
+      }
+
+      return this;
+    }
+
+    @Override
+    public <U> U fold(final IntFunction<? extends U> f, final Function<? super E, ? extends U> g) {
+      Objects.requireNonNull(g, "g must not be null");
+      return g.apply(error);
+    }
+
+    @Override
+    public int orElse(final int other) {
+      return other;
+    }
+
+    @Override
+    public int orElse(final IntSupplier s) {
+      Objects.requireNonNull(s, "s must not be null");
+      return s.getAsInt();
+    }
+
+    @Override
+    public int orElse(final ToIntFunction<E> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.applyAsInt(error);
+    }
+
+    @Override
+    public int unsafeGet() {
+      throw new NoSuchElementException("unsafeGet() on Failure");
+    }
+
+    @Override
+    public E unsafeGetError() {
+      return error;
+    }
+
+    @Override
+    public IntResult<E> onSuccess(final IntConsumer c) {
+      return this;
+    }
+
+    @Override
+    public IntResult<E> onFailure(final Consumer<E> c) {
+      Objects.requireNonNull(c, "c must not be null");
+      c.accept(error);
+      return this;
+    }
+
+    @Override
+    public Result<Integer, E> toResult() {
+      return Result.failure(error);
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.github.hekmekk.result4j;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Result} which is computed on first use and then memoized.
+ *
+ * <p>{@link #map}, {@link #flatMap}, {@link #recover} and {@link #recoverWith} only describe the
+ * computation; nothing runs until the outcome is needed by {@link #fold}, {@link #orElse}, {@link
+ * #iterator} or {@link #toResult}. The underlying supplier runs at most once, even if several
+ * threads ask for the outcome at the same time, and every thread sees the same {@link Result}.
+ *
+ * @param <V> the type of success value
+ * @param <E> the type of the failure error
+ */
+public final class LazyResult<V, E> implements Iterable<V> {
+
+  private Supplier<? extends Result<V, E>> supplier;
+
+  private volatile Result<V, E> result;
+
+  private LazyResult(final Supplier<? extends Result<V, E>> supplier, final Result<V, E> result) {
+    this.supplier = supplier;
+    this.result = result;
+  }
+
+  public static <V> LazyResult<V, Throwable> of(final CheckedSupplier<V> s) {
+    Objects.requireNonNull(s, "s must not be null");
+    return new LazyResult<>(() -> Result.of(s), null);
+  }
+
+  /**
+   * Defers to {@code s}. If it throws, the exception is passed on to the caller and {@code s} will
+   * be called again on next use.
+   */
+  public static <V, E> LazyResult<V, E> from(final Supplier<? extends Result<V, E>> s) {
+    Objects.requireNonNull(s, "s must not be null");
+    return new LazyResult<>(s, null);
+  }
+
+  public static <V, E> LazyResult<V, E> from(final Result<V, E> result) {
+    Objects.requireNonNull(result, "result must not be null");
+    return new LazyResult<>(null, result);
+  }
+
+  public static <V, E> LazyResult<V, E> success(final V value) {
+    return from(Result.success(value));
+  }
+
+  public static <V, E> LazyResult<V, E> failure(final E error) {
+    return from(Result.failure(error));
+  }
+
+  /** Computes the outcome, unless that already happened. */
+  public Result<V, E> toResult() {
+    Result<V, E> r = result;
+    if (r == null) {
+      synchronized (this) {
+        r = result;
+        if (r == null) {
+          r = Objects.requireNonNull(supplier.get(), "supplier must not return null");
+          result = r;
+          supplier = null;
+        }
+      }
+    }
+    return r;
+  }
+
+  public boolean isEvaluated() {
+    return result != null;
+  }
+
+  public <U> LazyResult<U, E> flatMap(
+      final Function<? super V, ? extends LazyResult<? extends U, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return from(() -> toResult().flatMap(v -> f.apply(v).toResult()));
+  }
+
+  public <U> LazyResult<U, E> map(final Function<? super V, ? extends U> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return from(() -> toResult().map(f));
+  }
+
+  @SuppressWarnings("unchecked")
+  public <F extends E> LazyResult<V, E> recoverWith(
+      final Function<F, ? extends LazyResult<? extends V, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return from(() -> toResult().recoverWith(e -> (Result<V, E>) f.apply((F) e).toResult()));
+  }
+
+  @SuppressWarnings("unchecked")
+  public <F extends E> LazyResult<V, E> recoverWith(
+      final Class<F> errorType, final Function<F, ? extends LazyResult<? extends V, E>> f) {
+    Objects.requireNonNull(errorType, "errorType must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    return from(() -> toResult().recoverWith(errorType, e -> (Result<V, E>) f.apply(e).toResult()));
+  }
+
+  public <F extends E> LazyResult<V, E> recover(final Function<F, ? extends V> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return from(() -> toResult().recover(f));
+  }
+
+  public <F extends E> LazyResult<V, E> recover(
+      final Class<F> errorType, final Function<F, ? extends V> f) {
+    Objects.requireNonNull(errorType, "errorType must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    return from(() -> toResult().recover(errorType, f));
+  }
+
+  public <U> U fold(
+      final Function<? super V, ? extends U> f, final Function<? super E, ? extends U> g) {
+    return toResult().fold(f, g);
+  }
+
+  public V orElse(final V other) {
+    return toResult().orElse(other);
+  }
+
+  public V orElse(final Supplier<V> s) {
+    return toResult().orElse(s);
+  }
+
+  public V orElse(final Function<E, V> f) {
+    return toResult().orElse(f);
+  }
+
+  public LazyResult<V, E> onSuccess(final Consumer<V> c) {
+    Objects.requireNonNull(c, "c must not be null");
+    return from(() -> toResult().onSuccess(c));
+  }
+
+  public LazyResult<V, E> onFailure(final Consumer<E> c) {
+    Objects.requireNonNull(c, "c must not be null");
+    return from(() -> toResult().onFailure(c));
+  }
+
+  @Override
+  public Iterator<V> iterator() {
+    return toResult().iterator();
+  }
+
+  @Override
+  public String toString() {
+    final Result<V, E> r = result;
+    return r == null ? "LazyResult[?]" : "LazyResult[" + r + "]";
+  }
+}
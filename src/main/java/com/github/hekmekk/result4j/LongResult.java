@@ -0,0 +1,311 @@
+package com.github.hekmekk.result4j;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link Result} specialized for {@code long} values: An {@link LongResult} is either a {@link
+ * Success} with a {@code long} value or a {@link Failure} with an error. The value is never boxed,
+ * neither on construction nor when {@linkplain #map mapping} it.
+ *
+ * @param <E> the type of the failure error
+ */
+public interface LongResult<E> extends Serializable {
+
+  static <E> LongResult<E> success(long value) {
+    return new Success<>(value);
+  }
+
+  static <E> LongResult<E> failure(E error) {
+    return new Failure<>(error);
+  }
+
+  LongResult<E> flatMap(LongFunction<? extends LongResult<E>> f);
+
+  LongResult<E> map(LongUnaryOperator f);
+
+  <U> Result<U, E> mapToObj(LongFunction<? extends U> f);
+
+  <F extends E> LongResult<E> recoverWith(Function<F, ? extends LongResult<E>> f);
+
+  <F extends E> LongResult<E> recoverWith(
+      Class<F> errorType, Function<F, ? extends LongResult<E>> f);
+
+  <F extends E> LongResult<E> recover(ToLongFunction<F> f);
+
+  <F extends E> LongResult<E> recover(Class<F> errorType, ToLongFunction<F> f);
+
+  <U> U fold(LongFunction<? extends U> f, Function<? super E, ? extends U> g);
+
+  long orElse(long other);
+
+  long orElse(LongSupplier s);
+
+  long orElse(ToLongFunction<E> f);
+
+  long unsafeGet();
+
+  E unsafeGetError();
+
+  LongResult<E> onSuccess(final LongConsumer c);
+
+  LongResult<E> onFailure(final Consumer<E> c);
+
+  /** Boxes the value, if any. */
+  Result<Long, E> toResult();
+
+  final class Success<E> implements LongResult<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long value;
+
+    private Success(final long value) {
+      this.value = value;
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(value);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return (obj == this) || (obj instanceof Success) && value == ((Success) obj).value;
+    }
+
+    @Override
+    public String toString() {
+      return "Success[value=" + value + "]";
+    }
+
+    @Override
+    public LongResult<E> flatMap(final LongFunction<? extends LongResult<E>> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.apply(value);
+    }
+
+    @Override
+    public LongResult<E> map(final LongUnaryOperator f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return new Success<>(f.applyAsLong(value));
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(final LongFunction<? extends U> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return Result.success(f.apply(value));
+    }
+
+    @Override
+    public <F extends E> LongResult<E> recoverWith(final Function<F, ? extends LongResult<E>> f) {
+      return this;
+    }
+
+    @Override
+    public <F extends E> LongResult<E> recoverWith(
+        final Class<F> errorType, final Function<F, ? extends LongResult<E>> f) {
+      return this;
+    }
+
+    @Override
+    public <F extends E> LongResult<E> recover(final ToLongFunction<F> f) {
+      return this;
+    }
+
+    @Override
+    public <F extends E> LongResult<E> recover(
+        final Class<F> errorType, final ToLongFunction<F> f) {
+      return this;
+    }
+
+    @Override
+    public <U> U fold(final LongFunction<? extends U> f, final Function<? super E, ? extends U> g) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.apply(value);
+    }
+
+    @Override
+    public long orElse(final long other) {
+      return value;
+    }
+
+    @Override
+    public long orElse(final LongSupplier s) {
+      return value;
+    }
+
+    @Override
+    public long orElse(final ToLongFunction<E> f) {
+      return value;
+    }
+
+    @Override
+    public long unsafeGet() {
+      return value;
+    }
+
+    @Override
+    public E unsafeGetError() {
+      throw new NoSuchElementException("unsafeGetError() on Success");
+    }
+
+    @Override
+    public LongResult<E> onSuccess(final LongConsumer c) {
+      Objects.requireNonNull(c, "c must not be null");
+      c.accept(value);
+      return this;
+    }
+
+    @Override
+    public LongResult<E> onFailure(final Consumer<E> c) {
+      return this;
+    }
+
+    @Override
+    public Result<Long, E> toResult() {
+      return Result.success(value);
+    }
+  }
+
+  final class Failure<E> implements LongResult<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final E error;
+
+    private Failure(final E error) {
+      Objects.requireNonNull(error, "error must not be null");
+      this.error = error;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(error);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return (obj == this)
+          || (obj instanceof Failure) && Objects.equals(error, ((Failure) obj).error);
+    }
+
+    @Override
+    public String toString() {
+      return "Failure[error=" + error + "]";
+    }
+
+    @Override
+    public LongResult<E> flatMap(final LongFunction<? extends LongResult<E>> f) {
+      return this;
+    }
+
+    @Override
+    public LongResult<E> map(final LongUnaryOperator f) {
+      return this;
+    }
+
+    @Override
+    public <U> Result<U, E> mapToObj(final LongFunction<? extends U> f) {
+      return Result.failure(error);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F extends E> LongResult<E> recoverWith(final Function<F, ? extends LongResult<E>> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.apply((F) error);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F extends E> LongResult<E> recoverWith(
+        final Class<F> errorType, final Function<F, ? extends LongResult<E>> f) {
+      Objects.requireNonNull(errorType, "errorClazz must not be null");
+      Objects.requireNonNull(f, "f must not be null");
+      if (errorType.isAssignableFrom(error.getClass())) {
+        return f.apply((F) error);
+      }
+
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F extends E> LongResult<E> recover(final ToLongFunction<F> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return new Success<>(f.applyAsLong((F) error));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F extends E> LongResult<E> recover(
+        final Class<F> errorType, final ToLongFunction<F> f) {
+      Objects.requireNonNull(errorType, "errorClazz must not be null");
+      Objects.requireNonNull(f, "f must not be null");
+      if (errorType.isAssignableFrom(error.getClass())) {
+        return new Success<>(f.applyAsLong((F) error));
+      }
+
+      return this;
+    }
+
+    @Override
+    public <U> U fold(final LongFunction<? extends U> f, final Function<? super E, ? extends U> g) {
+      Objects.requireNonNull(g, "g must not be null");
+      return g.apply(error);
+    }
+
+    @Override
+    public long orElse(final long other) {
+      return other;
+    }
+
+    @Override
+    public long orElse(final LongSupplier s) {
+      Objects.requireNonNull(s, "s must not be null");
+      return s.getAsLong();
+    }
+
+    @Override
+    public long orElse(final ToLongFunction<E> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.applyAsLong(error);
+    }
+
+    @Override
+    public long unsafeGet() {
+      throw new NoSuchElementException("unsafeGet() on Failure");
+    }
+
+    @Override
+    public E unsafeGetError() {
+      return error;
+    }
+
+    @Override
+    public LongResult<E> onSuccess(final LongConsumer c) {
+      return this;
+    }
+
+    @Override
+    public LongResult<E> onFailure(final Consumer<E> c) {
+      Objects.requireNonNull(c, "c must not be null");
+      c.accept(error);
+      return this;
+    }
+
+    @Override
+    public Result<Long, E> toResult() {
+      return Result.failure(error);
+    }
+  }
+}
@@ -1,12 +1,21 @@
 package com.github.hekmekk.result4j;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A container type with two possible cases: A {@link Result} is either a {@link Success} with a
@@ -18,15 +27,37 @@ import java.util.function.Supplier;
 public interface Result<V, E> extends Iterable<V>, Serializable {
 
   static <V> Result<V, Throwable> of(CheckedSupplier<V> s) {
-    try {
-      return success(s.get());
-    } catch (Throwable t) {
-      return failure(t);
-    }
+    return ResultSupport.of(s, null);
+  }
+
+  /**
+   * Like {@link #of(CheckedSupplier)}, but trims the stack trace of a caught throwable according to
+   * {@code capture}.
+   */
+  static <V> Result<V, Throwable> of(CheckedSupplier<V> s, StackCapture capture) {
+    Objects.requireNonNull(capture, "capture must not be null");
+    return ResultSupport.of(s, capture);
   }
 
+  /**
+   * Like {@link #of(CheckedSupplier)}, but gives up once {@code timeout} has passed: the current
+   * thread is then interrupted, and the outcome is a {@link Failure} with a {@link
+   * java.util.concurrent.TimeoutException}, caused by the error of {@code s} if it failed. The
+   * interrupt is cleared before returning, unless the thread had been interrupted already.
+   *
+   * <p>Deadlines are tracked by a shared hashed-wheel timer with a resolution of one millisecond,
+   * so setting one is cheap enough to do on every call.
+   */
+  static <V> Result<V, Throwable> of(CheckedSupplier<V> s, Duration timeout) {
+    return Deadlines.call(s, timeout, WheelTimer.shared());
+  }
+
+  /**
+   * Creates a {@link Success}. {@link Done#DONE}, {@link Boolean}s and {@link Integer}s between
+   * -128 and 127 are backed by shared instances, so wrapping them does not allocate.
+   */
   static <V, E> Result<V, E> success(V value) {
-    return new Success<>(value);
+    return Success.valueOf(value);
   }
 
   static <V, E> Result<V, E> failure(E error) {
@@ -67,10 +98,24 @@ public interface Result<V, E> extends Iterable<V>, Serializable {
 
   Result<V, E> onFailure(final Consumer<E> c);
 
+  /** Returns the success value, or an empty {@link Optional} for a {@link Failure}. */
+  Optional<V> toOptional();
+
+  /**
+   * Returns a sequential {@link Stream} of the success value, which is empty for a {@link Failure}.
+   * To flatten a {@link Stream} of {@link Result}s, {@link ResultStreams#successes} avoids creating
+   * a stream per element.
+   */
+  default Stream<V> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
   final class Success<V, E> implements Result<V, E> {
 
     private static final long serialVersionUID = 1L;
 
+    private static final Success<?, ?>[] SHARED = shared();
+
     private final V value;
 
     private Success(final V value) {
@@ -78,6 +123,33 @@ public interface Result<V, E> extends Iterable<V>, Serializable {
       this.value = value;
     }
 
+    /** Returns the success value, like the accessor of the Java 17 record. */
+    public V value() {
+      return value;
+    }
+
+    private Object writeReplace() {
+      return new SerializedResult(SerializedResult.RESULT_SUCCESS, value);
+    }
+
+    private void readObject(final ObjectInputStream in) throws InvalidObjectException {
+      throw SerializedResult.proxyRequired();
+    }
+
+    private static Success<?, ?>[] shared() {
+      final Success<?, ?>[] shared = new Success<?, ?>[ResultSupport.SHARED_SUCCESSES];
+      for (int i = 0; i < shared.length; i++) {
+        shared[i] = new Success<>(ResultSupport.sharedValue(i));
+      }
+      return shared;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V, E> Success<V, E> valueOf(final V value) {
+      final int i = ResultSupport.sharedIndex(value);
+      return i < 0 ? new Success<>(value) : (Success<V, E>) SHARED[i];
+    }
+
     @Override
     public int hashCode() {
       return Objects.hashCode(value);
@@ -95,10 +167,8 @@ public interface Result<V, E> extends Iterable<V>, Serializable {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <U> Result<U, E> flatMap(final Function<? super V, ? extends Result<? extends U, E>> f) {
-      Objects.requireNonNull(f, "f must not be null");
-      return (Result<U, E>) f.apply(value);
+      return ResultSupport.flatMap(value, f);
     }
 
     @Override
@@ -173,22 +243,30 @@ public interface Result<V, E> extends Iterable<V>, Serializable {
       return this;
     }
 
+    @Override
+    public Optional<V> toOptional() {
+      return Optional.of(value);
+    }
+
     @Override
     public Iterator<V> iterator() {
-      return new Iterator<V>() {
-        private boolean more = true;
+      return ResultSupport.iterator(value);
+    }
 
-        @Override
-        public boolean hasNext() {
-          return more;
-        }
+    /** Passes the value to {@code action} without creating an {@link Iterator}. */
+    @Override
+    public void forEach(final Consumer<? super V> action) {
+      Objects.requireNonNull(action, "action must not be null");
+      action.accept(value);
+    }
 
-        @Override
-        public V next() {
-          more = false;
-          return value;
-        }
-      };
+    /**
+     * Returns a {@link Spliterator} with the characteristics {@code SIZED}, {@code SUBSIZED},
+     * {@code IMMUTABLE}, {@code NONNULL} and {@code ORDERED}.
+     */
+    @Override
+    public Spliterator<V> spliterator() {
+      return ResultStreams.single(value);
     }
   }
 
@@ -203,6 +281,19 @@ public interface Result<V, E> extends Iterable<V>, Serializable {
       this.error = error;
     }
 
+    /** Returns the error, like the accessor of the Java 17 record. */
+    public E error() {
+      return error;
+    }
+
+    private Object writeReplace() {
+      return new SerializedResult(SerializedResult.RESULT_FAILURE, error);
+    }
+
+    private void readObject(final ObjectInputStream in) throws InvalidObjectException {
+      throw SerializedResult.proxyRequired();
+    }
+
     @Override
     public int hashCode() {
       return Objects.hashCode(error);
@@ -232,24 +323,15 @@ public interface Result<V, E> extends Iterable<V>, Serializable {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <F extends E> Result<V, E> recoverWith(
         final Function<F, ? extends Result<? extends V, E>> f) {
-      Objects.requireNonNull(f, "f must not be null");
-      return (Result<V, E>) f.apply((F) error);
+      return ResultSupport.recoverWith(error, f);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <F extends E> Result<V, E> recoverWith(
         final Class<F> errorType, final Function<F, ? extends Result<? extends V, E>> f) {
-      Objects.requireNonNull(errorType, "errorClazz must not be null");
-      Objects.requireNonNull(f, "f must not be null");
-      if (errorType.isAssignableFrom(error.getClass())) {
-        return (Result<V, E>) f.apply((F) error);
-      }
-
-      return this;
+      return ResultSupport.recoverWith(this, errorType, f);
     }
 
     @Override
@@ -311,20 +393,26 @@ public interface Result<V, E> extends Iterable<V>, Serializable {
       return this;
     }
 
+    @Override
+    public Optional<V> toOptional() {
+      return Optional.empty();
+    }
+
+    /** Returns a shared, empty {@link Iterator}. */
     @Override
     public Iterator<V> iterator() {
-      return new Iterator<V>() {
-
-        @Override
-        public boolean hasNext() {
-          return false;
-        }
-
-        @Override
-        public V next() {
-          return null;
-        }
-      };
+      return Collections.emptyIterator();
+    }
+
+    @Override
+    public void forEach(final Consumer<? super V> action) {
+      Objects.requireNonNull(action, "action must not be null");
+    }
+
+    /** Returns a shared, empty {@link Spliterator}. */
+    @Override
+    public Spliterator<V> spliterator() {
+      return Spliterators.emptySpliterator();
     }
   }
 }
@@ -0,0 +1,333 @@
+package com.github.hekmekk.result4j;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * The outcomes of a bulk operation, stored column-wise: an array of success values, an array of
+ * errors and a bit set telling which row holds which. Compared to a {@code List<Result<V, E>>} this
+ * saves one object per row.
+ *
+ * <p>Batches are immutable. The bulk operations only visit the rows they apply to, and share the
+ * columns they leave untouched with the batch they were derived from. {@link #get(int)} and {@link
+ * #toList()} create {@link Result}s on demand.
+ *
+ * @param <V> the type of success value
+ * @param <E> the type of the failure error
+ */
+public final class ResultBatch<V, E> {
+
+  private final int size;
+
+  private final Object[] values;
+
+  private final Object[] errors;
+
+  private final BitSet successes;
+
+  private volatile int[] successRows;
+
+  private volatile int[] failureRows;
+
+  private ResultBatch(
+      final int size, final Object[] values, final Object[] errors, final BitSet successes) {
+    this.size = size;
+    this.values = values;
+    this.errors = errors;
+    this.successes = successes;
+  }
+
+  /** Applies {@code f} to every input, in order. */
+  public static <A, V, E> ResultBatch<V, E> of(
+      final Collection<? extends A> inputs,
+      final Function<? super A, ? extends Result<? extends V, E>> f) {
+    Objects.requireNonNull(inputs, "inputs must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    final Builder<V, E> builder = builder(inputs.size());
+    for (final A input : inputs) {
+      builder.add(f.apply(input));
+    }
+    return builder.build();
+  }
+
+  public static <V, E> ResultBatch<V, E> fromResults(
+      final Collection<? extends Result<? extends V, E>> results) {
+    return of(results, Function.identity());
+  }
+
+  /** Creates a {@link Builder} sized for {@code expectedSize} rows. */
+  public static <V, E> Builder<V, E> builder(final int expectedSize) {
+    return new Builder<>(expectedSize);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int successCount() {
+    return successes.cardinality();
+  }
+
+  public int failureCount() {
+    return size - successCount();
+  }
+
+  public boolean isSuccess(final int row) {
+    return successes.get(checkRow(row));
+  }
+
+  /** Returns the outcome of the given row as a {@link Result}. */
+  @SuppressWarnings("unchecked")
+  public Result<V, E> get(final int row) {
+    return isSuccess(row) ? Result.success((V) values[row]) : Result.failure((E) errors[row]);
+  }
+
+  private int checkRow(final int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("row " + row + " out of bounds for size " + size);
+    }
+    return row;
+  }
+
+  /** Applies {@code f} to the success rows only. */
+  @SuppressWarnings("unchecked")
+  public <U> ResultBatch<U, E> map(final Function<? super V, ? extends U> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    final Object[] mapped = new Object[size];
+    for (int i = successes.nextSetBit(0); i >= 0; i = successes.nextSetBit(i + 1)) {
+      mapped[i] = Objects.requireNonNull(f.apply((V) values[i]), "value must not be null");
+    }
+    return new ResultBatch<>(size, mapped, errors, successes);
+  }
+
+  /** Applies {@code f} to the success rows only. */
+  @SuppressWarnings("unchecked")
+  public <U> ResultBatch<U, E> flatMap(
+      final Function<? super V, ? extends Result<? extends U, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    final Object[] mapped = new Object[size];
+    final Object[] errs = errors.clone();
+    final BitSet bits = (BitSet) successes.clone();
+    for (int i = successes.nextSetBit(0); i >= 0; i = successes.nextSetBit(i + 1)) {
+      final Result<? extends U, E> r = f.apply((V) values[i]);
+      if (r instanceof Result.Success) {
+        mapped[i] = r.unsafeGet();
+      } else {
+        errs[i] = r.unsafeGetError();
+        bits.clear(i);
+      }
+    }
+    return new ResultBatch<>(size, mapped, errs, bits);
+  }
+
+  /** Applies {@code f} to the failure rows only. */
+  @SuppressWarnings("unchecked")
+  public <F extends E> ResultBatch<V, E> recover(final Function<F, ? extends V> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return recoverValues(null, (Function<Object, ? extends V>) f);
+  }
+
+  /** Applies {@code f} to the failure rows whose error is an instance of {@code errorType} only. */
+  @SuppressWarnings("unchecked")
+  public <F extends E> ResultBatch<V, E> recover(
+      final Class<F> errorType, final Function<F, ? extends V> f) {
+    Objects.requireNonNull(errorType, "errorType must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    return recoverValues(errorType, (Function<Object, ? extends V>) f);
+  }
+
+  /** Applies {@code f} to the failure rows only. */
+  @SuppressWarnings("unchecked")
+  public <F extends E> ResultBatch<V, E> recoverWith(
+      final Function<F, ? extends Result<? extends V, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return recoverRows(null, e -> f.apply((F) e));
+  }
+
+  /** Applies {@code f} to the failure rows whose error is an instance of {@code errorType} only. */
+  @SuppressWarnings("unchecked")
+  public <F extends E> ResultBatch<V, E> recoverWith(
+      final Class<F> errorType, final Function<F, ? extends Result<? extends V, E>> f) {
+    Objects.requireNonNull(errorType, "errorType must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    return recoverRows(errorType, e -> f.apply((F) e));
+  }
+
+  private ResultBatch<V, E> recoverValues(
+      final Class<?> errorType, final Function<Object, ? extends V> f) {
+    final Object[] vals = values.clone();
+    final Object[] errs = errors.clone();
+    final BitSet bits = (BitSet) successes.clone();
+    for (int i = successes.nextClearBit(0); i < size; i = successes.nextClearBit(i + 1)) {
+      if (errorType == null || errorType.isInstance(errors[i])) {
+        vals[i] = Objects.requireNonNull(f.apply(errors[i]), "value must not be null");
+        errs[i] = null;
+        bits.set(i);
+      }
+    }
+    return new ResultBatch<>(size, vals, errs, bits);
+  }
+
+  private ResultBatch<V, E> recoverRows(
+      final Class<?> errorType, final Function<Object, ? extends Result<? extends V, E>> f) {
+    final Object[] vals = values.clone();
+    final Object[] errs = errors.clone();
+    final BitSet bits = (BitSet) successes.clone();
+    for (int i = successes.nextClearBit(0); i < size; i = successes.nextClearBit(i + 1)) {
+      if (errorType == null || errorType.isInstance(errors[i])) {
+        final Result<? extends V, E> r = f.apply(errors[i]);
+        if (r instanceof Result.Success) {
+          vals[i] = r.unsafeGet();
+          errs[i] = null;
+          bits.set(i);
+        } else {
+          errs[i] = r.unsafeGetError();
+        }
+      }
+    }
+    return new ResultBatch<>(size, vals, errs, bits);
+  }
+
+  /** Returns a read-only view of the success values, in row order. */
+  @SuppressWarnings("unchecked")
+  public List<V> successes() {
+    int[] rows = successRows;
+    if (rows == null) {
+      rows = rows(true);
+      successRows = rows;
+    }
+    return (List<V>) new Column(values, rows);
+  }
+
+  /** Returns a read-only view of the errors, in row order. */
+  @SuppressWarnings("unchecked")
+  public List<E> failures() {
+    int[] rows = failureRows;
+    if (rows == null) {
+      rows = rows(false);
+      failureRows = rows;
+    }
+    return (List<E>) new Column(errors, rows);
+  }
+
+  private int[] rows(final boolean success) {
+    final int[] rows = new int[success ? successCount() : failureCount()];
+    int n = 0;
+    for (int i = success ? successes.nextSetBit(0) : successes.nextClearBit(0);
+        i >= 0 && i < size;
+        i = success ? successes.nextSetBit(i + 1) : successes.nextClearBit(i + 1)) {
+      rows[n++] = i;
+    }
+    return rows;
+  }
+
+  /** Creates one {@link Result} per row. */
+  public List<Result<V, E>> toList() {
+    final List<Result<V, E>> results = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      results.add(get(i));
+    }
+    return results;
+  }
+
+  @Override
+  public String toString() {
+    return "ResultBatch[size=" + size + ", successes=" + successCount() + "]";
+  }
+
+  /**
+   * Collects the rows of a {@link ResultBatch} without creating a {@link Result} per row.
+   *
+   * @param <V> the type of success value
+   * @param <E> the type of the failure error
+   */
+  public static final class Builder<V, E> {
+
+    private int size;
+
+    private Object[] values;
+
+    private Object[] errors;
+
+    private final BitSet successes;
+
+    private Builder(final int expectedSize) {
+      if (expectedSize < 0) {
+        throw new IllegalArgumentException("expectedSize must not be negative");
+      }
+      values = new Object[expectedSize];
+      errors = new Object[expectedSize];
+      successes = new BitSet(expectedSize);
+    }
+
+    private void grow() {
+      if (size == values.length) {
+        final int capacity = Math.max(8, size + (size >> 1));
+        values = Arrays.copyOf(values, capacity);
+        errors = Arrays.copyOf(errors, capacity);
+      }
+    }
+
+    public Builder<V, E> addSuccess(final V value) {
+      Objects.requireNonNull(value, "value must not be null");
+      grow();
+      values[size] = value;
+      successes.set(size);
+      size++;
+      return this;
+    }
+
+    public Builder<V, E> addFailure(final E error) {
+      Objects.requireNonNull(error, "error must not be null");
+      grow();
+      errors[size] = error;
+      size++;
+      return this;
+    }
+
+    public Builder<V, E> add(final Result<? extends V, E> result) {
+      Objects.requireNonNull(result, "result must not be null");
+      return result instanceof Result.Success
+          ? addSuccess(result.unsafeGet())
+          : addFailure(result.unsafeGetError());
+    }
+
+    /** Creates the batch. The builder must not be used afterwards. */
+    public ResultBatch<V, E> build() {
+      final Object[] v = size == values.length ? values : Arrays.copyOf(values, size);
+      final Object[] e = size == errors.length ? errors : Arrays.copyOf(errors, size);
+      values = null;
+      errors = null;
+      return new ResultBatch<>(size, v, e, successes);
+    }
+  }
+
+  private static final class Column extends AbstractList<Object> implements RandomAccess {
+
+    private final Object[] cells;
+
+    private final int[] rows;
+
+    Column(final Object[] cells, final int[] rows) {
+      this.cells = cells;
+      this.rows = rows;
+    }
+
+    @Override
+    public Object get(final int index) {
+      return cells[rows[index]];
+    }
+
+    @Override
+    public int size() {
+      return rows.length;
+    }
+  }
+}
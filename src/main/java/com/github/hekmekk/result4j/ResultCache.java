@@ -0,0 +1,342 @@
+package com.github.hekmekk.result4j;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A cache of {@link Result}s, computed by a loader function.
+ *
+ * <p>Concurrent lookups of a key which is not cached share a single call of the loader: the first
+ * thread loads, the others wait for its result. {@link Result.Success}es and {@link
+ * Result.Failure}s are kept for separate times, so failing keys can be cached briefly without
+ * affecting how long values are kept. If the loader throws, nothing is cached and the exception is
+ * rethrown to all waiting threads.
+ *
+ * <p>Once the cache holds more than {@code maximumSize} loaded entries, it evicts with the CLOCK
+ * policy: each lookup marks its entry as referenced, and the eviction hand skips and unmarks
+ * referenced entries, evicting the first unreferenced one. Loads in progress do not count towards
+ * {@code maximumSize}. Only one thread evicts at a time; other threads do not wait for it.
+ *
+ * <p>If entries expire, every load also advances the hand a few steps, removing the expired entries
+ * it passes, so that keys which are never looked up again do not stay in the cache forever, even if
+ * it is unbounded.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of success value
+ * @param <E> the type of the failure error
+ */
+public final class ResultCache<K, V, E> {
+
+  private static final long NEVER = Long.MAX_VALUE;
+
+  /** How many entries each load checks for expiry. */
+  private static final int SWEEP_STEPS = 4;
+
+  private final Function<? super K, ? extends Result<V, E>> loader;
+
+  private final long maximumSize;
+
+  private final long successTtlNanos;
+
+  private final long failureTtlNanos;
+
+  private final LongSupplier ticker;
+
+  private final boolean expiring;
+
+  private final ConcurrentMap<K, Node<K, V, E>> map = new ConcurrentHashMap<>();
+
+  private final Queue<Node<K, V, E>> clock = new ConcurrentLinkedQueue<>();
+
+  /** The size of {@link #clock}, which also holds nodes replaced or invalidated in the meantime. */
+  private final AtomicLong queued = new AtomicLong();
+
+  /** The number of nodes in {@link #clock} which are still cached, see {@link Node#status}. */
+  private final AtomicLong cached = new AtomicLong();
+
+  private final ReentrantLock evictionLock = new ReentrantLock();
+
+  private ResultCache(
+      final Builder builder, final Function<? super K, ? extends Result<V, E>> loader) {
+    this.loader = loader;
+    this.maximumSize = builder.maximumSize;
+    this.successTtlNanos = builder.successTtlNanos;
+    this.failureTtlNanos = builder.failureTtlNanos;
+    this.ticker = builder.ticker;
+    this.expiring = successTtlNanos != NEVER || failureTtlNanos != NEVER;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Returns the cached result for {@code key}, loading it first if necessary. */
+  public Result<V, E> get(final K key) {
+    Objects.requireNonNull(key, "key must not be null");
+    for (; ; ) {
+      final Node<K, V, E> node = map.get(key);
+      if (node == null || node.isExpired(ticker.getAsLong())) {
+        final Node<K, V, E> fresh = new Node<>(key);
+        if (node == null) {
+          if (map.putIfAbsent(key, fresh) == null) {
+            return load(fresh);
+          }
+        } else if (map.replace(key, node, fresh)) {
+          removed(node);
+          return load(fresh);
+        }
+        continue;
+      }
+
+      node.referenced = true;
+      final Result<V, E> result = node.result;
+      return result != null ? result : await(node);
+    }
+  }
+
+  /** Returns the cached result for {@code key}, if it is present and fully loaded. */
+  public Result<V, E> getIfPresent(final K key) {
+    Objects.requireNonNull(key, "key must not be null");
+    final Node<K, V, E> node = map.get(key);
+    if (node == null || node.result == null || node.isExpired(ticker.getAsLong())) {
+      return null;
+    }
+    node.referenced = true;
+    return node.result;
+  }
+
+  public void invalidate(final K key) {
+    Objects.requireNonNull(key, "key must not be null");
+    final Node<K, V, E> node = map.remove(key);
+    if (node != null) {
+      removed(node);
+    }
+  }
+
+  public void invalidateAll() {
+    for (Node<K, V, E> node : map.values()) {
+      if (map.remove(node.key, node)) {
+        removed(node);
+      }
+    }
+  }
+
+  /**
+   * The number of entries, including expired ones which have not been removed yet, and loads in
+   * progress.
+   */
+  public long size() {
+    return map.size();
+  }
+
+  private Result<V, E> load(final Node<K, V, E> node) {
+    final Result<V, E> result;
+    try {
+      result = Objects.requireNonNull(loader.apply(node.key), "loader must not return null");
+    } catch (Throwable t) {
+      map.remove(node.key, node);
+      node.future.completeExceptionally(t);
+      throw t;
+    }
+
+    final long ttl = result instanceof Result.Success ? successTtlNanos : failureTtlNanos;
+    node.expiresAt = ttl == NEVER ? NEVER : ticker.getAsLong() + ttl;
+    node.result = result;
+    node.future.complete(result);
+    if (ttl == 0) {
+      map.remove(node.key, node);
+    } else if ((maximumSize != Long.MAX_VALUE || ttl != NEVER)
+        && Node.STATUS.compareAndSet(node, Node.LOADING, Node.QUEUED)) {
+      cached.incrementAndGet();
+      clock.offer(node);
+      queued.incrementAndGet();
+      evictIfNecessary();
+    }
+    return result;
+  }
+
+  private Result<V, E> await(final Node<K, V, E> node) {
+    try {
+      return node.future.join();
+    } catch (CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+  /** Accounts for {@code node} having been removed from {@link #map}. */
+  private void removed(final Node<K, V, E> node) {
+    if (Node.STATUS.getAndSet(node, Node.REMOVED) == Node.QUEUED) {
+      cached.decrementAndGet();
+    }
+  }
+
+  /**
+   * Advances the CLOCK hand {@link #SWEEP_STEPS} steps if entries expire, and further until the
+   * cache fits, and drops nodes which are no longer cached from the clock once they outnumber the
+   * cached ones, unless another thread already does.
+   */
+  private void evictIfNecessary() {
+    final boolean stale = queued.get() - maximumSize > maximumSize;
+    if ((cached.get() <= maximumSize && !stale && !expiring) || !evictionLock.tryLock()) {
+      return;
+    }
+
+    try {
+      if (stale) {
+        clock.removeIf(
+            node -> {
+              if (map.get(node.key) == node) {
+                return false;
+              }
+              queued.decrementAndGet();
+              return true;
+            });
+      }
+
+      final long now = ticker.getAsLong();
+      final int sweep = expiring ? SWEEP_STEPS : 0;
+      for (int step = 0; step < sweep || cached.get() > maximumSize; step++) {
+        final Node<K, V, E> node = clock.poll();
+        if (node == null) {
+          return;
+        }
+        if (map.get(node.key) != node) {
+          queued.decrementAndGet();
+        } else if (node.isExpired(now) || (!node.referenced && cached.get() > maximumSize)) {
+          queued.decrementAndGet();
+          if (map.remove(node.key, node)) {
+            removed(node);
+          }
+        } else {
+          if (cached.get() > maximumSize) {
+            node.referenced = false;
+          }
+          clock.offer(node);
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "ResultCache[size=" + map.size() + "]";
+  }
+
+  private static final class Node<K, V, E> {
+
+    static final int LOADING = 0;
+
+    static final int QUEUED = 1;
+
+    static final int REMOVED = 2;
+
+    @SuppressWarnings("rawtypes")
+    static final AtomicIntegerFieldUpdater<Node> STATUS =
+        AtomicIntegerFieldUpdater.newUpdater(Node.class, "status");
+
+    final K key;
+
+    final CompletableFuture<Result<V, E>> future = new CompletableFuture<>();
+
+    /** Written before {@link #result}, and read after it. */
+    long expiresAt = NEVER;
+
+    volatile Result<V, E> result;
+
+    volatile boolean referenced;
+
+    /**
+     * Whether the node is counted in {@link #cached}: it is once it is offered to {@link #clock},
+     * until it is removed from {@link #map}. A node removed while loading is never counted.
+     */
+    volatile int status;
+
+    Node(final K key) {
+      this.key = key;
+    }
+
+    boolean isExpired(final long now) {
+      return result != null && expiresAt != NEVER && now - expiresAt >= 0;
+    }
+  }
+
+  /**
+   * Builds a {@link ResultCache}. By default a cache is unbounded, keeps successes forever, and
+   * failures only until all threads which waited for them have them.
+   */
+  public static final class Builder {
+
+    private long maximumSize = Long.MAX_VALUE;
+
+    private long successTtlNanos = NEVER;
+
+    private long failureTtlNanos = 0;
+
+    private LongSupplier ticker = System::nanoTime;
+
+    private Builder() {}
+
+    public Builder maximumSize(final long maximumSize) {
+      if (maximumSize < 1) {
+        throw new IllegalArgumentException("maximumSize must be positive");
+      }
+      this.maximumSize = maximumSize;
+      return this;
+    }
+
+    /** How long a {@link Result.Success} is kept after it was loaded. */
+    public Builder successTtl(final Duration ttl) {
+      this.successTtlNanos = toNanos(ttl);
+      return this;
+    }
+
+    /** How long a {@link Result.Failure} is kept after it was loaded. */
+    public Builder failureTtl(final Duration ttl) {
+      this.failureTtlNanos = toNanos(ttl);
+      return this;
+    }
+
+    private static long toNanos(final Duration ttl) {
+      Objects.requireNonNull(ttl, "ttl must not be null");
+      if (ttl.isNegative()) {
+        throw new IllegalArgumentException("ttl must not be negative");
+      }
+      try {
+        return ttl.toNanos();
+      } catch (ArithmeticException e) {
+        return NEVER;
+      }
+    }
+
+    Builder ticker(final LongSupplier ticker) {
+      this.ticker = Objects.requireNonNull(ticker, "ticker must not be null");
+      return this;
+    }
+
+    public <K, V, E> ResultCache<K, V, E> build(
+        final Function<? super K, ? extends Result<V, E>> loader) {
+      Objects.requireNonNull(loader, "loader must not be null");
+      return new ResultCache<>(this, loader);
+    }
+  }
+}
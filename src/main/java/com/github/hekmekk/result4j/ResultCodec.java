@@ -0,0 +1,306 @@
+package com.github.hekmekk.result4j;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Encodes {@link Result}s and {@link Completable}s into {@link ByteBuffer}s and decodes them again,
+ * independent of Java serialization.
+ *
+ * <p>Every encoding starts with a tag byte, which tells the case apart, followed by the value or
+ * error as written by the respective {@link Codec}. Codecs write straight into the target buffer.
+ * {@link #sizeOf} tells how much room an encoding takes, so that buffers can be sized up front.
+ *
+ * @param <V> the type of success value
+ * @param <E> the type of the failure error
+ */
+public final class ResultCodec<V, E> {
+
+  private static final byte RESULT_SUCCESS = 1;
+
+  private static final byte RESULT_FAILURE = 2;
+
+  private static final byte COMPLETABLE_SUCCESS = 3;
+
+  private static final byte COMPLETABLE_FAILURE = 4;
+
+  private final Codec<V> values;
+
+  private final Codec<E> errors;
+
+  private ResultCodec(final Codec<V> values, final Codec<E> errors) {
+    this.values = values;
+    this.errors = errors;
+  }
+
+  public static <V, E> ResultCodec<V, E> of(final Codec<V> values, final Codec<E> errors) {
+    Objects.requireNonNull(values, "values must not be null");
+    Objects.requireNonNull(errors, "errors must not be null");
+    return new ResultCodec<>(values, errors);
+  }
+
+  /**
+   * Writes {@code result} at the position of {@code buffer}, advancing it.
+   *
+   * @throws java.nio.BufferOverflowException if {@code buffer} has less than {@link
+   *     #sizeOf(Result)} bytes remaining
+   */
+  public void encode(final Result<V, E> result, final ByteBuffer buffer) {
+    Objects.requireNonNull(result, "result must not be null");
+    Objects.requireNonNull(buffer, "buffer must not be null");
+    if (result instanceof Result.Success) {
+      buffer.put(RESULT_SUCCESS);
+      values.encode(result.unsafeGet(), buffer);
+    } else {
+      buffer.put(RESULT_FAILURE);
+      errors.encode(result.unsafeGetError(), buffer);
+    }
+  }
+
+  /** Writes {@code completable} at the position of {@code buffer}, advancing it. */
+  public void encode(final Completable<E> completable, final ByteBuffer buffer) {
+    Objects.requireNonNull(completable, "completable must not be null");
+    Objects.requireNonNull(buffer, "buffer must not be null");
+    if (completable instanceof Completable.Success) {
+      buffer.put(COMPLETABLE_SUCCESS);
+    } else {
+      buffer.put(COMPLETABLE_FAILURE);
+      errors.encode(completable.unsafeGetError(), buffer);
+    }
+  }
+
+  /**
+   * Reads a {@link Result} from the position of {@code buffer}, advancing it.
+   *
+   * @throws IllegalArgumentException if the buffer does not hold an encoded {@link Result}
+   */
+  public Result<V, E> decode(final ByteBuffer buffer) {
+    Objects.requireNonNull(buffer, "buffer must not be null");
+    final byte tag = buffer.get();
+    switch (tag) {
+      case RESULT_SUCCESS:
+        return Result.success(values.decode(buffer));
+      case RESULT_FAILURE:
+        return Result.failure(errors.decode(buffer));
+      default:
+        throw new IllegalArgumentException("expected a Result, found tag " + tag);
+    }
+  }
+
+  /**
+   * Reads a {@link Completable} from the position of {@code buffer}, advancing it.
+   *
+   * @throws IllegalArgumentException if the buffer does not hold an encoded {@link Completable}
+   */
+  public Completable<E> decodeCompletable(final ByteBuffer buffer) {
+    Objects.requireNonNull(buffer, "buffer must not be null");
+    final byte tag = buffer.get();
+    switch (tag) {
+      case COMPLETABLE_SUCCESS:
+        return Completable.success();
+      case COMPLETABLE_FAILURE:
+        return Completable.failure(errors.decode(buffer));
+      default:
+        throw new IllegalArgumentException("expected a Completable, found tag " + tag);
+    }
+  }
+
+  /** The number of bytes {@link #encode(Result, ByteBuffer)} writes. */
+  public int sizeOf(final Result<V, E> result) {
+    Objects.requireNonNull(result, "result must not be null");
+    return 1
+        + (result instanceof Result.Success
+            ? values.sizeOf(result.unsafeGet())
+            : errors.sizeOf(result.unsafeGetError()));
+  }
+
+  /** The number of bytes {@link #encode(Completable, ByteBuffer)} writes. */
+  public int sizeOf(final Completable<E> completable) {
+    Objects.requireNonNull(completable, "completable must not be null");
+    return completable instanceof Completable.Success
+        ? 1
+        : 1 + errors.sizeOf(completable.unsafeGetError());
+  }
+
+  /** Writes an {@code int} in 4 bytes, in the byte order of the buffer. */
+  public static Codec<Integer> intCodec() {
+    return IntCodec.INSTANCE;
+  }
+
+  /** Writes a {@code long} in 8 bytes, in the byte order of the buffer. */
+  public static Codec<Long> longCodec() {
+    return LongCodec.INSTANCE;
+  }
+
+  /** Writes a {@link String} as its UTF-8 length in 4 bytes, followed by its UTF-8 bytes. */
+  public static Codec<String> stringCodec() {
+    return StringCodec.INSTANCE;
+  }
+
+  /** Writes nothing. */
+  public static Codec<Done> doneCodec() {
+    return DoneCodec.INSTANCE;
+  }
+
+  @Override
+  public String toString() {
+    return "ResultCodec[values=" + values + ", errors=" + errors + "]";
+  }
+
+  /**
+   * Writes and reads values of one type. Implementations must write exactly {@link #sizeOf} bytes
+   * and read back exactly as many.
+   *
+   * @param <T> the type of encoded values
+   */
+  public interface Codec<T> {
+
+    void encode(T value, ByteBuffer buffer);
+
+    T decode(ByteBuffer buffer);
+
+    int sizeOf(T value);
+  }
+
+  private enum IntCodec implements Codec<Integer> {
+    INSTANCE;
+
+    @Override
+    public void encode(final Integer value, final ByteBuffer buffer) {
+      buffer.putInt(value);
+    }
+
+    @Override
+    public Integer decode(final ByteBuffer buffer) {
+      return buffer.getInt();
+    }
+
+    @Override
+    public int sizeOf(final Integer value) {
+      return Integer.BYTES;
+    }
+  }
+
+  private enum LongCodec implements Codec<Long> {
+    INSTANCE;
+
+    @Override
+    public void encode(final Long value, final ByteBuffer buffer) {
+      buffer.putLong(value);
+    }
+
+    @Override
+    public Long decode(final ByteBuffer buffer) {
+      return buffer.getLong();
+    }
+
+    @Override
+    public int sizeOf(final Long value) {
+      return Long.BYTES;
+    }
+  }
+
+  private enum DoneCodec implements Codec<Done> {
+    INSTANCE;
+
+    @Override
+    public void encode(final Done value, final ByteBuffer buffer) {}
+
+    @Override
+    public Done decode(final ByteBuffer buffer) {
+      return Done.DONE;
+    }
+
+    @Override
+    public int sizeOf(final Done value) {
+      return 0;
+    }
+  }
+
+  /** Encodes characters one by one, so that no intermediate byte array is needed. */
+  private enum StringCodec implements Codec<String> {
+    INSTANCE;
+
+    @Override
+    public void encode(final String value, final ByteBuffer buffer) {
+      buffer.putInt(utf8Length(value));
+      for (int i = 0; i < value.length(); i++) {
+        final char c = value.charAt(i);
+        if (c < 0x80) {
+          buffer.put((byte) c);
+        } else if (c < 0x800) {
+          buffer.put((byte) (0xC0 | c >> 6));
+          buffer.put((byte) (0x80 | c & 0x3F));
+        } else if (Character.isHighSurrogate(c)
+            && i + 1 < value.length()
+            && Character.isLowSurrogate(value.charAt(i + 1))) {
+          final int cp = Character.toCodePoint(c, value.charAt(++i));
+          buffer.put((byte) (0xF0 | cp >> 18));
+          buffer.put((byte) (0x80 | cp >> 12 & 0x3F));
+          buffer.put((byte) (0x80 | cp >> 6 & 0x3F));
+          buffer.put((byte) (0x80 | cp & 0x3F));
+        } else if (Character.isSurrogate(c)) {
+          buffer.put((byte) '?');
+        } else {
+          buffer.put((byte) (0xE0 | c >> 12));
+          buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+          buffer.put((byte) (0x80 | c & 0x3F));
+        }
+      }
+    }
+
+    @Override
+    public String decode(final ByteBuffer buffer) {
+      final int length = buffer.getInt();
+      if (length < 0 || length > buffer.remaining()) {
+        throw new IllegalArgumentException("invalid string length " + length);
+      }
+
+      final String value;
+      if (buffer.hasArray()) {
+        value =
+            new String(
+                buffer.array(),
+                buffer.arrayOffset() + buffer.position(),
+                length,
+                StandardCharsets.UTF_8);
+      } else {
+        final ByteBuffer slice = buffer.slice();
+        ((Buffer) slice).limit(length);
+        value = StandardCharsets.UTF_8.decode(slice).toString();
+      }
+      // Buffer, not ByteBuffer, whose covariant override is missing on Java 8
+      ((Buffer) buffer).position(buffer.position() + length);
+      return value;
+    }
+
+    @Override
+    public int sizeOf(final String value) {
+      return Integer.BYTES + utf8Length(value);
+    }
+
+    private static int utf8Length(final String value) {
+      int length = 0;
+      for (int i = 0; i < value.length(); i++) {
+        final char c = value.charAt(i);
+        if (c < 0x80) {
+          length += 1;
+        } else if (c < 0x800) {
+          length += 2;
+        } else if (Character.isHighSurrogate(c)
+            && i + 1 < value.length()
+            && Character.isLowSurrogate(value.charAt(i + 1))) {
+          length += 4;
+          i++;
+        } else if (Character.isSurrogate(c)) {
+          length += 1;
+        } else {
+          length += 3;
+        }
+      }
+      return length;
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.github.hekmekk.result4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+/**
+ * {@link Collector}s which combine a stream of {@link Result}s into a single value.
+ *
+ * <p>All of them respect the encounter order of the stream and may be used with parallel streams. A
+ * {@link Collector} cannot stop the stream feeding it, so elements after the first failure are
+ * still consumed; {@link #sequence()} and {@link #accumulate()} however stop collecting values as
+ * soon as the outcome is known to be a failure.
+ */
+public final class ResultCollectors {
+
+  private ResultCollectors() {}
+
+  /**
+   * Collects all success values, or the first error in encounter order.
+   *
+   * @param <V> the type of success value
+   * @param <E> the type of the failure error
+   */
+  public static <V, E> Collector<Result<V, E>, ?, Result<List<V>, E>> sequence() {
+    return Collector.of(Sequence<V, E>::new, Sequence::add, Sequence::combine, Sequence::toResult);
+  }
+
+  /**
+   * Collects all success values and all errors, each in encounter order.
+   *
+   * @param <V> the type of success value
+   * @param <E> the type of the failure error
+   */
+  public static <V, E> Collector<Result<V, E>, ?, Partition<V, E>> partition() {
+    return Collector.of(Partition<V, E>::new, Partition::add, Partition::combine);
+  }
+
+  /**
+   * Collects all success values if there are no errors, or all errors otherwise.
+   *
+   * @param <V> the type of success value
+   * @param <E> the type of the failure error
+   */
+  public static <V, E> Collector<Result<V, E>, ?, Result<List<V>, List<E>>> accumulate() {
+    return Collector.of(
+        Accumulation<V, E>::new, Accumulation::add, Accumulation::combine, Accumulation::toResult);
+  }
+
+  /**
+   * The success values and errors of a stream of {@link Result}s.
+   *
+   * @param <V> the type of success value
+   * @param <E> the type of the failure error
+   */
+  public static final class Partition<V, E> {
+
+    private final List<V> successes = new ArrayList<>();
+
+    private final List<E> failures = new ArrayList<>();
+
+    private Partition() {}
+
+    public List<V> successes() {
+      return successes;
+    }
+
+    public List<E> failures() {
+      return failures;
+    }
+
+    private void add(final Result<V, E> r) {
+      if (r instanceof Result.Success) {
+        successes.add(r.unsafeGet());
+      } else {
+        failures.add(r.unsafeGetError());
+      }
+    }
+
+    private Partition<V, E> combine(final Partition<V, E> other) {
+      successes.addAll(other.successes);
+      failures.addAll(other.failures);
+      return this;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(successes, failures);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return (obj == this)
+          || (obj instanceof Partition)
+              && successes.equals(((Partition) obj).successes)
+              && failures.equals(((Partition) obj).failures);
+    }
+
+    @Override
+    public String toString() {
+      return "Partition[successes=" + successes + ", failures=" + failures + "]";
+    }
+  }
+
+  private static final class Sequence<V, E> {
+
+    private List<V> values = new ArrayList<>();
+
+    private E error;
+
+    void add(final Result<V, E> r) {
+      if (error != null) {
+        return;
+      }
+
+      if (r instanceof Result.Success) {
+        values.add(r.unsafeGet());
+      } else {
+        error = r.unsafeGetError();
+        values = null;
+      }
+    }
+
+    Sequence<V, E> combine(final Sequence<V, E> other) {
+      if (error != null) {
+        return this;
+      }
+
+      if (other.error != null) {
+        return other;
+      }
+
+      values.addAll(other.values);
+      return this;
+    }
+
+    Result<List<V>, E> toResult() {
+      return error != null ? Result.failure(error) : Result.success(values);
+    }
+  }
+
+  private static final class Accumulation<V, E> {
+
+    private List<V> values = new ArrayList<>();
+
+    private List<E> errors;
+
+    void add(final Result<V, E> r) {
+      if (r instanceof Result.Success) {
+        if (errors == null) {
+          values.add(r.unsafeGet());
+        }
+      } else {
+        if (errors == null) {
+          errors = new ArrayList<>();
+          values = null;
+        }
+        errors.add(r.unsafeGetError());
+      }
+    }
+
+    Accumulation<V, E> combine(final Accumulation<V, E> other) {
+      if (other.errors == null) {
+        if (errors == null) {
+          values.addAll(other.values);
+        }
+        return this;
+      }
+
+      if (errors == null) {
+        return other;
+      }
+
+      errors.addAll(other.errors);
+      return this;
+    }
+
+    Result<List<V>, List<E>> toResult() {
+      return errors != null ? Result.failure(errors) : Result.success(values);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.github.hekmekk.result4j;
+
+/**
+ * Emits JDK Flight Recorder events for {@link Result#of} and {@link Completable#of}.
+ *
+ * <p>The events are defined by {@code JfrEvents}, which only exists in the Java 11 part of the
+ * multi-release jar, so that the base classes never refer to {@code jdk.jfr}. This class loads it
+ * reflectively. On older JVMs, on JVMs without Flight Recorder, or if the system property {@code
+ * result4j.jfr} is {@code false}, every method is a no-op on a constant, which the JIT removes
+ * entirely.
+ */
+final class ResultEvents {
+
+  private static final Sink SINK = load();
+
+  private ResultEvents() {}
+
+  private static Sink load() {
+    if (!Boolean.parseBoolean(System.getProperty("result4j.jfr", "true"))) {
+      return null;
+    }
+
+    try {
+      Class.forName("jdk.jfr.Event", false, ResultEvents.class.getClassLoader());
+      return (Sink)
+          Class.forName("com.github.hekmekk.result4j.JfrEvents")
+              .getDeclaredConstructor()
+              .newInstance();
+    } catch (Throwable t) {
+      return null;
+    }
+  }
+
+  /** Returns a started event if slow calls are recorded, and {@code null} otherwise. */
+  static Object begin() {
+    return SINK != null ? SINK.begin() : null;
+  }
+
+  /** Ends an event returned by {@link #begin()}. */
+  static void end(final Object event, final String operation) {
+    if (event != null) {
+      SINK.end(event, operation);
+    }
+  }
+
+  static void failure(final Throwable t, final String operation) {
+    if (SINK != null) {
+      SINK.failure(t, operation);
+    }
+  }
+
+  /** Implemented by {@code JfrEvents}. */
+  interface Sink {
+
+    Object begin();
+
+    void end(Object event, String operation);
+
+    void failure(Throwable t, String operation);
+  }
+}
@@ -0,0 +1,136 @@
+package com.github.hekmekk.result4j;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * An {@link ExecutorService} facade which runs {@link CheckedSupplier}s and {@link
+ * CheckedRunnable}s and hands back {@link Result}s and {@link Completable}s.
+ *
+ * <p>Tasks are wrapped in {@link Result#of} and {@link Completable#of} before they are submitted,
+ * so the returned futures never complete with an {@link java.util.concurrent.ExecutionException}. A
+ * failed task costs exactly the exception it threw.
+ *
+ * <p>On Java 21 and later, {@link #create} runs every task on its own virtual thread. Older JVMs
+ * fall back to the given pool.
+ */
+public final class ResultExecutorService implements AutoCloseable {
+
+  private final ExecutorService delegate;
+
+  private final boolean virtual;
+
+  private ResultExecutorService(final ExecutorService delegate, final boolean virtual) {
+    this.delegate = delegate;
+    this.virtual = virtual;
+  }
+
+  /**
+   * Uses virtual threads where available, and a fixed pool with one thread per available processor
+   * otherwise.
+   */
+  public static ResultExecutorService create() {
+    return create(() -> Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()));
+  }
+
+  /** Uses virtual threads where available, and the pool provided by {@code fallback} otherwise. */
+  public static ResultExecutorService create(final Supplier<ExecutorService> fallback) {
+    Objects.requireNonNull(fallback, "fallback must not be null");
+    final ExecutorService virtual = VirtualThreads.newExecutor();
+    if (virtual != null) {
+      return new ResultExecutorService(virtual, true);
+    }
+
+    return wrap(Objects.requireNonNull(fallback.get(), "fallback must not supply null"));
+  }
+
+  /** Runs all tasks on the given executor. */
+  public static ResultExecutorService wrap(final ExecutorService executor) {
+    Objects.requireNonNull(executor, "executor must not be null");
+    return new ResultExecutorService(executor, false);
+  }
+
+  public <V> Future<Result<V, Throwable>> supply(final CheckedSupplier<V> s) {
+    Objects.requireNonNull(s, "s must not be null");
+    return delegate.submit(() -> Result.of(s));
+  }
+
+  public Future<Completable<Throwable>> run(final CheckedRunnable r) {
+    Objects.requireNonNull(r, "r must not be null");
+    return delegate.submit(() -> Completable.of(r));
+  }
+
+  public boolean usesVirtualThreads() {
+    return virtual;
+  }
+
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  public boolean awaitTermination(final long timeout, final TimeUnit unit)
+      throws InterruptedException {
+    return delegate.awaitTermination(timeout, unit);
+  }
+
+  /**
+   * Stops accepting new tasks and waits for the submitted ones to finish, like {@code
+   * ExecutorService.close()} does on Java 19 and later. If the calling thread is interrupted while
+   * waiting, the running tasks are interrupted, the wait goes on, and the interrupt status is
+   * restored before returning.
+   */
+  @Override
+  public void close() {
+    boolean terminated = delegate.isTerminated();
+    if (terminated) {
+      return;
+    }
+
+    delegate.shutdown();
+    boolean interrupted = false;
+    while (!terminated) {
+      try {
+        terminated = delegate.awaitTermination(1, TimeUnit.DAYS);
+      } catch (InterruptedException e) {
+        if (!interrupted) {
+          delegate.shutdownNow();
+          interrupted = true;
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Looks up {@code Executors.newVirtualThreadPerTaskExecutor()} without requiring Java 21. */
+  private static final class VirtualThreads {
+
+    private static final Method FACTORY = lookup();
+
+    private static Method lookup() {
+      try {
+        return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      } catch (NoSuchMethodException e) {
+        return null;
+      }
+    }
+
+    static ExecutorService newExecutor() {
+      if (FACTORY == null) {
+        return null;
+      }
+
+      try {
+        return (ExecutorService) FACTORY.invoke(null);
+      } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+        return null;
+      }
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package com.github.hekmekk.result4j;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A description of a computation which results in a {@link Result}, evaluated by {@link #run()} in
+ * a loop which uses constant stack space.
+ *
+ * <p>{@link Result#flatMap} calls its function right away, so a recursive chain, e.g. one which
+ * follows the pages of a paginated API, grows the stack with every step. {@link #flatMap} and
+ * {@link #recoverWith} only record a step instead; {@link #run()} keeps the steps still to be
+ * applied on the heap, so that neither long nor deeply nested chains can overflow the stack:
+ *
+ * <pre>{@code
+ * ResultIO<List<Item>, IOException> fetchAll(String cursor, List<Item> items) {
+ *   return ResultIO.defer(() -> fetchPage(cursor))
+ *       .flatMap(page -> page.next() == null
+ *           ? ResultIO.success(append(items, page))
+ *           : fetchAll(page.next(), append(items, page)));
+ * }
+ * }</pre>
+ *
+ * <p>Unlike {@link LazyResult}, a {@link ResultIO} is not memoized: every call of {@link #run()}
+ * evaluates it again. Descriptions are immutable and may be shared between threads. If one of the
+ * functions passed to the combinators throws, the exception is passed on to the caller of {@link
+ * #run()}, just like it would be thrown from the corresponding method of {@link Result}.
+ *
+ * @param <V> the type of success value
+ * @param <E> the type of the failure error
+ */
+public final class ResultIO<V, E> {
+
+  private static final byte PURE = 0;
+
+  private static final byte SUSPEND = 1;
+
+  private static final byte FLAT_MAP = 2;
+
+  private static final byte RECOVER_WITH = 3;
+
+  private final byte kind;
+
+  /** The {@link Result}, {@link Supplier} or {@link Function}, depending on {@link #kind}. */
+  private final Object value;
+
+  /** The computation the function of a {@link #FLAT_MAP} or {@link #RECOVER_WITH} applies to. */
+  private final ResultIO<?, ?> source;
+
+  private ResultIO(final byte kind, final Object value, final ResultIO<?, ?> source) {
+    this.kind = kind;
+    this.value = value;
+    this.source = source;
+  }
+
+  public static <V, E> ResultIO<V, E> from(final Result<V, E> result) {
+    Objects.requireNonNull(result, "result must not be null");
+    return new ResultIO<>(PURE, result, null);
+  }
+
+  public static <V, E> ResultIO<V, E> success(final V value) {
+    return from(Result.success(value));
+  }
+
+  public static <V, E> ResultIO<V, E> failure(final E error) {
+    return from(Result.failure(error));
+  }
+
+  /** Describes calling {@code s}, like {@link Result#of(CheckedSupplier)}, on each run. */
+  public static <V> ResultIO<V, Throwable> of(final CheckedSupplier<V> s) {
+    Objects.requireNonNull(s, "s must not be null");
+    return defer(() -> from(Result.of(s)));
+  }
+
+  /** Describes the computation returned by {@code s}, which is called on each run. */
+  public static <V, E> ResultIO<V, E> defer(final Supplier<? extends ResultIO<V, E>> s) {
+    Objects.requireNonNull(s, "s must not be null");
+    return new ResultIO<>(SUSPEND, s, null);
+  }
+
+  /**
+   * Applies {@code f} to {@code initial}, and then again to each value it asks to {@link Step#loop}
+   * with, until it is {@link Step#done} or fails. The loop runs in constant stack space, however
+   * many steps it takes.
+   */
+  public static <A, V, E> ResultIO<V, E> tailRecM(
+      final A initial, final Function<? super A, ? extends ResultIO<Step<A, V>, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return defer(() -> f.apply(initial))
+        .flatMap(step -> step.done ? success(step.value()) : tailRecM(step.next(), f));
+  }
+
+  /**
+   * Like {@link #tailRecM}, for a function which returns plain {@link Result}s. The loop runs right
+   * away.
+   */
+  public static <A, V, E> Result<V, E> loop(
+      final A initial, final Function<? super A, ? extends Result<Step<A, V>, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    A a = initial;
+    for (; ; ) {
+      final Result<Step<A, V>, E> r = f.apply(a);
+      if (r instanceof Result.Failure) {
+        return Result.failure(r.unsafeGetError());
+      }
+      final Step<A, V> step = r.unsafeGet();
+      if (step.done) {
+        return Result.success(step.value());
+      }
+      a = step.next();
+    }
+  }
+
+  public <U> ResultIO<U, E> flatMap(final Function<? super V, ? extends ResultIO<U, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return new ResultIO<>(FLAT_MAP, f, this);
+  }
+
+  public <U> ResultIO<U, E> map(final Function<? super V, ? extends U> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return flatMap(v -> success(f.apply(v)));
+  }
+
+  public ResultIO<V, E> recoverWith(final Function<? super E, ? extends ResultIO<V, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return new ResultIO<>(RECOVER_WITH, f, this);
+  }
+
+  public ResultIO<V, E> recover(final Function<? super E, ? extends V> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return recoverWith(e -> success(f.apply(e)));
+  }
+
+  /** Evaluates the computation. */
+  @SuppressWarnings("unchecked")
+  public Result<V, E> run() {
+    final Deque<ResultIO<?, ?>> pending = new ArrayDeque<>();
+    ResultIO<?, ?> current = this;
+    for (; ; ) {
+      switch (current.kind) {
+        case FLAT_MAP:
+        case RECOVER_WITH:
+          pending.push(current);
+          current = current.source;
+          continue;
+        case SUSPEND:
+          current =
+              Objects.requireNonNull(
+                  ((Supplier<? extends ResultIO<?, ?>>) current.value).get(),
+                  "deferred computation must not be null");
+          continue;
+        default:
+          break;
+      }
+
+      final Result<Object, Object> result = (Result<Object, Object>) current.value;
+      final boolean success = result instanceof Result.Success;
+      ResultIO<?, ?> next = null;
+      while (next == null) {
+        final ResultIO<?, ?> step = pending.poll();
+        if (step == null) {
+          return (Result<V, E>) result;
+        }
+        if (success == (step.kind == FLAT_MAP)) {
+          final Function<Object, ? extends ResultIO<?, ?>> f =
+              (Function<Object, ? extends ResultIO<?, ?>>) step.value;
+          next =
+              Objects.requireNonNull(
+                  f.apply(success ? result.unsafeGet() : result.unsafeGetError()),
+                  "f must not return null");
+        }
+      }
+      current = next;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return kind == PURE ? "ResultIO[" + value + "]" : "ResultIO[?]";
+  }
+
+  /**
+   * The outcome of one iteration of {@link #tailRecM} or {@link #loop}: either another iteration
+   * with a new value, or the final value.
+   *
+   * @param <A> the type of the loop value
+   * @param <V> the type of the final value
+   */
+  public static final class Step<A, V> {
+
+    private final boolean done;
+
+    private final Object value;
+
+    private Step(final boolean done, final Object value) {
+      this.done = done;
+      this.value = value;
+    }
+
+    public static <A, V> Step<A, V> loop(final A next) {
+      Objects.requireNonNull(next, "next must not be null");
+      return new Step<>(false, next);
+    }
+
+    public static <A, V> Step<A, V> done(final V value) {
+      Objects.requireNonNull(value, "value must not be null");
+      return new Step<>(true, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private A next() {
+      return (A) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value() {
+      return (V) value;
+    }
+
+    @Override
+    public String toString() {
+      return done ? "Step[done=" + value + "]" : "Step[loop=" + value + "]";
+    }
+  }
+}
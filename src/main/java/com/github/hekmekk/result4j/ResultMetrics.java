@@ -0,0 +1,267 @@
+package com.github.hekmekk.result4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts successes and failures, by error type, and measures latency of {@link Result#of} and
+ * {@link Completable#of} calls made through a named {@link Site}.
+ *
+ * <p>Instrumentation is opt-in: only calls made through {@link Site#of} are recorded. All counters
+ * are {@link LongAdder}s, so concurrent calls at the same site do not contend with each other, and
+ * the counter of an error type is found through a {@link ClassValue} rather than a map lookup.
+ * Reading the counters with {@link #snapshot()} or {@link #export} never blocks recording.
+ *
+ * <pre>{@code
+ * final ResultMetrics metrics = ResultMetrics.create();
+ * final ResultMetrics.Site lookup = metrics.site("user-lookup");
+ * final Result<User, Throwable> user = lookup.of(() -> repository.find(id));
+ * }</pre>
+ */
+public final class ResultMetrics {
+
+  private final ConcurrentMap<String, Site> sites = new ConcurrentHashMap<>();
+
+  private final LongSupplier ticker;
+
+  private ResultMetrics(final LongSupplier ticker) {
+    this.ticker = ticker;
+  }
+
+  public static ResultMetrics create() {
+    return new ResultMetrics(System::nanoTime);
+  }
+
+  static ResultMetrics create(final LongSupplier ticker) {
+    return new ResultMetrics(ticker);
+  }
+
+  /** The site called {@code name}, created on first use. */
+  public Site site(final String name) {
+    Objects.requireNonNull(name, "name must not be null");
+    return sites.computeIfAbsent(name, Site::new);
+  }
+
+  /** The current counts of all sites, ordered by name. */
+  public List<Snapshot> snapshot() {
+    final List<Snapshot> snapshots = new ArrayList<>(sites.size());
+    for (Site site : sites.values()) {
+      snapshots.add(site.snapshot());
+    }
+    snapshots.sort((a, b) -> a.site().compareTo(b.site()));
+    return Collections.unmodifiableList(snapshots);
+  }
+
+  /** Hands the current counts of all sites to {@code exporter}. */
+  public void export(final Exporter exporter) {
+    Objects.requireNonNull(exporter, "exporter must not be null");
+    exporter.export(snapshot());
+  }
+
+  @Override
+  public String toString() {
+    return "ResultMetrics" + snapshot();
+  }
+
+  /**
+   * Receives {@link Snapshot}s, e.g. to publish them to a monitoring system. Counts are cumulative
+   * since the creation of each site, so exporters which need rates keep the previous snapshot.
+   */
+  @FunctionalInterface
+  public interface Exporter {
+
+    void export(List<Snapshot> snapshots);
+  }
+
+  /** A named call site. Its counters are shared by all threads calling through it. */
+  public final class Site {
+
+    /** Latencies are bucketed by powers of two: bucket {@code i} holds latencies below 2^i ns. */
+    private static final int BUCKETS = 64;
+
+    private final String name;
+
+    private final LongAdder successes = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    private final LongAdder[] latencies = new LongAdder[BUCKETS];
+
+    private final ConcurrentMap<Class<?>, LongAdder> failuresByType = new ConcurrentHashMap<>();
+
+    private final ClassValue<LongAdder> failureCounters =
+        new ClassValue<LongAdder>() {
+          @Override
+          protected LongAdder computeValue(final Class<?> type) {
+            return failuresByType.computeIfAbsent(type, t -> new LongAdder());
+          }
+        };
+
+    private Site(final String name) {
+      this.name = name;
+      for (int i = 0; i < BUCKETS; i++) {
+        latencies[i] = new LongAdder();
+      }
+    }
+
+    public String name() {
+      return name;
+    }
+
+    public <V> Result<V, Throwable> of(final CheckedSupplier<V> s) {
+      Objects.requireNonNull(s, "s must not be null");
+      final long start = ticker.getAsLong();
+      final Result<V, Throwable> result = Result.of(s);
+      record(
+          ticker.getAsLong() - start,
+          result instanceof Result.Success ? null : result.unsafeGetError());
+      return result;
+    }
+
+    public Completable<Throwable> of(final CheckedRunnable r) {
+      Objects.requireNonNull(r, "r must not be null");
+      final long start = ticker.getAsLong();
+      final Completable<Throwable> completable = Completable.of(r);
+      record(
+          ticker.getAsLong() - start,
+          completable instanceof Completable.Success ? null : completable.unsafeGetError());
+      return completable;
+    }
+
+    private void record(final long nanos, final Throwable error) {
+      if (error == null) {
+        successes.increment();
+      } else {
+        failures.increment();
+        failureCounters.get(error.getClass()).increment();
+      }
+
+      final long latency = Math.max(0, nanos);
+      totalNanos.add(latency);
+      maxNanos.accumulate(latency);
+      latencies[BUCKETS - Long.numberOfLeadingZeros(latency)].increment();
+    }
+
+    Snapshot snapshot() {
+      final Map<Class<?>, Long> byType = new LinkedHashMap<>();
+      failuresByType.forEach((type, count) -> byType.put(type, count.sum()));
+      final long[] histogram = new long[BUCKETS];
+      for (int i = 0; i < BUCKETS; i++) {
+        histogram[i] = latencies[i].sum();
+      }
+      return new Snapshot(
+          name,
+          successes.sum(),
+          failures.sum(),
+          Collections.unmodifiableMap(byType),
+          totalNanos.sum(),
+          maxNanos.get(),
+          histogram);
+    }
+
+    @Override
+    public String toString() {
+      return "Site[" + name + "]";
+    }
+  }
+
+  /**
+   * The counts of one {@link Site} at some point in time. Counters are read one after the other
+   * while calls may still be recorded, so they need not add up exactly.
+   */
+  public static final class Snapshot {
+
+    private final String site;
+
+    private final long successes;
+
+    private final long failures;
+
+    private final Map<Class<?>, Long> failuresByType;
+
+    private final long totalNanos;
+
+    private final long maxNanos;
+
+    private final long[] latencyHistogram;
+
+    private Snapshot(
+        final String site,
+        final long successes,
+        final long failures,
+        final Map<Class<?>, Long> failuresByType,
+        final long totalNanos,
+        final long maxNanos,
+        final long[] latencyHistogram) {
+      this.site = site;
+      this.successes = successes;
+      this.failures = failures;
+      this.failuresByType = failuresByType;
+      this.totalNanos = totalNanos;
+      this.maxNanos = maxNanos;
+      this.latencyHistogram = latencyHistogram;
+    }
+
+    public String site() {
+      return site;
+    }
+
+    public long successes() {
+      return successes;
+    }
+
+    public long failures() {
+      return failures;
+    }
+
+    public Map<Class<?>, Long> failuresByType() {
+      return failuresByType;
+    }
+
+    public long totalNanos() {
+      return totalNanos;
+    }
+
+    public long maxNanos() {
+      return maxNanos;
+    }
+
+    /**
+     * The number of calls per latency bucket, where bucket {@code i} counts calls which took less
+     * than 2^i but at least 2^(i-1) nanoseconds.
+     */
+    public long[] latencyHistogram() {
+      return latencyHistogram.clone();
+    }
+
+    @Override
+    public String toString() {
+      return "Snapshot["
+          + site
+          + ", successes="
+          + successes
+          + ", failures="
+          + failures
+          + ", failuresByType="
+          + failuresByType
+          + ", totalNanos="
+          + totalNanos
+          + ", maxNanos="
+          + maxNanos
+          + "]";
+    }
+  }
+}
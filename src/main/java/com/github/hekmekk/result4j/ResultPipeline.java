@@ -0,0 +1,182 @@
+package com.github.hekmekk.result4j;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A chain of {@link Result} combinators which is recorded once and then applied to many inputs.
+ *
+ * <p>Applying a pipeline runs all stages in a single loop over plain values and only wraps the
+ * final outcome in a {@link Result}. Stages skipped because of a failure cost a comparison each.
+ * Functions passed to {@link #flatMap} and {@link #recoverWith} still return {@link Result}s of
+ * their own, which are unwrapped right away.
+ *
+ * <pre>{@code
+ * final ResultPipeline<String, Integer, String> parse =
+ *     ResultPipeline.<String, String>start()
+ *         .map(String::trim)
+ *         .flatMap(s -> s.isEmpty() ? Result.failure("empty") : Result.success(s))
+ *         .map(Integer::parseInt);
+ *
+ * final Result<Integer, String> result = parse.apply(" 42 ");
+ * }</pre>
+ *
+ * <p>Pipelines are immutable and may be shared between threads.
+ *
+ * @param <A> the type of input value
+ * @param <B> the type of success value
+ * @param <E> the type of the failure error
+ */
+public final class ResultPipeline<A, B, E> {
+
+  private static final byte MAP = 0;
+
+  private static final byte FLAT_MAP = 1;
+
+  private static final byte RECOVER = 2;
+
+  private static final byte RECOVER_WITH = 3;
+
+  private static final ResultPipeline<?, ?, ?> EMPTY =
+      new ResultPipeline<>(new byte[0], new Class<?>[0], new Function<?, ?>[0]);
+
+  private final byte[] kinds;
+
+  private final Class<?>[] errorTypes;
+
+  private final Function<?, ?>[] functions;
+
+  private ResultPipeline(
+      final byte[] kinds, final Class<?>[] errorTypes, final Function<?, ?>[] functions) {
+    this.kinds = kinds;
+    this.errorTypes = errorTypes;
+    this.functions = functions;
+  }
+
+  /** Returns a pipeline without any stages. */
+  @SuppressWarnings("unchecked")
+  public static <A, E> ResultPipeline<A, A, E> start() {
+    return (ResultPipeline<A, A, E>) EMPTY;
+  }
+
+  private <C> ResultPipeline<A, C, E> append(
+      final byte kind, final Class<?> errorType, final Function<?, ?> f) {
+    final int n = kinds.length;
+    final byte[] k = Arrays.copyOf(kinds, n + 1);
+    final Class<?>[] t = Arrays.copyOf(errorTypes, n + 1);
+    final Function<?, ?>[] fs = Arrays.copyOf(functions, n + 1);
+    k[n] = kind;
+    t[n] = errorType;
+    fs[n] = f;
+    return new ResultPipeline<>(k, t, fs);
+  }
+
+  public <C> ResultPipeline<A, C, E> flatMap(
+      final Function<? super B, ? extends Result<? extends C, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return append(FLAT_MAP, null, f);
+  }
+
+  public <C> ResultPipeline<A, C, E> map(final Function<? super B, ? extends C> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return append(MAP, null, f);
+  }
+
+  public <F extends E> ResultPipeline<A, B, E> recoverWith(
+      final Function<F, ? extends Result<? extends B, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return append(RECOVER_WITH, null, f);
+  }
+
+  public <F extends E> ResultPipeline<A, B, E> recoverWith(
+      final Class<F> errorType, final Function<F, ? extends Result<? extends B, E>> f) {
+    Objects.requireNonNull(errorType, "errorType must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    return append(RECOVER_WITH, errorType, f);
+  }
+
+  public <F extends E> ResultPipeline<A, B, E> recover(final Function<F, ? extends B> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return append(RECOVER, null, f);
+  }
+
+  public <F extends E> ResultPipeline<A, B, E> recover(
+      final Class<F> errorType, final Function<F, ? extends B> f) {
+    Objects.requireNonNull(errorType, "errorType must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    return append(RECOVER, errorType, f);
+  }
+
+  /** Runs all stages, starting with {@code input} as success value. */
+  public Result<B, E> apply(final A input) {
+    Objects.requireNonNull(input, "input must not be null");
+    return run(input, null, null);
+  }
+
+  /** Runs all stages, starting with {@code input}. Suitable for {@link Result#transform}. */
+  public Result<B, E> applyTo(final Result<? extends A, E> input) {
+    Objects.requireNonNull(input, "input must not be null");
+    if (input instanceof Result.Success) {
+      return run(input.unsafeGet(), null, null);
+    }
+    return run(null, input.unsafeGetError(), input);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Result<B, E> run(final Object input, final Object inputError, final Result<?, E> source) {
+    Object value = input;
+    Object error = inputError;
+    for (int i = 0; i < kinds.length; i++) {
+      final Function<Object, Object> f = (Function<Object, Object>) functions[i];
+      switch (kinds[i]) {
+        case MAP:
+          if (error == null) {
+            value = Objects.requireNonNull(f.apply(value), "value must not be null");
+          }
+          break;
+        case FLAT_MAP:
+          if (error == null) {
+            final Result<?, ?> r = (Result<?, ?>) f.apply(value);
+            if (r instanceof Result.Success) {
+              value = r.unsafeGet();
+            } else {
+              value = null;
+              error = r.unsafeGetError();
+            }
+          }
+          break;
+        case RECOVER:
+          if (error != null && (errorTypes[i] == null || errorTypes[i].isInstance(error))) {
+            value = Objects.requireNonNull(f.apply(error), "value must not be null");
+            error = null;
+          }
+          break;
+        default:
+          if (error != null && (errorTypes[i] == null || errorTypes[i].isInstance(error))) {
+            final Result<?, ?> r = (Result<?, ?>) f.apply(error);
+            if (r instanceof Result.Success) {
+              value = r.unsafeGet();
+              error = null;
+            } else {
+              error = r.unsafeGetError();
+            }
+          }
+          break;
+      }
+    }
+
+    if (error == null) {
+      return Result.success((B) value);
+    }
+    if (source != null && error == inputError) {
+      return (Result<B, E>) source;
+    }
+    return Result.failure((E) error);
+  }
+
+  @Override
+  public String toString() {
+    return "ResultPipeline[stages=" + kinds.length + "]";
+  }
+}
@@ -0,0 +1,75 @@
+package com.github.hekmekk.result4j;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Operations on {@link Stream}s of {@link Result}s.
+ *
+ * <p>{@code results.flatMap(Result::stream)} creates a stream for every element; the methods here
+ * filter and unwrap each element in place instead, without allocating per element.
+ */
+public final class ResultStreams {
+
+  private ResultStreams() {}
+
+  /** Returns the success values of {@code results}, in encounter order. */
+  public static <V, E> Stream<V> successes(final Stream<? extends Result<V, E>> results) {
+    Objects.requireNonNull(results, "results must not be null");
+    return results.filter(r -> r instanceof Result.Success).map(Result::unsafeGet);
+  }
+
+  /** Returns the errors of {@code results}, in encounter order. */
+  public static <V, E> Stream<E> failures(final Stream<? extends Result<V, E>> results) {
+    Objects.requireNonNull(results, "results must not be null");
+    return results.filter(r -> r instanceof Result.Failure).map(Result::unsafeGetError);
+  }
+
+  /** A {@link Spliterator} over a single, non-null value. */
+  static <V> Spliterator<V> single(final V value) {
+    return new Single<>(value);
+  }
+
+  private static final class Single<V> implements Spliterator<V> {
+
+    private V value;
+
+    Single(final V value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super V> action) {
+      Objects.requireNonNull(action, "action must not be null");
+      final V v = value;
+      if (v == null) {
+        return false;
+      }
+      value = null;
+      action.accept(v);
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super V> action) {
+      tryAdvance(action);
+    }
+
+    @Override
+    public Spliterator<V> trySplit() {
+      return null;
+    }
+
+    @Override
+    public long estimateSize() {
+      return value == null ? 0 : 1;
+    }
+
+    @Override
+    public int characteristics() {
+      return SIZED | SUBSIZED | IMMUTABLE | NONNULL | ORDERED;
+    }
+  }
+}
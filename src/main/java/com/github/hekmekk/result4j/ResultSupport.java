@@ -0,0 +1,159 @@
+package com.github.hekmekk.result4j;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The logic behind {@link Result} and {@link Completable}, shared by their Java 8 classes and their
+ * Java 17 records, which only declare the cases and delegate here.
+ */
+final class ResultSupport {
+
+  private static final int INTEGER_CACHE_LOW = -128;
+
+  private static final int INTEGER_CACHE_HIGH = 127;
+
+  private static final int TRUE = INTEGER_CACHE_HIGH - INTEGER_CACHE_LOW + 1;
+
+  private static final int FALSE = TRUE + 1;
+
+  private static final int DONE = FALSE + 1;
+
+  /** The number of success values backed by shared instances, see {@link #sharedIndex}. */
+  static final int SHARED_SUCCESSES = DONE + 1;
+
+  private ResultSupport() {}
+
+  /**
+   * Calls {@code s}, trimming the stack trace of a caught throwable unless {@code capture} is null.
+   */
+  static <V> Result<V, Throwable> of(final CheckedSupplier<V> s, final StackCapture capture) {
+    final Object event = ResultEvents.begin();
+    Result<V, Throwable> result;
+    try {
+      result = Result.success(s.get());
+    } catch (Throwable t) {
+      ResultEvents.failure(t, "Result.of");
+      result = Result.failure(capture == null ? t : capture.apply(t));
+    }
+    ResultEvents.end(event, "Result.of");
+    return result;
+  }
+
+  /**
+   * Runs {@code r}, trimming the stack trace of a caught throwable unless {@code capture} is null.
+   */
+  static Completable<Throwable> run(final CheckedRunnable r, final StackCapture capture) {
+    final Object event = ResultEvents.begin();
+    Completable<Throwable> completable;
+    try {
+      r.run();
+      completable = Completable.success();
+    } catch (Throwable t) {
+      ResultEvents.failure(t, "Completable.of");
+      completable = Completable.failure(capture == null ? t : capture.apply(t));
+    }
+    ResultEvents.end(event, "Completable.of");
+    return completable;
+  }
+
+  /**
+   * Returns the index of the shared success instance for {@code value}, or {@code -1} if there is
+   * none. {@link Done#DONE}, {@link Boolean}s and {@link Integer}s between -128 and 127 are shared.
+   */
+  static int sharedIndex(final Object value) {
+    if (value instanceof Integer) {
+      final int i = (Integer) value;
+      if (i >= INTEGER_CACHE_LOW && i <= INTEGER_CACHE_HIGH) {
+        return i - INTEGER_CACHE_LOW;
+      }
+    } else if (value instanceof Boolean) {
+      return (Boolean) value ? TRUE : FALSE;
+    } else if (value == Done.DONE) {
+      return DONE;
+    }
+    return -1;
+  }
+
+  /** Returns the value of the shared success instance at {@code index}. */
+  static Object sharedValue(final int index) {
+    switch (index) {
+      case TRUE:
+        return Boolean.TRUE;
+      case FALSE:
+        return Boolean.FALSE;
+      case DONE:
+        return Done.DONE;
+      default:
+        return index + INTEGER_CACHE_LOW;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  static <U, V, E> Result<U, E> flatMap(
+      final V value, final Function<? super V, ? extends Result<? extends U, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return (Result<U, E>) f.apply(value);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <V, E, F extends E> Result<V, E> recoverWith(
+      final E error, final Function<F, ? extends Result<? extends V, E>> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return (Result<V, E>) f.apply((F) error);
+  }
+
+  /** Applies {@code f} to the error of {@code failure} if it is a {@code errorType}. */
+  @SuppressWarnings("unchecked")
+  static <V, E, F extends E> Result<V, E> recoverWith(
+      final Result<V, E> failure,
+      final Class<F> errorType,
+      final Function<F, ? extends Result<? extends V, E>> f) {
+    Objects.requireNonNull(errorType, "errorClazz must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    final E error = failure.unsafeGetError();
+    if (errorType.isAssignableFrom(error.getClass())) {
+      return (Result<V, E>) f.apply((F) error);
+    }
+
+    return failure;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <E, F extends E> Completable<E> recoverWith(
+      final Completable<E> failure,
+      final Class<F> errorType,
+      final Function<F, ? extends Completable<E>> f) {
+    Objects.requireNonNull(errorType, "errorClazz must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    final E error = failure.unsafeGetError();
+    if (errorType.isAssignableFrom(error.getClass())) {
+      return f.apply((F) error);
+    }
+
+    return failure;
+  }
+
+  /** Returns an {@link Iterator} over {@code value} alone. */
+  static <V> Iterator<V> iterator(final V value) {
+    return new Iterator<V>() {
+      private boolean more = true;
+
+      @Override
+      public boolean hasNext() {
+        return more;
+      }
+
+      @Override
+      public V next() {
+        if (!more) {
+          throw new NoSuchElementException();
+        }
+        more = false;
+        return value;
+      }
+    };
+  }
+}
@@ -0,0 +1,236 @@
+package com.github.hekmekk.result4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/** Combines several ways of computing the same {@link Result}. */
+public final class Results {
+
+  private Results() {}
+
+  /**
+   * Calls {@code suppliers} one after the other on {@code executor}, hedging against slow ones, and
+   * completes with the value of the first {@link Result.Success}.
+   *
+   * <p>The first supplier is called right away. Each further one is called once {@code hedgeDelay}
+   * has passed without a success since the previous one started, or as soon as the previous one
+   * fails. As soon as one succeeds, suppliers which have not started yet are skipped, and the
+   * threads running the others are interrupted. If all of them fail, the outcome is a {@link
+   * Result.Failure} with all errors, in the order of {@code suppliers}; an executor rejecting a
+   * supplier counts as its error.
+   *
+   * <p>Hedged calls are submitted to {@code executor} from the default asynchronous pool of {@link
+   * CompletableFuture}, so that an executor blocking on submission, or running tasks on the
+   * submitting thread, never holds up the shared timer thread.
+   */
+  public static <V> AsyncResult<V, List<Throwable>> firstSuccess(
+      final List<? extends CheckedSupplier<V>> suppliers,
+      final Executor executor,
+      final Duration hedgeDelay) {
+    Objects.requireNonNull(suppliers, "suppliers must not be null");
+    Objects.requireNonNull(executor, "executor must not be null");
+    final long hedgeNanos = Deadlines.toNanos(hedgeDelay);
+    if (suppliers.isEmpty()) {
+      throw new IllegalArgumentException("suppliers must not be empty");
+    }
+    final List<CheckedSupplier<V>> copy = new ArrayList<>(suppliers);
+    for (CheckedSupplier<V> s : copy) {
+      Objects.requireNonNull(s, "suppliers must not contain null");
+    }
+
+    final Race<V> race = new Race<>(copy, executor, hedgeNanos, WheelTimer.shared());
+    race.startNext();
+    return AsyncResult.from(race.future);
+  }
+
+  private static final class Race<V> {
+
+    private final List<CheckedSupplier<V>> suppliers;
+
+    private final Executor executor;
+
+    private final long hedgeNanos;
+
+    private final WheelTimer timer;
+
+    private final AtomicReferenceArray<Attempt<V>> attempts;
+
+    private final AtomicInteger started = new AtomicInteger();
+
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private final AtomicReference<Hedge> hedge = new AtomicReference<>();
+
+    private final CompletableFuture<Result<V, List<Throwable>>> future = new CompletableFuture<>();
+
+    Race(
+        final List<CheckedSupplier<V>> suppliers,
+        final Executor executor,
+        final long hedgeNanos,
+        final WheelTimer timer) {
+      this.suppliers = suppliers;
+      this.executor = executor;
+      this.hedgeNanos = hedgeNanos;
+      this.timer = timer;
+      this.attempts = new AtomicReferenceArray<>(suppliers.size());
+    }
+
+    void startNext() {
+      if (future.isDone()) {
+        return;
+      }
+      final int index = started.getAndIncrement();
+      if (index >= suppliers.size()) {
+        return;
+      }
+
+      final Attempt<V> attempt = new Attempt<>(this, suppliers.get(index));
+      attempts.set(index, attempt);
+      if (index + 1 < suppliers.size()) {
+        final Hedge next = new Hedge(this);
+        final Hedge previous = hedge.getAndSet(next);
+        if (previous != null) {
+          previous.cancel();
+        }
+        timer.schedule(next, hedgeNanos);
+      }
+
+      try {
+        executor.execute(attempt);
+      } catch (Throwable t) {
+        if (attempt.skip()) {
+          complete(attempt, Result.failure(t));
+        }
+      }
+      if (future.isDone()) {
+        cancelAll();
+      }
+    }
+
+    void complete(final Attempt<V> attempt, final Result<V, Throwable> outcome) {
+      if (outcome instanceof Result.Success) {
+        if (future.complete(Result.success(outcome.unsafeGet()))) {
+          cancelAll();
+        }
+        return;
+      }
+
+      attempt.error = outcome.unsafeGetError();
+      if (failed.incrementAndGet() == suppliers.size()) {
+        final List<Throwable> errors = new ArrayList<>(suppliers.size());
+        for (int i = 0; i < suppliers.size(); i++) {
+          errors.add(attempts.get(i).error);
+        }
+        future.complete(Result.failure(Collections.unmodifiableList(errors)));
+      } else {
+        startNext();
+      }
+    }
+
+    private void cancelAll() {
+      final Hedge h = hedge.get();
+      if (h != null) {
+        h.cancel();
+      }
+      for (int i = 0; i < attempts.length(); i++) {
+        final Attempt<V> attempt = attempts.get(i);
+        if (attempt != null) {
+          attempt.cancel();
+        }
+      }
+    }
+  }
+
+  private static final class Hedge extends WheelTimer.Timeout {
+
+    private final Race<?> race;
+
+    Hedge(final Race<?> race) {
+      this.race = race;
+    }
+
+    /** Hands the next attempt off, as {@code expire()} runs on the timer thread. */
+    @Override
+    void expire() {
+      CompletableFuture.runAsync(race::startNext);
+    }
+  }
+
+  private static final class Attempt<V> implements Runnable {
+
+    private static final int NEW = 0;
+
+    private static final int RUNNING = 1;
+
+    private static final int DONE = 2;
+
+    private static final int CANCELLED = 3;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<Attempt> STATUS =
+        AtomicIntegerFieldUpdater.newUpdater(Attempt.class, "status");
+
+    private final Race<V> race;
+
+    private final CheckedSupplier<V> s;
+
+    private volatile int status;
+
+    private volatile Thread runner;
+
+    /** Written before {@link Race#failed} is incremented, read after it reached the total. */
+    private Throwable error;
+
+    Attempt(final Race<V> race, final CheckedSupplier<V> s) {
+      this.race = race;
+      this.s = s;
+    }
+
+    @Override
+    public void run() {
+      runner = Thread.currentThread();
+      if (!STATUS.compareAndSet(this, NEW, RUNNING)) {
+        return;
+      }
+
+      final Result<V, Throwable> outcome = Result.of(s);
+      if (STATUS.compareAndSet(this, RUNNING, DONE)) {
+        race.complete(this, outcome);
+        return;
+      }
+
+      synchronized (this) {
+        Thread.interrupted();
+      }
+    }
+
+    /** Marks an attempt which never ran as done; returns {@code false} if it was cancelled. */
+    boolean skip() {
+      return STATUS.compareAndSet(this, NEW, DONE);
+    }
+
+    /**
+     * Cancels the attempt, interrupting its thread if it is running. The interrupt is sent under
+     * the lock on this attempt, which {@link #run()} takes before clearing it.
+     */
+    void cancel() {
+      if (STATUS.compareAndSet(this, NEW, CANCELLED)) {
+        return;
+      }
+      synchronized (this) {
+        if (STATUS.compareAndSet(this, RUNNING, CANCELLED)) {
+          runner.interrupt();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package com.github.hekmekk.result4j;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repeats a {@link CheckedSupplier} or {@link CheckedRunnable} according to a {@link RetryPolicy}
+ * until it succeeds, and returns the outcome of the last attempt.
+ *
+ * <p>The synchronous variants wait on the calling thread between attempts. The asynchronous
+ * variants never block a thread: every attempt runs on the given executor, and the delays are
+ * scheduled on a {@link ScheduledExecutorService}, by default a single daemon thread shared by all
+ * retries.
+ */
+public final class Retry {
+
+  private Retry() {}
+
+  /**
+   * Calls {@code s} until it succeeds or {@code policy} gives up. If the calling thread is
+   * interrupted while waiting, the last failure is returned and the interrupt flag is restored.
+   */
+  public static <V> Result<V, Throwable> of(final CheckedSupplier<V> s, final RetryPolicy policy) {
+    Objects.requireNonNull(s, "s must not be null");
+    Objects.requireNonNull(policy, "policy must not be null");
+    final long start = System.nanoTime();
+    for (int attempt = 1; ; attempt++) {
+      final Result<V, Throwable> result = Result.of(s);
+      final long delay = nextDelay(policy, start, attempt, result);
+      if (delay < 0) {
+        return result;
+      }
+
+      try {
+        TimeUnit.NANOSECONDS.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return result;
+      }
+    }
+  }
+
+  /** Like {@link #of(CheckedSupplier, RetryPolicy)}, for a {@link CheckedRunnable}. */
+  public static Completable<Throwable> of(final CheckedRunnable r, final RetryPolicy policy) {
+    Objects.requireNonNull(r, "r must not be null");
+    return Completable.from(of(asSupplier(r), policy));
+  }
+
+  /** Calls {@code s} on {@code executor}, waiting between attempts on the shared scheduler. */
+  public static <V> AsyncResult<V, Throwable> ofAsync(
+      final CheckedSupplier<V> s, final RetryPolicy policy, final Executor executor) {
+    return ofAsync(s, policy, executor, SharedScheduler.INSTANCE);
+  }
+
+  /** Calls {@code s} on {@code executor}, waiting between attempts on {@code scheduler}. */
+  public static <V> AsyncResult<V, Throwable> ofAsync(
+      final CheckedSupplier<V> s,
+      final RetryPolicy policy,
+      final Executor executor,
+      final ScheduledExecutorService scheduler) {
+    Objects.requireNonNull(s, "s must not be null");
+    Objects.requireNonNull(policy, "policy must not be null");
+    Objects.requireNonNull(executor, "executor must not be null");
+    Objects.requireNonNull(scheduler, "scheduler must not be null");
+    final CompletableFuture<Result<V, Throwable>> future = new CompletableFuture<>();
+    new AsyncAttempt<>(s, policy, executor, scheduler, future).submit();
+    return AsyncResult.from(future);
+  }
+
+  /**
+   * Like {@link #ofAsync(CheckedSupplier, RetryPolicy, Executor)}, for a {@link CheckedRunnable}.
+   */
+  public static AsyncCompletable<Throwable> ofAsync(
+      final CheckedRunnable r, final RetryPolicy policy, final Executor executor) {
+    return ofAsync(r, policy, executor, SharedScheduler.INSTANCE);
+  }
+
+  /**
+   * Like {@link #ofAsync(CheckedSupplier, RetryPolicy, Executor, ScheduledExecutorService)}, for a
+   * {@link CheckedRunnable}.
+   */
+  public static AsyncCompletable<Throwable> ofAsync(
+      final CheckedRunnable r,
+      final RetryPolicy policy,
+      final Executor executor,
+      final ScheduledExecutorService scheduler) {
+    Objects.requireNonNull(r, "r must not be null");
+    return AsyncCompletable.from(
+        ofAsync(asSupplier(r), policy, executor, scheduler)
+            .toCompletionStage()
+            .thenApply(Completable::from));
+  }
+
+  private static CheckedSupplier<Done> asSupplier(final CheckedRunnable r) {
+    return () -> {
+      r.run();
+      return Done.DONE;
+    };
+  }
+
+  /** The delay before the next attempt, or -1 if {@code result} is final. */
+  private static long nextDelay(
+      final RetryPolicy policy, final long start, final int attempt, final Result<?, Throwable> r) {
+    if (r instanceof Result.Success) {
+      return -1;
+    }
+
+    if (!policy.shouldRetry(attempt, r.unsafeGetError())) {
+      return -1;
+    }
+
+    final long delay = policy.delayNanos(attempt);
+    return policy.withinDeadline(System.nanoTime() - start, delay) ? delay : -1;
+  }
+
+  private static final class AsyncAttempt<V> implements Runnable {
+
+    private final CheckedSupplier<V> s;
+
+    private final RetryPolicy policy;
+
+    private final Executor executor;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final CompletableFuture<Result<V, Throwable>> future;
+
+    private final long start = System.nanoTime();
+
+    private int attempt;
+
+    AsyncAttempt(
+        final CheckedSupplier<V> s,
+        final RetryPolicy policy,
+        final Executor executor,
+        final ScheduledExecutorService scheduler,
+        final CompletableFuture<Result<V, Throwable>> future) {
+      this.s = s;
+      this.policy = policy;
+      this.executor = executor;
+      this.scheduler = scheduler;
+      this.future = future;
+    }
+
+    /** Hands the next attempt to the executor; a rejection fails the retry. */
+    void submit() {
+      try {
+        executor.execute(this);
+      } catch (Throwable t) {
+        future.complete(Result.failure(t));
+      }
+    }
+
+    @Override
+    public void run() {
+      if (future.isDone()) {
+        return;
+      }
+
+      final Result<V, Throwable> result = Result.of(s);
+      final long delay = nextDelay(policy, start, ++attempt, result);
+      if (delay < 0) {
+        future.complete(result);
+        return;
+      }
+
+      try {
+        scheduler.schedule(this::submit, delay, TimeUnit.NANOSECONDS);
+      } catch (Throwable t) {
+        future.complete(result);
+      }
+    }
+  }
+
+  private static final class SharedScheduler {
+
+    static final ScheduledExecutorService INSTANCE = create();
+
+    private static ScheduledExecutorService create() {
+      final ScheduledThreadPoolExecutor scheduler =
+          new ScheduledThreadPoolExecutor(
+              1,
+              r -> {
+                final Thread thread = new Thread(r, "result4j-retry");
+                thread.setDaemon(true);
+                return thread;
+              });
+      scheduler.setRemoveOnCancelPolicy(true);
+      return scheduler;
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.github.hekmekk.result4j;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Describes when and how often {@link Retry} repeats a failed call.
+ *
+ * <p>The delay before retry {@code n} grows exponentially from {@code initialDelay} by {@code
+ * multiplier}, capped at {@code maxDelay}. A {@code jitter} of {@code j} then picks the actual
+ * delay uniformly from {@code [(1 - j) * delay, delay]}, so that callers which failed at the same
+ * time do not retry at the same time. Retries stop when {@code maxAttempts} calls have been made,
+ * when the next delay would exceed the {@code deadline}, or when an error does not satisfy the
+ * policy's predicate.
+ *
+ * <p>Instances are immutable and can be shared.
+ */
+public final class RetryPolicy {
+
+  private final int maxAttempts;
+
+  private final long initialDelayNanos;
+
+  private final long maxDelayNanos;
+
+  private final double multiplier;
+
+  private final double jitter;
+
+  private final long deadlineNanos;
+
+  private final Predicate<? super Throwable> retryOn;
+
+  private RetryPolicy(final Builder builder) {
+    this.maxAttempts = builder.maxAttempts;
+    this.initialDelayNanos = builder.initialDelay.toNanos();
+    this.maxDelayNanos = builder.maxDelay.toNanos();
+    this.multiplier = builder.multiplier;
+    this.jitter = builder.jitter;
+    this.deadlineNanos = builder.deadline == null ? Long.MAX_VALUE : builder.deadline.toNanos();
+    this.retryOn = builder.retryOn == null ? t -> true : builder.retryOn;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public int maxAttempts() {
+    return maxAttempts;
+  }
+
+  /** Whether {@code error}, thrown by attempt number {@code attempt}, is worth another attempt. */
+  boolean shouldRetry(final int attempt, final Throwable error) {
+    return attempt < maxAttempts && retryOn.test(error);
+  }
+
+  /** Whether waiting {@code delayNanos} more still stays within the deadline. */
+  boolean withinDeadline(final long elapsedNanos, final long delayNanos) {
+    return deadlineNanos == Long.MAX_VALUE || elapsedNanos + delayNanos <= deadlineNanos;
+  }
+
+  /** The delay before the attempt following attempt number {@code attempt}, starting at 1. */
+  long delayNanos(final int attempt) {
+    return delayNanos(attempt, ThreadLocalRandom.current().nextDouble());
+  }
+
+  long delayNanos(final int attempt, final double random) {
+    double delay = initialDelayNanos;
+    for (int i = 1; i < attempt && delay < maxDelayNanos; i++) {
+      delay *= multiplier;
+    }
+    delay = Math.min(delay, maxDelayNanos);
+    return (long) (delay * (1 - jitter * random));
+  }
+
+  @Override
+  public String toString() {
+    return "RetryPolicy[maxAttempts="
+        + maxAttempts
+        + ", initialDelay="
+        + Duration.ofNanos(initialDelayNanos)
+        + ", maxDelay="
+        + Duration.ofNanos(maxDelayNanos)
+        + ", multiplier="
+        + multiplier
+        + ", jitter="
+        + jitter
+        + (deadlineNanos == Long.MAX_VALUE ? "" : ", deadline=" + Duration.ofNanos(deadlineNanos))
+        + "]";
+  }
+
+  /**
+   * Builds a {@link RetryPolicy}. By default a call is attempted 3 times, with delays starting at
+   * 100ms, doubling up to 10s, with full jitter and without deadline, on every error.
+   */
+  public static final class Builder {
+
+    private int maxAttempts = 3;
+
+    private Duration initialDelay = Duration.ofMillis(100);
+
+    private Duration maxDelay = Duration.ofSeconds(10);
+
+    private double multiplier = 2;
+
+    private double jitter = 1;
+
+    private Duration deadline;
+
+    private Predicate<? super Throwable> retryOn;
+
+    private Builder() {}
+
+    /** The total number of calls, including the first one. */
+    public Builder maxAttempts(final int maxAttempts) {
+      if (maxAttempts < 1) {
+        throw new IllegalArgumentException("maxAttempts must be positive");
+      }
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    public Builder backoff(
+        final Duration initialDelay, final Duration maxDelay, final double multiplier) {
+      Objects.requireNonNull(initialDelay, "initialDelay must not be null");
+      Objects.requireNonNull(maxDelay, "maxDelay must not be null");
+      if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0) {
+        throw new IllegalArgumentException("delays must satisfy 0 <= initialDelay <= maxDelay");
+      }
+      if (!(multiplier >= 1)) {
+        throw new IllegalArgumentException("multiplier must be at least 1");
+      }
+      this.initialDelay = initialDelay;
+      this.maxDelay = maxDelay;
+      this.multiplier = multiplier;
+      return this;
+    }
+
+    /** Waits {@code delay} between all attempts. */
+    public Builder fixedDelay(final Duration delay) {
+      return backoff(delay, delay, 1);
+    }
+
+    /** The fraction of each delay, between 0 and 1, which is randomized. */
+    public Builder jitter(final double jitter) {
+      if (!(jitter >= 0 && jitter <= 1)) {
+        throw new IllegalArgumentException("jitter must be between 0 and 1");
+      }
+      this.jitter = jitter;
+      return this;
+    }
+
+    /** The time budget for all attempts, measured from the start of the first one. */
+    public Builder deadline(final Duration deadline) {
+      Objects.requireNonNull(deadline, "deadline must not be null");
+      if (deadline.isNegative()) {
+        throw new IllegalArgumentException("deadline must not be negative");
+      }
+      this.deadline = deadline;
+      return this;
+    }
+
+    /** Retries errors of type {@code errorType}. May be combined with further calls. */
+    public Builder retryOn(final Class<? extends Throwable> errorType) {
+      Objects.requireNonNull(errorType, "errorType must not be null");
+      return retryIf(errorType::isInstance);
+    }
+
+    /** Retries errors satisfying {@code p}. May be combined with further calls. */
+    public Builder retryIf(final Predicate<? super Throwable> p) {
+      Objects.requireNonNull(p, "p must not be null");
+      final Predicate<? super Throwable> previous = retryOn;
+      retryOn = previous == null ? p : t -> previous.test(t) || p.test(t);
+      return this;
+    }
+
+    public RetryPolicy build() {
+      return new RetryPolicy(this);
+    }
+  }
+}
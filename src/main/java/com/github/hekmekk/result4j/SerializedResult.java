@@ -0,0 +1,77 @@
+package com.github.hekmekk.result4j;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+
+/**
+ * The serialized form of {@link Result} and {@link Completable}: a tag byte, followed by the value
+ * or error, if any. Being {@link Externalizable}, it writes neither field descriptors nor the class
+ * descriptors of the cases it stands for.
+ */
+final class SerializedResult implements Externalizable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final byte RESULT_SUCCESS = 1;
+
+  static final byte RESULT_FAILURE = 2;
+
+  static final byte COMPLETABLE_SUCCESS = 3;
+
+  static final byte COMPLETABLE_FAILURE = 4;
+
+  private byte tag;
+
+  private Object payload;
+
+  /** For deserialization only. */
+  public SerializedResult() {}
+
+  SerializedResult(final byte tag, final Object payload) {
+    this.tag = tag;
+    this.payload = payload;
+  }
+
+  static InvalidObjectException proxyRequired() {
+    return new InvalidObjectException("results are deserialized through SerializedResult");
+  }
+
+  @Override
+  public void writeExternal(final ObjectOutput out) throws IOException {
+    out.writeByte(tag);
+    if (tag != COMPLETABLE_SUCCESS) {
+      out.writeObject(payload);
+    }
+  }
+
+  @Override
+  public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+    tag = in.readByte();
+    if (tag != COMPLETABLE_SUCCESS) {
+      payload = in.readObject();
+    }
+  }
+
+  private Object readResolve() throws StreamCorruptedException {
+    if (tag != COMPLETABLE_SUCCESS && payload == null) {
+      throw new StreamCorruptedException("missing payload");
+    }
+
+    switch (tag) {
+      case RESULT_SUCCESS:
+        return Result.success(payload);
+      case RESULT_FAILURE:
+        return Result.failure(payload);
+      case COMPLETABLE_SUCCESS:
+        return Completable.success();
+      case COMPLETABLE_FAILURE:
+        return Completable.failure(payload);
+      default:
+        throw new StreamCorruptedException("unknown tag " + tag);
+    }
+  }
+}
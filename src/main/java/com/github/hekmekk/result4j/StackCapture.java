@@ -0,0 +1,71 @@
+package com.github.hekmekk.result4j;
+
+import java.util.Arrays;
+
+/**
+ * Decides how much of the stack trace of a caught {@link Throwable} a {@link Result.Failure} or
+ * {@link Completable.Failure} keeps. See {@link Result#of(CheckedSupplier, StackCapture)} and
+ * {@link Completable#of(CheckedRunnable, StackCapture)}.
+ *
+ * <p>Note that the stack is walked when a throwable is constructed, before it can be caught. A
+ * capture policy therefore bounds what a failure retains and what later logging or serialization
+ * has to process, but it cannot undo the walk itself. Errors which are expected to occur often
+ * should extend {@link StacklessException} to avoid that cost altogether.
+ */
+public final class StackCapture {
+
+  private static final StackTraceElement[] EMPTY = new StackTraceElement[0];
+
+  private static final StackCapture FULL = new StackCapture(Integer.MAX_VALUE);
+
+  private static final StackCapture SUPPRESSED = new StackCapture(0);
+
+  private final int maxDepth;
+
+  private StackCapture(final int maxDepth) {
+    this.maxDepth = maxDepth;
+  }
+
+  /** Keeps the stack trace as is. This is what {@link Result#of(CheckedSupplier)} does. */
+  public static StackCapture full() {
+    return FULL;
+  }
+
+  /**
+   * Keeps the innermost {@code maxDepth} frames. Trimming has to materialize the stack trace once,
+   * so this trades a one-off cost for a smaller footprint of long-lived failures.
+   */
+  public static StackCapture truncated(final int maxDepth) {
+    if (maxDepth < 0) {
+      throw new IllegalArgumentException("maxDepth must not be negative");
+    }
+    return maxDepth == 0 ? SUPPRESSED : new StackCapture(maxDepth);
+  }
+
+  /** Drops the stack trace without ever materializing it. */
+  public static StackCapture suppressed() {
+    return SUPPRESSED;
+  }
+
+  <T extends Throwable> T apply(final T t) {
+    if (maxDepth == 0) {
+      t.setStackTrace(EMPTY);
+    } else if (maxDepth != Integer.MAX_VALUE) {
+      final StackTraceElement[] trace = t.getStackTrace();
+      if (trace.length > maxDepth) {
+        t.setStackTrace(Arrays.copyOf(trace, maxDepth));
+      }
+    }
+    return t;
+  }
+
+  @Override
+  public String toString() {
+    if (maxDepth == 0) {
+      return "StackCapture[suppressed]";
+    }
+    return maxDepth == Integer.MAX_VALUE
+        ? "StackCapture[full]"
+        : "StackCapture[truncated=" + maxDepth + "]";
+  }
+}
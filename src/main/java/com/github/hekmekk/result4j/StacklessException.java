@@ -0,0 +1,31 @@
+package com.github.hekmekk.result4j;
+
+/**
+ * A base type for expected errors, such as rejected validations or cache misses, which neither
+ * record a stack trace nor accept suppressed exceptions.
+ *
+ * <p>Constructing one does not walk the stack, which makes throwing it about as cheap as returning
+ * a value. As instances carry no per-throw state, they may also be preallocated and shared:
+ *
+ * <pre>{@code
+ * final class NotFound extends StacklessException {
+ *   static final NotFound INSTANCE = new NotFound();
+ *
+ *   private NotFound() {
+ *     super("not found");
+ *   }
+ * }
+ * }</pre>
+ */
+public class StacklessException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  public StacklessException(final String message) {
+    super(message, null, false, false);
+  }
+
+  public StacklessException(final String message, final Throwable cause) {
+    super(message, cause, false, false);
+  }
+}
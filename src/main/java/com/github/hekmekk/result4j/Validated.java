@@ -0,0 +1,493 @@
+package com.github.hekmekk.result4j;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A container type with two possible cases: A {@link Validated} is either {@link Valid} with a
+ * value or {@link Invalid} with one or more errors.
+ *
+ * <p>Unlike {@link Result#flatMap}, which stops at the first {@link Result.Failure}, the {@code
+ * mapN} combinators and {@link #sequence} look at all of their arguments and collect the errors of
+ * every {@link Invalid} one, in argument order.
+ *
+ * @param <V> the type of valid value
+ * @param <E> the type of the errors
+ */
+public interface Validated<V, E> extends Serializable {
+
+  static <V, E> Validated<V, E> valid(V value) {
+    return new Valid<>(value);
+  }
+
+  static <V, E> Validated<V, E> invalid(E error) {
+    return new Invalid<>(Errors.of(error));
+  }
+
+  static <V, E> Validated<V, E> invalid(Errors<E> errors) {
+    return new Invalid<>(errors);
+  }
+
+  /** Converts a {@link Result} into a {@link Validated} with at most one error. */
+  static <V, E> Validated<V, E> from(Result<V, E> result) {
+    Objects.requireNonNull(result, "result must not be null");
+    return result.fold(Validated::valid, Validated::invalid);
+  }
+
+  static <A, B, E, R> Validated<R, E> map2(
+      Validated<? extends A, E> a,
+      Validated<? extends B, E> b,
+      BiFunction<? super A, ? super B, ? extends R> f) {
+    Objects.requireNonNull(a, "a must not be null");
+    Objects.requireNonNull(b, "b must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    if (a instanceof Valid && b instanceof Valid) {
+      return valid(f.apply(a.unsafeGet(), b.unsafeGet()));
+    }
+    return invalid(Errors.concat(Errors.orNull(a), Errors.orNull(b)));
+  }
+
+  static <A, B, C, E, R> Validated<R, E> map3(
+      Validated<? extends A, E> a,
+      Validated<? extends B, E> b,
+      Validated<? extends C, E> c,
+      Function3<? super A, ? super B, ? super C, ? extends R> f) {
+    Objects.requireNonNull(a, "a must not be null");
+    Objects.requireNonNull(b, "b must not be null");
+    Objects.requireNonNull(c, "c must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    if (a instanceof Valid && b instanceof Valid && c instanceof Valid) {
+      return valid(f.apply(a.unsafeGet(), b.unsafeGet(), c.unsafeGet()));
+    }
+    return invalid(
+        Errors.concat(Errors.concat(Errors.orNull(a), Errors.orNull(b)), Errors.orNull(c)));
+  }
+
+  static <A, B, C, D, E, R> Validated<R, E> map4(
+      Validated<? extends A, E> a,
+      Validated<? extends B, E> b,
+      Validated<? extends C, E> c,
+      Validated<? extends D, E> d,
+      Function4<? super A, ? super B, ? super C, ? super D, ? extends R> f) {
+    Objects.requireNonNull(a, "a must not be null");
+    Objects.requireNonNull(b, "b must not be null");
+    Objects.requireNonNull(c, "c must not be null");
+    Objects.requireNonNull(d, "d must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    if (a instanceof Valid && b instanceof Valid && c instanceof Valid && d instanceof Valid) {
+      return valid(f.apply(a.unsafeGet(), b.unsafeGet(), c.unsafeGet(), d.unsafeGet()));
+    }
+    return invalid(
+        Errors.concat(
+            Errors.concat(Errors.orNull(a), Errors.orNull(b)),
+            Errors.concat(Errors.orNull(c), Errors.orNull(d))));
+  }
+
+  static <A, B, C, D, F, E, R> Validated<R, E> map5(
+      Validated<? extends A, E> a,
+      Validated<? extends B, E> b,
+      Validated<? extends C, E> c,
+      Validated<? extends D, E> d,
+      Validated<? extends F, E> e,
+      Function5<? super A, ? super B, ? super C, ? super D, ? super F, ? extends R> f) {
+    Objects.requireNonNull(a, "a must not be null");
+    Objects.requireNonNull(b, "b must not be null");
+    Objects.requireNonNull(c, "c must not be null");
+    Objects.requireNonNull(d, "d must not be null");
+    Objects.requireNonNull(e, "e must not be null");
+    Objects.requireNonNull(f, "f must not be null");
+    if (a instanceof Valid
+        && b instanceof Valid
+        && c instanceof Valid
+        && d instanceof Valid
+        && e instanceof Valid) {
+      return valid(
+          f.apply(a.unsafeGet(), b.unsafeGet(), c.unsafeGet(), d.unsafeGet(), e.unsafeGet()));
+    }
+    return invalid(
+        Errors.concat(
+            Errors.concat(Errors.orNull(a), Errors.orNull(b)),
+            Errors.concat(Errors.orNull(c), Errors.concat(Errors.orNull(d), Errors.orNull(e)))));
+  }
+
+  /**
+   * Collects all valid values, or all errors if any element is {@link Invalid}. This is the way to
+   * validate records with more fields than {@link #map5} takes: the errors are combined into a
+   * balanced tree, no matter how many elements there are.
+   */
+  static <V, E> Validated<List<V>, E> sequence(Iterable<? extends Validated<? extends V, E>> all) {
+    Objects.requireNonNull(all, "all must not be null");
+    final List<V> values = new ArrayList<>();
+    List<Errors<E>> errors = null;
+    for (Validated<? extends V, E> v : all) {
+      Objects.requireNonNull(v, "all must not contain null");
+      if (v instanceof Valid) {
+        if (errors == null) {
+          values.add(v.unsafeGet());
+        }
+      } else {
+        if (errors == null) {
+          errors = new ArrayList<>();
+        }
+        errors.add(v.unsafeGetErrors());
+      }
+    }
+
+    if (errors == null) {
+      return valid(Collections.unmodifiableList(values));
+    }
+    return invalid(Errors.concat(errors, 0, errors.size()));
+  }
+
+  <U> Validated<U, E> map(Function<? super V, ? extends U> f);
+
+  /** Combines this with {@code other}, collecting the errors of both. See {@link #map2}. */
+  default <U, R> Validated<R, E> zip(
+      Validated<? extends U, E> other, BiFunction<? super V, ? super U, ? extends R> f) {
+    return map2(this, other, f);
+  }
+
+  <U> U fold(Function<? super V, ? extends U> f, Function<? super Errors<E>, ? extends U> g);
+
+  V unsafeGet();
+
+  Errors<E> unsafeGetErrors();
+
+  /** Converts this into a {@link Result}, with all errors as the failure error. */
+  Result<V, Errors<E>> toResult();
+
+  @FunctionalInterface
+  interface Function3<A, B, C, R> {
+    R apply(A a, B b, C c);
+  }
+
+  @FunctionalInterface
+  interface Function4<A, B, C, D, R> {
+    R apply(A a, B b, C c, D d);
+  }
+
+  @FunctionalInterface
+  interface Function5<A, B, C, D, E, R> {
+    R apply(A a, B b, C c, D d, E e);
+  }
+
+  final class Valid<V, E> implements Validated<V, E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final V value;
+
+    private Valid(final V value) {
+      Objects.requireNonNull(value, "value must not be null");
+      this.value = value;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(value);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return (obj == this) || (obj instanceof Valid) && Objects.equals(value, ((Valid) obj).value);
+    }
+
+    @Override
+    public String toString() {
+      return "Valid[value=" + value + "]";
+    }
+
+    @Override
+    public <U> Validated<U, E> map(final Function<? super V, ? extends U> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return valid(f.apply(value));
+    }
+
+    @Override
+    public <U> U fold(
+        final Function<? super V, ? extends U> f,
+        final Function<? super Errors<E>, ? extends U> g) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.apply(value);
+    }
+
+    @Override
+    public V unsafeGet() {
+      return value;
+    }
+
+    @Override
+    public Errors<E> unsafeGetErrors() {
+      throw new NoSuchElementException("unsafeGetErrors() on Valid");
+    }
+
+    @Override
+    public Result<V, Errors<E>> toResult() {
+      return Result.success(value);
+    }
+  }
+
+  final class Invalid<V, E> implements Validated<V, E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Errors<E> errors;
+
+    private Invalid(final Errors<E> errors) {
+      Objects.requireNonNull(errors, "errors must not be null");
+      this.errors = errors;
+    }
+
+    @Override
+    public int hashCode() {
+      return errors.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return (obj == this) || (obj instanceof Invalid) && errors.equals(((Invalid) obj).errors);
+    }
+
+    @Override
+    public String toString() {
+      return "Invalid[errors=" + errors + "]";
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Validated<U, E> map(final Function<? super V, ? extends U> f) {
+      return (Validated<U, E>) this;
+    }
+
+    @Override
+    public <U> U fold(
+        final Function<? super V, ? extends U> f,
+        final Function<? super Errors<E>, ? extends U> g) {
+      Objects.requireNonNull(g, "g must not be null");
+      return g.apply(errors);
+    }
+
+    @Override
+    public V unsafeGet() {
+      throw new NoSuchElementException("unsafeGet() on Invalid");
+    }
+
+    @Override
+    public Errors<E> unsafeGetErrors() {
+      return errors;
+    }
+
+    @Override
+    public Result<V, Errors<E>> toResult() {
+      return Result.failure(errors);
+    }
+  }
+
+  /**
+   * The errors of an {@link Invalid}, in order; never empty.
+   *
+   * <p>Concatenation allocates a single node which points to both operands, instead of copying
+   * their elements, so collecting the errors of {@code n} fields takes linear rather than quadratic
+   * time and memory. The elements are only laid out in a flat array by {@link #toList} or when
+   * serialized.
+   *
+   * @param <E> the type of the errors
+   */
+  final class Errors<E> implements Iterable<E>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] chunk;
+
+    private final transient Errors<E> left;
+
+    private final transient Errors<E> right;
+
+    private final int size;
+
+    private Errors(final Object[] chunk) {
+      this.chunk = chunk;
+      this.left = null;
+      this.right = null;
+      this.size = chunk.length;
+    }
+
+    private Errors(final Errors<E> left, final Errors<E> right) {
+      this.chunk = null;
+      this.left = left;
+      this.right = right;
+      this.size = left.size + right.size;
+    }
+
+    public static <E> Errors<E> of(final E error) {
+      Objects.requireNonNull(error, "error must not be null");
+      return new Errors<>(new Object[] {error});
+    }
+
+    /** Copies {@code errors}, which must not be empty, into a single chunk. */
+    public static <E> Errors<E> ofAll(final List<? extends E> errors) {
+      Objects.requireNonNull(errors, "errors must not be null");
+      if (errors.isEmpty()) {
+        throw new IllegalArgumentException("errors must not be empty");
+      }
+      final Object[] chunk = errors.toArray();
+      for (Object e : chunk) {
+        Objects.requireNonNull(e, "errors must not contain null");
+      }
+      return new Errors<>(chunk);
+    }
+
+    /** Returns {@code null} for a {@link Valid}, which {@link #concat(Errors, Errors)} skips. */
+    static <E> Errors<E> orNull(final Validated<?, E> v) {
+      return v instanceof Invalid ? v.unsafeGetErrors() : null;
+    }
+
+    /** Concatenates two errors, either of which may be {@code null}, but not both. */
+    static <E> Errors<E> concat(final Errors<E> left, final Errors<E> right) {
+      if (left == null) {
+        return right;
+      }
+      if (right == null) {
+        return left;
+      }
+      return new Errors<>(left, right);
+    }
+
+    /** Concatenates {@code errors[from, to)} into a tree of logarithmic depth. */
+    static <E> Errors<E> concat(final List<Errors<E>> errors, final int from, final int to) {
+      if (to - from == 1) {
+        return errors.get(from);
+      }
+      final int mid = (from + to) >>> 1;
+      return new Errors<>(concat(errors, from, mid), concat(errors, mid, to));
+    }
+
+    /** Appends {@code other} to these errors without copying either. */
+    public Errors<E> concat(final Errors<E> other) {
+      Objects.requireNonNull(other, "other must not be null");
+      return new Errors<>(this, other);
+    }
+
+    public int size() {
+      return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E first() {
+      Errors<E> node = this;
+      while (node.chunk == null) {
+        node = node.left;
+      }
+      return (E) node.chunk[0];
+    }
+
+    /** Returns an unmodifiable list of all errors. */
+    @SuppressWarnings("unchecked")
+    public List<E> toList() {
+      return Collections.unmodifiableList(Arrays.asList((E[]) toArray()));
+    }
+
+    private Object[] toArray() {
+      if (chunk != null) {
+        return chunk.clone();
+      }
+      final Object[] all = new Object[size];
+      int i = 0;
+      for (E e : this) {
+        all[i++] = e;
+      }
+      return all;
+    }
+
+    /** Iterates the errors in order, with an explicit stack rather than recursion. */
+    @Override
+    public Iterator<E> iterator() {
+      return new Iterator<E>() {
+        private final Deque<Errors<E>> pending = new ArrayDeque<>();
+
+        private Object[] current = descend(Errors.this);
+
+        private int index;
+
+        private Object[] descend(Errors<E> node) {
+          while (node.chunk == null) {
+            pending.push(node.right);
+            node = node.left;
+          }
+          return node.chunk;
+        }
+
+        @Override
+        public boolean hasNext() {
+          return index < current.length || !pending.isEmpty();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+          if (index == current.length) {
+            if (pending.isEmpty()) {
+              throw new NoSuchElementException();
+            }
+            current = descend(pending.pop());
+            index = 0;
+          }
+          return (E) current[index++];
+        }
+      };
+    }
+
+    /** Serializes the elements as a single chunk, so that deep trees cannot overflow the stack. */
+    private Object writeReplace() {
+      return chunk != null ? this : new Errors<E>(toArray());
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = 1;
+      for (E e : this) {
+        hash = 31 * hash + e.hashCode();
+      }
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof Errors) || ((Errors<?>) obj).size != size) {
+        return false;
+      }
+      final Iterator<?> other = ((Errors<?>) obj).iterator();
+      for (E e : this) {
+        if (!e.equals(other.next())) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public String toString() {
+      final StringBuilder sb = new StringBuilder("Errors[");
+      for (E e : this) {
+        if (sb.length() > "Errors[".length()) {
+          sb.append(", ");
+        }
+        sb.append(e);
+      }
+      return sb.append(']').toString();
+    }
+  }
+}
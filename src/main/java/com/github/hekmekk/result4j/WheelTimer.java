@@ -0,0 +1,278 @@
+package com.github.hekmekk.result4j;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed-wheel timer: timeouts are hashed into the slots of a ring by their deadline, and a
+ * single worker thread advances one slot per tick, expiring the timeouts it finds there. Scheduling
+ * and cancelling a timeout take constant time and allocate nothing beyond the {@link Timeout}
+ * itself, which links itself into the wheel; timeouts expire up to one tick late.
+ *
+ * <p>The worker parks while there are no timeouts, so an idle timer costs nothing. Expiry runs on
+ * the worker thread, so {@link Timeout#expire()} must be short and must not block.
+ */
+final class WheelTimer {
+
+  private static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private static final int DEFAULT_WHEEL_SIZE = 1024;
+
+  private final long tickNanos;
+
+  private final int mask;
+
+  private final Timeout[] heads;
+
+  private final Timeout[] tails;
+
+  /** Newly scheduled timeouts, a Treiber stack linked through {@link Timeout#nextPending}. */
+  private final AtomicReference<Timeout> pending = new AtomicReference<>();
+
+  /** Cancelled timeouts, a Treiber stack linked through {@link Timeout#nextCancelled}. */
+  private final AtomicReference<Timeout> cancelled = new AtomicReference<>();
+
+  private final Thread worker;
+
+  private final long start;
+
+  private volatile boolean idle;
+
+  private volatile boolean stopped;
+
+  /** Accessed by the worker only. */
+  private long tick;
+
+  /** Accessed by the worker only. */
+  private long size;
+
+  WheelTimer(final long tickNanos, final int wheelSize, final String threadName) {
+    if (tickNanos <= 0) {
+      throw new IllegalArgumentException("tickNanos must be positive");
+    }
+    if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+      throw new IllegalArgumentException("wheelSize must be a positive power of two");
+    }
+    Objects.requireNonNull(threadName, "threadName must not be null");
+    this.tickNanos = tickNanos;
+    this.mask = wheelSize - 1;
+    this.heads = new Timeout[wheelSize];
+    this.tails = new Timeout[wheelSize];
+    this.start = System.nanoTime();
+    this.worker = new Thread(this::work, threadName);
+    this.worker.setDaemon(true);
+    this.worker.start();
+  }
+
+  /** The timer shared by the library, with a tick of one millisecond. */
+  static WheelTimer shared() {
+    return Shared.INSTANCE;
+  }
+
+  /**
+   * Expires {@code timeout} after {@code delayNanos}, unless it is cancelled before. Each {@link
+   * Timeout} may be scheduled once.
+   */
+  void schedule(final Timeout timeout, final long delayNanos) {
+    Objects.requireNonNull(timeout, "timeout must not be null");
+    if (timeout.timer != null) {
+      throw new IllegalStateException("timeout is already scheduled");
+    }
+    timeout.timer = this;
+    timeout.deadline = System.nanoTime() + Math.max(0, delayNanos);
+    push(pending, timeout, true);
+    if (idle) {
+      LockSupport.unpark(worker);
+    }
+  }
+
+  /** Stops the worker thread; pending timeouts never expire. */
+  void stop() {
+    stopped = true;
+    LockSupport.unpark(worker);
+  }
+
+  private static void push(
+      final AtomicReference<Timeout> stack, final Timeout timeout, final boolean toPending) {
+    Timeout head;
+    do {
+      head = stack.get();
+      if (toPending) {
+        timeout.nextPending = head;
+      } else {
+        timeout.nextCancelled = head;
+      }
+    } while (!stack.compareAndSet(head, timeout));
+  }
+
+  private void work() {
+    while (!stopped) {
+      if (size == 0 && pending.get() == null) {
+        idle = true;
+        if (pending.get() == null && !stopped) {
+          LockSupport.park(this);
+        }
+        idle = false;
+        tick = Math.max(tick, (System.nanoTime() - start) / tickNanos);
+        continue;
+      }
+
+      final long tickDeadline = start + (tick + 1) * tickNanos;
+      long wait;
+      while ((wait = tickDeadline - System.nanoTime()) > 0 && !stopped) {
+        LockSupport.parkNanos(this, wait);
+      }
+
+      transferPending();
+      removeCancelled();
+      expire((int) (tick & mask));
+      tick++;
+    }
+  }
+
+  private void transferPending() {
+    Timeout timeout = pending.getAndSet(null);
+    while (timeout != null) {
+      final Timeout next = timeout.nextPending;
+      timeout.nextPending = null;
+      if (timeout.state == Timeout.PENDING) {
+        final long due = Math.max(tick, (timeout.deadline - start + tickNanos - 1) / tickNanos);
+        timeout.rounds = (due - tick) / heads.length;
+        add((int) (due & mask), timeout);
+      }
+      timeout = next;
+    }
+  }
+
+  private void removeCancelled() {
+    Timeout timeout = cancelled.getAndSet(null);
+    while (timeout != null) {
+      final Timeout next = timeout.nextCancelled;
+      timeout.nextCancelled = null;
+      if (timeout.slot >= 0) {
+        remove(timeout);
+      }
+      timeout = next;
+    }
+  }
+
+  private void expire(final int slot) {
+    Timeout timeout = heads[slot];
+    while (timeout != null) {
+      final Timeout next = timeout.next;
+      if (timeout.rounds <= 0) {
+        remove(timeout);
+        if (Timeout.STATE.compareAndSet(timeout, Timeout.PENDING, Timeout.EXPIRED)) {
+          try {
+            timeout.expire();
+          } catch (Throwable t) {
+            final Thread current = Thread.currentThread();
+            current.getUncaughtExceptionHandler().uncaughtException(current, t);
+          }
+        }
+      } else {
+        timeout.rounds--;
+      }
+      timeout = next;
+    }
+  }
+
+  private void add(final int slot, final Timeout timeout) {
+    timeout.slot = slot;
+    timeout.prev = tails[slot];
+    if (tails[slot] == null) {
+      heads[slot] = timeout;
+    } else {
+      tails[slot].next = timeout;
+    }
+    tails[slot] = timeout;
+    size++;
+  }
+
+  private void remove(final Timeout timeout) {
+    final int slot = timeout.slot;
+    if (timeout.prev == null) {
+      heads[slot] = timeout.next;
+    } else {
+      timeout.prev.next = timeout.next;
+    }
+    if (timeout.next == null) {
+      tails[slot] = timeout.prev;
+    } else {
+      timeout.next.prev = timeout.prev;
+    }
+    timeout.prev = null;
+    timeout.next = null;
+    timeout.slot = -1;
+    size--;
+  }
+
+  /**
+   * Something to do at a deadline, unless cancelled before. Subclasses carry the state they need,
+   * so that a timeout takes a single allocation.
+   */
+  abstract static class Timeout {
+
+    static final int PENDING = 0;
+
+    static final int CANCELLED = 1;
+
+    static final int EXPIRED = 2;
+
+    static final AtomicIntegerFieldUpdater<Timeout> STATE =
+        AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+    private volatile int state;
+
+    private WheelTimer timer;
+
+    private long deadline;
+
+    private Timeout nextPending;
+
+    private Timeout nextCancelled;
+
+    /** Accessed by the worker only. */
+    private long rounds;
+
+    /** Accessed by the worker only; {@code -1} while not linked into the wheel. */
+    private int slot = -1;
+
+    /** Accessed by the worker only. */
+    private Timeout prev;
+
+    /** Accessed by the worker only. */
+    private Timeout next;
+
+    /** Runs on the timer's worker thread once the deadline has passed. */
+    abstract void expire();
+
+    /**
+     * Prevents the expiry. Returns {@code false} if {@link #expire()} has already started, or if
+     * this was cancelled before.
+     */
+    final boolean cancel() {
+      if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+        return false;
+      }
+      final WheelTimer t = timer;
+      if (t != null) {
+        push(t.cancelled, this, false);
+      }
+      return true;
+    }
+
+    final boolean isExpired() {
+      return state == EXPIRED;
+    }
+  }
+
+  private static final class Shared {
+
+    static final WheelTimer INSTANCE =
+        new WheelTimer(DEFAULT_TICK_NANOS, DEFAULT_WHEEL_SIZE, "result4j-timer");
+  }
+}
@@ -0,0 +1,95 @@
+package com.github.hekmekk.result4j;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The Flight Recorder events of result4j, instantiated reflectively by {@link ResultEvents} after
+ * checking that {@code jdk.jfr} is present.
+ *
+ * <p>The failure event is enabled by default, so that any recording, including continuous ones,
+ * shows failure storms without further configuration; it is recorded without a stack trace. The
+ * slow call event has to be enabled explicitly, e.g. {@code
+ * com.github.hekmekk.result4j.SlowCall#enabled=true}, because it is created for every call; it is
+ * recorded for calls taking 20ms or longer. While no recording enables an event, no event objects
+ * are created.
+ */
+final class JfrEvents implements ResultEvents.Sink {
+
+  private static final SlowCall SLOW_CALL = new SlowCall();
+
+  private static final Failure FAILURE = new Failure();
+
+  JfrEvents() {}
+
+  @Override
+  public Object begin() {
+    if (!SLOW_CALL.isEnabled()) {
+      return null;
+    }
+
+    final SlowCall event = new SlowCall();
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public void end(final Object e, final String operation) {
+    final SlowCall event = (SlowCall) e;
+    event.end();
+    if (event.shouldCommit()) {
+      event.operation = operation;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void failure(final Throwable t, final String operation) {
+    if (!FAILURE.isEnabled()) {
+      return;
+    }
+
+    final Failure event = new Failure();
+    if (event.shouldCommit()) {
+      event.operation = operation;
+      event.errorClass = t.getClass();
+      event.message = t.getMessage();
+      event.commit();
+    }
+  }
+
+  @Name("com.github.hekmekk.result4j.Failure")
+  @Label("Result Failure")
+  @Category("result4j")
+  @Description("A throwable caught by Result.of or Completable.of")
+  @StackTrace(false)
+  static final class Failure extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Error Class")
+    Class<?> errorClass;
+
+    @Label("Message")
+    String message;
+  }
+
+  @Name("com.github.hekmekk.result4j.SlowCall")
+  @Label("Slow Result Call")
+  @Category("result4j")
+  @Description("A supplier or runnable passed to Result.of or Completable.of which took long")
+  @Threshold("20 ms")
+  @Enabled(false)
+  static final class SlowCall extends Event {
+
+    @Label("Operation")
+    String operation;
+  }
+}
@@ -0,0 +1,228 @@
+package com.github.hekmekk.result4j;
+
+import java.io.Serializable;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A container type with two possible cases: A {@link Completable} is either a {@link Success}
+ * without a value or a {@link Failure} with an error.
+ *
+ * <p>This is the variant for Java 17 and later: {@link Completable} is sealed, and its cases are
+ * records, so that callers can match on them exhaustively.
+ *
+ * <p>The accessor {@code error()} exists on all Java versions, but the public canonical
+ * constructors of the records only exist on Java 17 and later; code which also has to run on older
+ * JVMs must create instances with {@link #success} and {@link #failure}.
+ *
+ * @param <E> the type of the failure error
+ */
+public sealed interface Completable<E> extends Serializable
+    permits Completable.Success, Completable.Failure {
+
+  static Completable<Throwable> of(CheckedRunnable r) {
+    return ResultSupport.run(r, null);
+  }
+
+  /**
+   * Like {@link #of(CheckedRunnable)}, but trims the stack trace of a caught throwable according to
+   * {@code capture}.
+   */
+  static Completable<Throwable> of(CheckedRunnable r, StackCapture capture) {
+    Objects.requireNonNull(capture, "capture must not be null");
+    return ResultSupport.run(r, capture);
+  }
+
+  /** Returns the shared {@link Success} instance. */
+  @SuppressWarnings("unchecked")
+  static <E> Completable<E> success() {
+    return (Completable<E>) Success.INSTANCE;
+  }
+
+  static <E> Completable<E> failure(E error) {
+    return new Failure<>(error);
+  }
+
+  /**
+   * Converts a {@link Result} of {@link Done} into a {@link Completable}. A {@link Result.Success}
+   * maps to the shared {@link Success} instance without allocating.
+   */
+  static <E> Completable<E> from(Result<Done, E> result) {
+    Objects.requireNonNull(result, "result must not be null");
+    return result.fold(done -> success(), Completable::failure);
+  }
+
+  <U> U fold(Supplier<? extends U> f, Function<? super E, ? extends U> g);
+
+  default <U> U transform(Function<? super Completable<E>, ? extends U> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return f.apply(this);
+  }
+
+  <F extends E> Completable<E> recoverWith(final Function<F, ? extends Completable<E>> f);
+
+  <F extends E> Completable<E> recoverWith(
+      Class<F> errorType, Function<F, ? extends Completable<E>> f);
+
+  E unsafeGetError();
+
+  Completable<E> onSuccess(final Runnable c);
+
+  Completable<E> onFailure(final Consumer<E> c);
+
+  /**
+   * Converts this into a {@link Result} of {@link Done}. A {@link Success} maps to a shared {@link
+   * Result.Success} instance without allocating.
+   */
+  Result<Done, E> toResult();
+
+  /**
+   * A successful {@link Completable}. Its canonical constructor is public, as records require, but
+   * it only exists on Java 17 and later, and {@link Completable#success} returns a shared instance.
+   */
+  record Success<E>() implements Completable<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Success<?> INSTANCE = new Success<>();
+
+    private Object writeReplace() {
+      return new SerializedResult(SerializedResult.COMPLETABLE_SUCCESS, null);
+    }
+
+    private Object readResolve() {
+      return INSTANCE;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode("Success[]");
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return obj instanceof Success<?>;
+    }
+
+    @Override
+    public String toString() {
+      return "Success[]";
+    }
+
+    @Override
+    public <F extends E> Completable<E> recoverWith(final Function<F, ? extends Completable<E>> f) {
+      return this;
+    }
+
+    @Override
+    public <F extends E> Completable<E> recoverWith(
+        final Class<F> errorType, final Function<F, ? extends Completable<E>> f) {
+      return this;
+    }
+
+    @Override
+    public <U> U fold(final Supplier<? extends U> f, final Function<? super E, ? extends U> g) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.get();
+    }
+
+    @Override
+    public E unsafeGetError() {
+      throw new NoSuchElementException("unsafeGetError() on Success");
+    }
+
+    @Override
+    public Completable<E> onSuccess(final Runnable r) {
+      Objects.requireNonNull(r, "r must not be null");
+      r.run();
+      return this;
+    }
+
+    @Override
+    public Completable<E> onFailure(final Consumer<E> c) {
+      return this;
+    }
+
+    @Override
+    public Result<Done, E> toResult() {
+      return Result.success(Done.DONE);
+    }
+  }
+
+  /**
+   * A failed {@link Completable}. Prefer {@link Completable#failure} over the constructor, which
+   * only exists on Java 17 and later.
+   */
+  record Failure<E>(E error) implements Completable<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    public Failure {
+      Objects.requireNonNull(error, "error must not be null");
+    }
+
+    private Object writeReplace() {
+      return new SerializedResult(SerializedResult.COMPLETABLE_FAILURE, error);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(error);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return (obj == this)
+          || obj instanceof Failure<?> other && Objects.equals(error, other.error);
+    }
+
+    @Override
+    public String toString() {
+      return "Failure[error=" + error + "]";
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F extends E> Completable<E> recoverWith(final Function<F, ? extends Completable<E>> f) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.apply((F) error);
+    }
+
+    @Override
+    public <F extends E> Completable<E> recoverWith(
+        final Class<F> errorType, final Function<F, ? extends Completable<E>> f) {
+      return ResultSupport.recoverWith(this, errorType, f);
+    }
+
+    @Override
+    public <U> U fold(final Supplier<? extends U> f, final Function<? super E, ? extends U> g) {
+      Objects.requireNonNull(g, "g must not be null");
+      return g.apply(error);
+    }
+
+    @Override
+    public E unsafeGetError() {
+      return error;
+    }
+
+    @Override
+    public Completable<E> onSuccess(final Runnable r) {
+      return this;
+    }
+
+    @Override
+    public Completable<E> onFailure(final Consumer<E> c) {
+      Objects.requireNonNull(c, "c must not be null");
+      c.accept(error);
+      return this;
+    }
+
+    @Override
+    public Result<Done, E> toResult() {
+      return Result.failure(error);
+    }
+  }
+}
@@ -0,0 +1,410 @@
+package com.github.hekmekk.result4j;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A container type with two possible cases: A {@link Result} is either a {@link Success} with a
+ * value or a {@link Failure} with an error.
+ *
+ * <p>This is the variant for Java 17 and later: {@link Result} is sealed, and its cases are
+ * records, so that callers can match on them exhaustively, e.g. with {@code instanceof
+ * Result.Success<V, E> s} or, from Java 21 on, with a {@code switch} over record patterns.
+ *
+ * <p>The accessors {@code value()} and {@code error()} exist on all Java versions, but the public
+ * canonical constructors of the records only exist on Java 17 and later; code which also has to run
+ * on older JVMs must create instances with {@link #success} and {@link #failure}.
+ *
+ * @param <V> the type of success value
+ * @param <E> the type of the failure error
+ */
+public sealed interface Result<V, E> extends Iterable<V>, Serializable
+    permits Result.Success, Result.Failure {
+
+  static <V> Result<V, Throwable> of(CheckedSupplier<V> s) {
+    return ResultSupport.of(s, null);
+  }
+
+  /**
+   * Like {@link #of(CheckedSupplier)}, but trims the stack trace of a caught throwable according to
+   * {@code capture}.
+   */
+  static <V> Result<V, Throwable> of(CheckedSupplier<V> s, StackCapture capture) {
+    Objects.requireNonNull(capture, "capture must not be null");
+    return ResultSupport.of(s, capture);
+  }
+
+  /**
+   * Like {@link #of(CheckedSupplier)}, but gives up once {@code timeout} has passed: the current
+   * thread is then interrupted, and the outcome is a {@link Failure} with a {@link
+   * java.util.concurrent.TimeoutException}, caused by the error of {@code s} if it failed. The
+   * interrupt is cleared before returning, unless the thread had been interrupted already.
+   *
+   * <p>Deadlines are tracked by a shared hashed-wheel timer with a resolution of one millisecond,
+   * so setting one is cheap enough to do on every call.
+   */
+  static <V> Result<V, Throwable> of(CheckedSupplier<V> s, Duration timeout) {
+    return Deadlines.call(s, timeout, WheelTimer.shared());
+  }
+
+  /**
+   * Creates a {@link Success}. {@link Done#DONE}, {@link Boolean}s and {@link Integer}s between
+   * -128 and 127 are backed by shared instances, so wrapping them does not allocate.
+   */
+  static <V, E> Result<V, E> success(V value) {
+    return Success.valueOf(value);
+  }
+
+  static <V, E> Result<V, E> failure(E error) {
+    return new Failure<>(error);
+  }
+
+  <U> Result<U, E> flatMap(Function<? super V, ? extends Result<? extends U, E>> f);
+
+  <U> Result<U, E> map(Function<? super V, ? extends U> f);
+
+  <F extends E> Result<V, E> recoverWith(Function<F, ? extends Result<? extends V, E>> f);
+
+  <F extends E> Result<V, E> recoverWith(
+      Class<F> errorType, Function<F, ? extends Result<? extends V, E>> f);
+
+  <F extends E> Result<V, E> recover(Function<F, ? extends V> f);
+
+  <F extends E> Result<V, E> recover(Class<F> errorType, Function<F, ? extends V> f);
+
+  <U> U fold(Function<? super V, ? extends U> f, Function<? super E, ? extends U> g);
+
+  default <U> U transform(Function<? super Result<V, E>, ? extends U> f) {
+    Objects.requireNonNull(f, "f must not be null");
+    return f.apply(this);
+  }
+
+  V orElse(V other);
+
+  V orElse(Supplier<V> s);
+
+  V orElse(Function<E, V> f);
+
+  V unsafeGet();
+
+  E unsafeGetError();
+
+  Result<V, E> onSuccess(final Consumer<V> c);
+
+  Result<V, E> onFailure(final Consumer<E> c);
+
+  /** Returns the success value, or an empty {@link Optional} for a {@link Failure}. */
+  Optional<V> toOptional();
+
+  /**
+   * Returns a sequential {@link Stream} of the success value, which is empty for a {@link Failure}.
+   * To flatten a {@link Stream} of {@link Result}s, {@link ResultStreams#successes} avoids creating
+   * a stream per element.
+   */
+  default Stream<V> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * A successful {@link Result}. Its canonical constructor is public, as records require, but it
+   * only exists on Java 17 and later and never returns a shared instance; use {@link
+   * Result#success} instead.
+   */
+  record Success<V, E>(V value) implements Result<V, E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Success<?, ?>[] SHARED = shared();
+
+    public Success {
+      Objects.requireNonNull(value, "value must not be null");
+    }
+
+    private Object writeReplace() {
+      return new SerializedResult(SerializedResult.RESULT_SUCCESS, value);
+    }
+
+    private static Success<?, ?>[] shared() {
+      final Success<?, ?>[] shared = new Success<?, ?>[ResultSupport.SHARED_SUCCESSES];
+      for (int i = 0; i < shared.length; i++) {
+        shared[i] = new Success<>(ResultSupport.sharedValue(i));
+      }
+      return shared;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V, E> Success<V, E> valueOf(final V value) {
+      final int i = ResultSupport.sharedIndex(value);
+      return i < 0 ? new Success<>(value) : (Success<V, E>) SHARED[i];
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(value);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return (obj == this)
+          || obj instanceof Success<?, ?> other && Objects.equals(value, other.value);
+    }
+
+    @Override
+    public String toString() {
+      return "Success[value=" + value + "]";
+    }
+
+    @Override
+    public <U> Result<U, E> flatMap(final Function<? super V, ? extends Result<? extends U, E>> f) {
+      return ResultSupport.flatMap(value, f);
+    }
+
+    @Override
+    public <U> Result<U, E> map(final Function<? super V, ? extends U> f) {
+      return flatMap(v -> Result.success(f.apply(v)));
+    }
+
+    @Override
+    public <F extends E> Result<V, E> recoverWith(
+        final Function<F, ? extends Result<? extends V, E>> f) {
+      return this;
+    }
+
+    @Override
+    public <F extends E> Result<V, E> recoverWith(
+        final Class<F> errorType, final Function<F, ? extends Result<? extends V, E>> f) {
+      return this;
+    }
+
+    @Override
+    public <F extends E> Result<V, E> recover(final Function<F, ? extends V> f) {
+      return this;
+    }
+
+    @Override
+    public <F extends E> Result<V, E> recover(
+        final Class<F> errorType, final Function<F, ? extends V> f) {
+      return this;
+    }
+
+    @Override
+    public <U> U fold(
+        final Function<? super V, ? extends U> f, final Function<? super E, ? extends U> g) {
+      Objects.requireNonNull(f, "f must not be null");
+      return f.apply(value);
+    }
+
+    @Override
+    public V orElse(final V other) {
+      return value;
+    }
+
+    @Override
+    public V orElse(final Supplier<V> s) {
+      return value;
+    }
+
+    @Override
+    public V orElse(final Function<E, V> f) {
+      return value;
+    }
+
+    @Override
+    public V unsafeGet() {
+      return value;
+    }
+
+    @Override
+    public E unsafeGetError() {
+      throw new NoSuchElementException("unsafeGetError() on Success");
+    }
+
+    @Override
+    public Result<V, E> onSuccess(final Consumer<V> c) {
+      Objects.requireNonNull(c, "c must not be null");
+      c.accept(value);
+      return this;
+    }
+
+    @Override
+    public Result<V, E> onFailure(final Consumer<E> c) {
+      return this;
+    }
+
+    @Override
+    public Optional<V> toOptional() {
+      return Optional.of(value);
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+      return ResultSupport.iterator(value);
+    }
+
+    /** Passes the value to {@code action} without creating an {@link Iterator}. */
+    @Override
+    public void forEach(final Consumer<? super V> action) {
+      Objects.requireNonNull(action, "action must not be null");
+      action.accept(value);
+    }
+
+    /**
+     * Returns a {@link Spliterator} with the characteristics {@code SIZED}, {@code SUBSIZED},
+     * {@code IMMUTABLE}, {@code NONNULL} and {@code ORDERED}.
+     */
+    @Override
+    public Spliterator<V> spliterator() {
+      return ResultStreams.single(value);
+    }
+  }
+
+  /**
+   * A failed {@link Result}. Prefer {@link Result#failure} over the canonical constructor, which
+   * only exists on Java 17 and later.
+   */
+  record Failure<V, E>(E error) implements Result<V, E> {
+
+    private static final long serialVersionUID = 1L;
+
+    public Failure {
+      Objects.requireNonNull(error, "error must not be null");
+    }
+
+    private Object writeReplace() {
+      return new SerializedResult(SerializedResult.RESULT_FAILURE, error);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(error);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return (obj == this)
+          || obj instanceof Failure<?, ?> other && Objects.equals(error, other.error);
+    }
+
+    @Override
+    public String toString() {
+      return "Failure[error=" + error + "]";
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Result<U, E> flatMap(final Function<? super V, ? extends Result<? extends U, E>> f) {
+      return (Result<U, E>) this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U> Result<U, E> map(final Function<? super V, ? extends U> f) {
+      return (Result<U, E>) this;
+    }
+
+    @Override
+    public <F extends E> Result<V, E> recoverWith(
+        final Function<F, ? extends Result<? extends V, E>> f) {
+      return ResultSupport.recoverWith(error, f);
+    }
+
+    @Override
+    public <F extends E> Result<V, E> recoverWith(
+        final Class<F> errorType, final Function<F, ? extends Result<? extends V, E>> f) {
+      return ResultSupport.recoverWith(this, errorType, f);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <F extends E> Result<V, E> recover(final Function<F, ? extends V> f) {
+      return recoverWith(e -> Result.success(f.apply((F) e)));
+    }
+
+    @Override
+    public <F extends E> Result<V, E> recover(
+        final Class<F> errorType, final Function<F, ? extends V> f) {
+      return recoverWith(errorType, e -> Result.success(f.apply(e)));
+    }
+
+    @Override
+    public <U> U fold(
+        final Function<? super V, ? extends U> f, final Function<? super E, ? extends U> g) {
+      Objects.requireNonNull(g, "g must not be null");
+      return g.apply(error);
+    }
+
+    @Override
+    public V orElse(final V other) {
+      Objects.requireNonNull(other, "other must not be null");
+      return other;
+    }
+
+    @Override
+    public V orElse(final Supplier<V> s) {
+      Objects.requireNonNull(s, "s must not be null");
+      return s.get();
+    }
+
+    @Override
+    public V orElse(final Function<E, V> f) {
+      Objects.requireNonNull(f, "s must not be null");
+      return f.apply(error);
+    }
+
+    @Override
+    public V unsafeGet() {
+      throw new NoSuchElementException("unsafeGet() on Failure");
+    }
+
+    @Override
+    public E unsafeGetError() {
+      return error;
+    }
+
+    @Override
+    public Result<V, E> onSuccess(final Consumer<V> c) {
+      return this;
+    }
+
+    @Override
+    public Result<V, E> onFailure(final Consumer<E> c) {
+      Objects.requireNonNull(c, "c must not be null");
+      c.accept(error);
+      return this;
+    }
+
+    @Override
+    public Optional<V> toOptional() {
+      return Optional.empty();
+    }
+
+    /** Returns a shared, empty {@link Iterator}. */
+    @Override
+    public Iterator<V> iterator() {
+      return Collections.emptyIterator();
+    }
+
+    @Override
+    public void forEach(final Consumer<? super V> action) {
+      Objects.requireNonNull(action, "action must not be null");
+    }
+
+    /** Returns a shared, empty {@link Spliterator}. */
+    @Override
+    public Spliterator<V> spliterator() {
+      return Spliterators.emptySpliterator();
+    }
+  }
+}
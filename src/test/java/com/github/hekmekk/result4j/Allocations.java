@@ -0,0 +1,40 @@
+package com.github.hekmekk.result4j;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.Supplier;
+
+/** Measures the bytes allocated by the current thread while running a piece of code. */
+final class Allocations {
+
+  /** Lets every supplied object escape, so that the JIT cannot scalar-replace it. */
+  static volatile Object sink;
+
+  private Allocations() {}
+
+  /**
+   * Calls {@code s} {@code iterations} times after warming it up and returns the bytes allocated
+   * per iteration. Skips the calling test if the JVM cannot measure allocations.
+   */
+  static double perIteration(final int iterations, final Supplier<?> s) {
+    final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+    final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+    assumeTrue(threads.isThreadAllocatedMemorySupported());
+    threads.setThreadAllocatedMemoryEnabled(true);
+
+    for (int i = 0; i < iterations; i++) {
+      sink = s.get();
+    }
+
+    final long id = Thread.currentThread().getId();
+    final long before = threads.getThreadAllocatedBytes(id);
+    for (int i = 0; i < iterations; i++) {
+      sink = s.get();
+    }
+    final long after = threads.getThreadAllocatedBytes(id);
+    return (double) (after - before) / iterations;
+  }
+}
@@ -0,0 +1,97 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class AsyncCompletableTest {
+
+  private static ExecutorService executor;
+
+  @BeforeAll
+  static void startExecutor() {
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterAll
+  static void stopExecutor() {
+    executor.shutdownNow();
+  }
+
+  private static <E> Completable<E> join(final AsyncCompletable<E> completable) {
+    return completable.toCompletionStage().toCompletableFuture().join();
+  }
+
+  @Test
+  void of() {
+    assertThrows(NullPointerException.class, () -> AsyncCompletable.of(null, executor));
+    assertThrows(NullPointerException.class, () -> AsyncCompletable.of(() -> {}, null));
+    assertThat(join(AsyncCompletable.of(() -> {}, executor)), is(Completable.success()));
+    assertThat(
+        join(AsyncCompletable.of(
+                () -> {
+                  throw new IOException("FAILURE");
+                },
+                executor))
+            .unsafeGetError(),
+        instanceOf(IOException.class));
+  }
+
+  @Test
+  void recoverWith() {
+    final AsyncCompletable<Throwable> failure = AsyncCompletable.failure(new IOException());
+    assertThrows(NullPointerException.class, () -> failure.recoverWith(null));
+    assertThrows(NullPointerException.class, () -> failure.recoverWith(IOException.class, null));
+    assertThat(
+        join(failure.recoverWith(t -> AsyncCompletable.success())), is(Completable.success()));
+    assertThat(
+        join(
+            failure
+                .recoverWith(IllegalStateException.class, t -> AsyncCompletable.success())
+                .recoverWith(IOException.class, t -> AsyncCompletable.of(() -> {}, executor))),
+        is(Completable.success()));
+    assertThat(
+        join(failure.recoverWith(IllegalStateException.class, t -> AsyncCompletable.success()))
+            .unsafeGetError(),
+        instanceOf(IOException.class));
+  }
+
+  @Test
+  void fold() {
+    assertThrows(NullPointerException.class, () -> AsyncCompletable.success().fold(null, e -> 1));
+    assertThrows(NullPointerException.class, () -> AsyncCompletable.success().fold(() -> 1, null));
+    assertThat(
+        AsyncCompletable.success()
+            .fold(() -> "success", e -> "failure")
+            .toCompletableFuture()
+            .join(),
+        is("success"));
+    assertThat(
+        AsyncCompletable.failure(1)
+            .fold(() -> "success", e -> "failure")
+            .toCompletableFuture()
+            .join(),
+        is("failure"));
+  }
+
+  @Test
+  void onSuccessAndOnFailure() {
+    final AtomicInteger successes = new AtomicInteger();
+    final AtomicInteger failures = new AtomicInteger();
+    join(AsyncCompletable.success().onSuccess(successes::incrementAndGet));
+    join(AsyncCompletable.success().onFailure(e -> failures.incrementAndGet()));
+    join(AsyncCompletable.failure(1).onFailure(e -> failures.incrementAndGet()));
+    join(AsyncCompletable.failure(1).onSuccess(successes::incrementAndGet));
+    assertThat(successes.get(), is(1));
+    assertThat(failures.get(), is(1));
+  }
+}
@@ -0,0 +1,269 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class AsyncResultTest {
+
+  private static ExecutorService executor;
+
+  @BeforeAll
+  static void startExecutor() {
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterAll
+  static void stopExecutor() {
+    executor.shutdownNow();
+  }
+
+  private static <V, E> Result<V, E> join(final AsyncResult<V, E> result) {
+    return result.toCompletionStage().toCompletableFuture().join();
+  }
+
+  @Test
+  void of() {
+    assertThrows(NullPointerException.class, () -> AsyncResult.of(null, executor));
+    assertThrows(NullPointerException.class, () -> AsyncResult.of(() -> 1, null));
+    assertThat(join(AsyncResult.of(() -> "SUCCESS", executor)), is(Result.success("SUCCESS")));
+    assertThat(
+        join(AsyncResult.of(
+                () -> {
+                  throw new IOException("FAILURE");
+                },
+                executor))
+            .unsafeGetError(),
+        instanceOf(IOException.class));
+  }
+
+  @Test
+  void ofWithTimeout() {
+    assertThat(
+        join(AsyncResult.of(() -> "SUCCESS", executor, Duration.ofSeconds(10))),
+        is(Result.success("SUCCESS")));
+  }
+
+  @Test
+  void ofWithTimeoutShouldInterruptRunningCall() throws InterruptedException {
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final Result<String, Throwable> result =
+        join(
+            AsyncResult.of(
+                () -> {
+                  try {
+                    Thread.sleep(10_000);
+                  } catch (InterruptedException e) {
+                    interrupted.countDown();
+                  }
+                  return "SUCCESS";
+                },
+                executor,
+                Duration.ofMillis(20)));
+
+    assertThat(result.unsafeGetError(), instanceOf(TimeoutException.class));
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void ofWithTimeoutShouldNotRunCallWhichHasNotStarted() throws InterruptedException {
+    final ExecutorService single = Executors.newSingleThreadExecutor();
+    try {
+      final CountDownLatch release = new CountDownLatch(1);
+      single.execute(
+          () -> {
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+      final AtomicInteger calls = new AtomicInteger();
+
+      final Result<Integer, Throwable> result =
+          join(AsyncResult.of(calls::incrementAndGet, single, Duration.ofMillis(20)));
+      release.countDown();
+      single.shutdown();
+      assertTrue(single.awaitTermination(5, TimeUnit.SECONDS));
+
+      assertThat(result.unsafeGetError(), instanceOf(TimeoutException.class));
+      assertThat(calls.get(), is(0));
+    } finally {
+      single.shutdownNow();
+    }
+  }
+
+  @Test
+  void blockingStageAfterTimeoutShouldNotDelayOtherTimeouts() throws Exception {
+    final Thread test = Thread.currentThread();
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch blocked = new CountDownLatch(1);
+    try {
+      AsyncResult.of(
+              () -> {
+                release.await();
+                return "SLOW";
+              },
+              executor,
+              Duration.ofMillis(50))
+          .toCompletionStage()
+          .thenRun(
+              () -> {
+                blocked.countDown();
+                if (Thread.currentThread() == test) {
+                  return;
+                }
+                try {
+                  release.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              });
+      assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+      final Result<String, Throwable> result =
+          AsyncResult.of(
+                  () -> {
+                    release.await();
+                    return "SLOW";
+                  },
+                  executor,
+                  Duration.ofMillis(10))
+              .toCompletionStage()
+              .toCompletableFuture()
+              .get(5, TimeUnit.SECONDS);
+
+      assertThat(result.unsafeGetError(), instanceOf(TimeoutException.class));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  void ofWithTimeoutShouldReportRejection() {
+    final Result<String, Throwable> result =
+        join(
+            AsyncResult.of(
+                () -> "SUCCESS",
+                r -> {
+                  throw new RejectedExecutionException("REJECTED");
+                },
+                Duration.ofSeconds(10)));
+
+    assertThat(result.unsafeGetError(), instanceOf(RejectedExecutionException.class));
+  }
+
+  @Test
+  void from() {
+    assertThrows(NullPointerException.class, () -> AsyncResult.from((Result<Object, Object>) null));
+    final CompletableFuture<Result<Integer, String>> future = new CompletableFuture<>();
+    final AsyncResult<Integer, String> result = AsyncResult.from(future).map(n -> n + 1);
+    assertThat(result.toCompletionStage().toCompletableFuture().isDone(), is(false));
+    future.complete(Result.success(1));
+    assertThat(join(result), is(Result.success(2)));
+  }
+
+  @Test
+  void map() {
+    assertThrows(NullPointerException.class, () -> AsyncResult.success(1).map(null));
+    assertThat(join(AsyncResult.success(1).map(String::valueOf)), is(Result.success("1")));
+    assertThat(join(AsyncResult.failure(1).map(String::valueOf)), is(Result.failure(1)));
+  }
+
+  @Test
+  void flatMap() {
+    assertThrows(NullPointerException.class, () -> AsyncResult.success(1).flatMap(null));
+    final AsyncResult<Integer, Throwable> success = AsyncResult.success(1);
+    final IOException error = new IOException();
+    final AsyncResult<Integer, Throwable> failure = AsyncResult.failure(error);
+    assertThat(
+        join(success.flatMap(n -> AsyncResult.of(() -> n + 22, executor))), is(Result.success(23)));
+    assertThat(join(success.flatMap(n -> AsyncResult.failure(error))), is(Result.failure(error)));
+    assertThat(join(failure.flatMap(n -> AsyncResult.success(23))), is(Result.failure(error)));
+  }
+
+  @Test
+  void recover() {
+    final AsyncResult<Integer, Throwable> failure = AsyncResult.failure(new IOException());
+    assertThrows(NullPointerException.class, () -> failure.recover(null));
+    assertThrows(NullPointerException.class, () -> failure.recover(null, t -> 1));
+    assertThat(join(failure.recover(t -> 1)), is(Result.success(1)));
+    assertThat(
+        join(
+            failure
+                .recover(IllegalStateException.class, t -> 1)
+                .recover(IOException.class, t -> 2)),
+        is(Result.success(2)));
+    assertThat(join(AsyncResult.success(1).recover(t -> 2)), is(Result.success(1)));
+  }
+
+  @Test
+  void recoverWith() {
+    final AsyncResult<Integer, Throwable> failure = AsyncResult.failure(new IOException());
+    assertThrows(NullPointerException.class, () -> failure.recoverWith(null));
+    assertThrows(NullPointerException.class, () -> failure.recoverWith(IOException.class, null));
+    assertThat(join(failure.recoverWith(t -> AsyncResult.success(1))), is(Result.success(1)));
+
+    final AsyncResult<Integer, Throwable> recovered =
+        failure
+            .recoverWith(IllegalStateException.class, t -> AsyncResult.success(1))
+            .recoverWith(IOException.class, t -> AsyncResult.of(() -> 23, executor));
+    assertThat(join(recovered), is(Result.success(23)));
+    assertThat(
+        join(AsyncResult.success(1).recoverWith(t -> AsyncResult.success(2))),
+        is(Result.success(1)));
+  }
+
+  @Test
+  void fold() {
+    assertThrows(NullPointerException.class, () -> AsyncResult.success(1).fold(null, e -> 1));
+    assertThrows(NullPointerException.class, () -> AsyncResult.success(1).fold(v -> 1, null));
+    assertThat(
+        AsyncResult.success(1).fold(v -> "success", e -> "failure").toCompletableFuture().join(),
+        is("success"));
+    assertThat(
+        AsyncResult.failure(1).fold(v -> "success", e -> "failure").toCompletableFuture().join(),
+        is("failure"));
+  }
+
+  @Test
+  void onSuccessAndOnFailure() {
+    final AtomicInteger successes = new AtomicInteger();
+    final AtomicInteger failures = new AtomicInteger();
+    join(AsyncResult.success(1).onSuccess(v -> successes.incrementAndGet()));
+    join(AsyncResult.success(1).onFailure(e -> failures.incrementAndGet()));
+    join(AsyncResult.failure(1).onFailure(e -> failures.incrementAndGet()));
+    join(AsyncResult.failure(1).onSuccess(v -> successes.incrementAndGet()));
+    assertThat(successes.get(), is(1));
+    assertThat(failures.get(), is(1));
+  }
+
+  @Test
+  void throwingFunctionCompletesExceptionally() {
+    final AsyncResult<Integer, Integer> result =
+        AsyncResult.<Integer, Integer>success(1)
+            .map(
+                n -> {
+                  throw new IllegalStateException();
+                });
+    final CompletionException e = assertThrows(CompletionException.class, () -> join(result));
+    assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+  }
+}
@@ -0,0 +1,230 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class BulkheadTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  private Bulkhead.Builder adaptive() {
+    return Bulkhead.builder()
+        .name("db")
+        .adaptive(2, 10, Duration.ofMillis(100))
+        .backoffRatio(0.5)
+        .ticker(now::get);
+  }
+
+  private CheckedSupplier<String> taking(final Duration latency) {
+    return () -> {
+      now.addAndGet(latency.toNanos());
+      return "SUCCESS";
+    };
+  }
+
+  @Test
+  void shouldCallWithinLimit() {
+    final Bulkhead bulkhead = Bulkhead.builder().maxConcurrentCalls(1).build();
+
+    assertThat(bulkhead.of(() -> "SUCCESS"), is(Result.success("SUCCESS")));
+    assertThat(bulkhead.of(() -> "SUCCESS"), is(Result.success("SUCCESS")));
+    assertThat(bulkhead.inFlight(), is(0));
+  }
+
+  @Test
+  void shouldRejectBeyondLimit() {
+    final Bulkhead bulkhead = Bulkhead.builder().name("db").maxConcurrentCalls(1).build();
+    final List<Result<String, Throwable>> inner = new ArrayList<>();
+
+    bulkhead.of(
+        () -> {
+          assertThat(bulkhead.inFlight(), is(1));
+          inner.add(bulkhead.of(() -> "INNER"));
+          inner.add(bulkhead.of(() -> "INNER"));
+          return "OUTER";
+        });
+
+    assertThat(inner.get(0).unsafeGetError(), instanceOf(Bulkhead.RejectedException.class));
+    assertThat(inner.get(0).unsafeGetError().getMessage(), is("bulkhead db is full"));
+    assertThat(inner.get(1), sameInstance(inner.get(0)));
+    assertThat(bulkhead.inFlight(), is(0));
+  }
+
+  @Test
+  void shouldRejectRunnableBeyondLimit() {
+    final Bulkhead bulkhead = Bulkhead.builder().maxConcurrentCalls(1).build();
+    final AtomicInteger runs = new AtomicInteger();
+    final List<Completable<Throwable>> inner = new ArrayList<>();
+
+    bulkhead.of(
+        () -> {
+          inner.add(bulkhead.of((CheckedRunnable) runs::incrementAndGet));
+        });
+
+    assertThat(inner.get(0).unsafeGetError(), instanceOf(Bulkhead.RejectedException.class));
+    assertThat(runs.get(), is(0));
+  }
+
+  @Test
+  void shouldRecoverFromRejection() {
+    final Bulkhead bulkhead = Bulkhead.builder().maxConcurrentCalls(1).build();
+    final List<Result<String, Throwable>> inner = new ArrayList<>();
+
+    bulkhead.of(
+        () -> {
+          inner.add(
+              bulkhead
+                  .of(() -> "INNER")
+                  .recover(Bulkhead.RejectedException.class, e -> "FALLBACK"));
+          return "OUTER";
+        });
+
+    assertThat(inner.get(0), is(Result.success("FALLBACK")));
+  }
+
+  @Test
+  void shouldReleasePermitOnFailure() {
+    final Bulkhead bulkhead = Bulkhead.builder().maxConcurrentCalls(1).build();
+
+    bulkhead.of(
+        () -> {
+          throw new IOException("FAILURE");
+        });
+
+    assertThat(bulkhead.inFlight(), is(0));
+    assertThat(bulkhead.of(() -> "SUCCESS"), is(Result.success("SUCCESS")));
+  }
+
+  @Test
+  void shouldNeverExceedLimitUnderContention() throws Exception {
+    final Bulkhead bulkhead = Bulkhead.builder().maxConcurrentCalls(3).build();
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger peak = new AtomicInteger();
+    final CountDownLatch start = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int i = 0; i < 1_000; i++) {
+                    bulkhead.of(
+                        () -> {
+                          peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                          running.decrementAndGet();
+                          return "SUCCESS";
+                        });
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (Future<?> f : futures) {
+        f.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(peak.get() <= 3, is(true));
+    assertThat(bulkhead.inFlight(), is(0));
+  }
+
+  @Test
+  void adaptiveLimitShouldGrowWhenFastAndBusy() {
+    final Bulkhead bulkhead = adaptive().build();
+    assertThat(bulkhead.limit(), is(2));
+
+    bulkhead.of(taking(Duration.ofMillis(10)));
+    assertThat(bulkhead.limit(), is(3));
+
+    bulkhead.of(
+        () -> {
+          bulkhead.of(taking(Duration.ofMillis(10)));
+          return "OUTER";
+        });
+    assertThat(bulkhead.limit(), is(4));
+  }
+
+  @Test
+  void adaptiveLimitShouldNotGrowWhenMostlyIdle() {
+    final Bulkhead bulkhead = adaptive().build();
+    bulkhead.of(taking(Duration.ofMillis(10)));
+    assertThat(bulkhead.limit(), is(3));
+
+    bulkhead.of(taking(Duration.ofMillis(10)));
+    bulkhead.of(taking(Duration.ofMillis(10)));
+    assertThat(bulkhead.limit(), is(3));
+  }
+
+  @Test
+  void adaptiveLimitShouldShrinkWhenSlow() {
+    final Bulkhead bulkhead = adaptive().build();
+    bulkhead.of(taking(Duration.ofMillis(10)));
+    assertThat(bulkhead.limit(), is(3));
+
+    bulkhead.of(taking(Duration.ofMillis(200)));
+    assertThat(bulkhead.limit(), is(2));
+
+    bulkhead.of(taking(Duration.ofMillis(200)));
+    assertThat(bulkhead.limit(), is(2));
+  }
+
+  @Test
+  void adaptiveLimitShouldShrinkOnRecordedFailuresOnly() {
+    final Bulkhead bulkhead = adaptive().recordOn(IOException.class).build();
+    bulkhead.of(taking(Duration.ofMillis(10)));
+
+    bulkhead.of(
+        () -> {
+          throw new IllegalArgumentException("FAILURE");
+        });
+    assertThat(bulkhead.limit(), is(3));
+
+    bulkhead.of(
+        () -> {
+          throw new IOException("FAILURE");
+        });
+    assertThat(bulkhead.limit(), is(2));
+  }
+
+  @Test
+  void shouldRejectInvalidConfiguration() {
+    assertThrows(IllegalArgumentException.class, () -> Bulkhead.builder().maxConcurrentCalls(0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Bulkhead.builder().adaptive(0, 10, Duration.ofMillis(1)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Bulkhead.builder().adaptive(5, 4, Duration.ofMillis(1)));
+    assertThrows(
+        IllegalArgumentException.class, () -> Bulkhead.builder().adaptive(1, 4, Duration.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> Bulkhead.builder().backoffRatio(1));
+    assertThrows(NullPointerException.class, () -> Bulkhead.builder().name(null));
+  }
+
+  @Test
+  void shouldDescribeItself() {
+    final Bulkhead bulkhead = Bulkhead.builder().name("db").maxConcurrentCalls(4).build();
+    assertThat(bulkhead.toString(), is("Bulkhead[db, inFlight=0, limit=4]"));
+    assertThat(bulkhead.name(), is("db"));
+  }
+}
@@ -0,0 +1,225 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  private CircuitBreaker.Builder builder() {
+    return CircuitBreaker.builder()
+        .failureRateThreshold(0.5)
+        .minimumCalls(4)
+        .window(Duration.ofSeconds(10), 10)
+        .openDuration(Duration.ofSeconds(30))
+        .ticker(now::get);
+  }
+
+  private CheckedSupplier<String> succeeding() {
+    return () -> {
+      calls.incrementAndGet();
+      return "SUCCESS";
+    };
+  }
+
+  private CheckedSupplier<String> failing() {
+    return () -> {
+      calls.incrementAndGet();
+      throw new IOException("FAILURE");
+    };
+  }
+
+  private void advance(final Duration d) {
+    now.addAndGet(d.toNanos());
+  }
+
+  private static void trip(final CircuitBreaker breaker) {
+    for (int i = 0; i < 4; i++) {
+      breaker.of(
+          () -> {
+            throw new IOException();
+          });
+    }
+    assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+  }
+
+  @Test
+  void shouldOpenOnceTheFailureRateIsReached() {
+    final CircuitBreaker breaker = builder().build();
+    breaker.of(succeeding());
+    breaker.of(failing());
+    breaker.of(succeeding());
+    assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+    breaker.of(failing());
+    assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+  }
+
+  @Test
+  void shouldNotOpenBelowMinimumCalls() {
+    final CircuitBreaker breaker = builder().build();
+    for (int i = 0; i < 3; i++) {
+      breaker.of(failing());
+    }
+    assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+  }
+
+  @Test
+  void openBreakerShouldRejectWithoutCalling() {
+    final CircuitBreaker breaker = builder().build();
+    trip(breaker);
+    final Result<String, Throwable> first = breaker.of(succeeding());
+    final Result<Integer, Throwable> second = breaker.of(() -> 1);
+    assertThat(calls.get(), is(0));
+    assertThat(first.unsafeGetError(), instanceOf(CircuitBreaker.OpenException.class));
+    assertThat(first, sameInstance((Object) second));
+    assertThat(first.unsafeGetError().getStackTrace().length, is(0));
+
+    final Completable<Throwable> completable = breaker.of((CheckedRunnable) calls::incrementAndGet);
+    assertThat(calls.get(), is(0));
+    assertThat(completable.unsafeGetError(), instanceOf(CircuitBreaker.OpenException.class));
+  }
+
+  @Test
+  void successfulTrialsShouldCloseTheBreaker() {
+    final CircuitBreaker breaker = builder().halfOpenCalls(2).build();
+    trip(breaker);
+    advance(Duration.ofSeconds(30));
+    assertThat(breaker.state(), is(CircuitBreaker.State.HALF_OPEN));
+    assertThat(breaker.of(succeeding()), is(Result.success("SUCCESS")));
+    assertThat(breaker.state(), is(CircuitBreaker.State.HALF_OPEN));
+    assertThat(breaker.of(succeeding()), is(Result.success("SUCCESS")));
+    assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+
+    for (int i = 0; i < 3; i++) {
+      breaker.of(failing());
+    }
+    assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+  }
+
+  @Test
+  void failedTrialShouldOpenTheBreakerAgain() {
+    final CircuitBreaker breaker = builder().build();
+    trip(breaker);
+    advance(Duration.ofSeconds(30));
+    breaker.of(failing());
+    assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+    advance(Duration.ofSeconds(29));
+    assertThat(
+        breaker.of(succeeding()).unsafeGetError(), instanceOf(CircuitBreaker.OpenException.class));
+    assertThat(calls.get(), is(1));
+  }
+
+  @Test
+  void halfOpenShouldLimitTrialCalls() {
+    final CircuitBreaker breaker = builder().build();
+    trip(breaker);
+    advance(Duration.ofSeconds(30));
+    final Result<String, Throwable> nested =
+        breaker.of(() -> breaker.of(succeeding()).unsafeGetError().getMessage());
+    assertThat(nested, is(Result.success("circuit breaker is open")));
+    assertThat(calls.get(), is(0));
+  }
+
+  @Test
+  void rejectedTrialCallsShouldNotUsePermits() {
+    final CircuitBreaker breaker = builder().halfOpenCalls(2).build();
+    trip(breaker);
+    advance(Duration.ofSeconds(30));
+    final List<Integer> permits = new ArrayList<>();
+    breaker.of(
+        () ->
+            breaker.of(
+                () -> {
+                  for (int i = 0; i < 1_000; i++) {
+                    breaker.of(succeeding());
+                    permits.add(breaker.permits());
+                  }
+                  return "SUCCESS";
+                }));
+
+    assertThat(calls.get(), is(0));
+    assertThat(permits.stream().allMatch(n -> n == 0), is(true));
+    assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+  }
+
+  @Test
+  void oldBucketsShouldExpire() {
+    final CircuitBreaker breaker = builder().build();
+    for (int i = 0; i < 3; i++) {
+      breaker.of(failing());
+    }
+    advance(Duration.ofSeconds(11));
+    breaker.of(failing());
+    assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+    for (int i = 0; i < 3; i++) {
+      breaker.of(failing());
+    }
+    assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+  }
+
+  @Test
+  void shouldOnlyRecordMatchingErrors() {
+    final CircuitBreaker breaker = builder().recordOn(IllegalStateException.class).build();
+    for (int i = 0; i < 10; i++) {
+      breaker.of(failing());
+    }
+    assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+  }
+
+  @Test
+  void concurrentCallsShouldBeCounted() throws Exception {
+    final CircuitBreaker breaker =
+        CircuitBreaker.builder().minimumCalls(1000).failureRateThreshold(1).build();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < 10_000; i++) {
+                    breaker.of(i % 2 == 0 ? succeeding() : failing());
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(calls.get(), is(40_000));
+    assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+  }
+
+  @Test
+  void invalidArguments() {
+    final CircuitBreaker.Builder builder = CircuitBreaker.builder();
+    assertThrows(IllegalArgumentException.class, () -> builder.failureRateThreshold(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.minimumCalls(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.window(Duration.ofSeconds(1), 0));
+    assertThrows(IllegalArgumentException.class, () -> builder.halfOpenCalls(0));
+    assertThrows(
+        IllegalArgumentException.class, () -> builder.openDuration(Duration.ofSeconds(-1)));
+    assertThrows(NullPointerException.class, () -> builder.build().of((CheckedSupplier<?>) null));
+    assertThrows(NullPointerException.class, () -> builder.build().of((CheckedRunnable) null));
+  }
+}
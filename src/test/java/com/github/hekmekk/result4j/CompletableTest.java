@@ -2,8 +2,10 @@ package com.github.hekmekk.result4j;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -11,7 +13,11 @@ import static org.mockito.Mockito.verifyZeroInteractions;
 
 import com.github.hekmekk.result4j.Completable.Failure;
 import com.github.hekmekk.result4j.Completable.Success;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.NoSuchElementException;
 import java.util.function.Consumer;
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -39,9 +45,72 @@ class CompletableTest {
         instanceOf(RuntimeException.class));
   }
 
+  @Test
+  void ofWithStackCapture() {
+    assertThrows(NullPointerException.class, () -> Completable.of(() -> {}, null));
+    assertThat(Completable.of(() -> {}, StackCapture.suppressed()), is(Completable.success()));
+    assertThat(
+        Completable.of(
+                () -> {
+                  throw new Exception("FAILURE");
+                },
+                StackCapture.suppressed())
+            .unsafeGetError()
+            .getStackTrace()
+            .length,
+        is(0));
+  }
+
   @Test
   void success() {
     assertThat(Completable.success(), instanceOf(Success.class));
+    assertThat(Completable.success(), sameInstance(Completable.success()));
+  }
+
+  @Test
+  void error() {
+    assertThat(((Completable.Failure<String>) Completable.<String>failure("E")).error(), is("E"));
+  }
+
+  @Test
+  void successShouldNotAllocate() {
+    final double allocated = Allocations.perIteration(100_000, Completable::success);
+    assertTrue(allocated < 1, () -> allocated + " bytes allocated per iteration");
+  }
+
+  @Test
+  void deserializedSuccessShouldBeSharedInstance() throws Exception {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(Completable.success());
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertThat(in.readObject(), sameInstance(Completable.success()));
+    }
+  }
+
+  @Test
+  void from() {
+    assertThrows(NullPointerException.class, () -> Completable.from(null));
+    assertThat(Completable.from(Result.success(Done.DONE)), sameInstance(Completable.success()));
+    assertThat(Completable.from(Result.failure(1)), is(Completable.failure(1)));
+  }
+
+  @Test
+  void toResult() {
+    assertThat(Completable.success().toResult(), sameInstance(Result.success(Done.DONE)));
+    assertThat(Completable.failure(1).toResult(), is(Result.failure(1)));
+  }
+
+  @Test
+  void successfulConversionsShouldNotAllocate() {
+    final Result<Done, Integer> done = Result.success(Done.DONE);
+    final double from = Allocations.perIteration(100_000, () -> Completable.from(done));
+    assertTrue(from < 1, () -> from + " bytes allocated per iteration");
+    final double toResult =
+        Allocations.perIteration(100_000, () -> Completable.<Integer>success().toResult());
+    assertTrue(toResult < 1, () -> toResult + " bytes allocated per iteration");
   }
 
   @Test
@@ -0,0 +1,242 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class CompletablesTest {
+
+  private static ExecutorService executor;
+
+  @BeforeAll
+  static void startExecutor() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterAll
+  static void stopExecutor() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void shouldSucceedWhenAllTasksSucceed() {
+    final AtomicInteger runs = new AtomicInteger();
+    final List<CheckedRunnable> tasks = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      tasks.add(runs::incrementAndGet);
+    }
+
+    assertThat(
+        Completables.runAll(tasks, executor, Completables.RunPolicy.collectAll()),
+        is(Completable.success()));
+    assertThat(runs.get(), is(100));
+  }
+
+  @Test
+  void shouldSucceedWithoutTasks() {
+    assertThat(
+        Completables.runAll(Collections.emptyList(), executor, Completables.RunPolicy.collectAll()),
+        is(Completable.success()));
+  }
+
+  @Test
+  void shouldCollectAllErrorsInTaskOrder() {
+    final IOException first = new IOException("FIRST");
+    final IOException second = new IOException("SECOND");
+    final AtomicInteger runs = new AtomicInteger();
+    final List<CheckedRunnable> tasks =
+        Arrays.asList(
+            runs::incrementAndGet,
+            () -> {
+              runs.incrementAndGet();
+              throw first;
+            },
+            runs::incrementAndGet,
+            () -> {
+              runs.incrementAndGet();
+              throw second;
+            });
+
+    final Completable<List<Throwable>> completable =
+        Completables.runAll(tasks, executor, Completables.RunPolicy.collectAll());
+
+    assertThat(completable.unsafeGetError(), is(Arrays.asList(first, second)));
+    assertThat(runs.get(), is(4));
+  }
+
+  @Test
+  void shouldSkipPendingTasksWhenFailingFast() {
+    final AtomicInteger runs = new AtomicInteger();
+    final IOException error = new IOException("FAILURE");
+    final List<CheckedRunnable> tasks = new ArrayList<>();
+    tasks.add(
+        () -> {
+          runs.incrementAndGet();
+          throw error;
+        });
+    for (int i = 0; i < 10; i++) {
+      tasks.add(runs::incrementAndGet);
+    }
+
+    final Completable<List<Throwable>> completable =
+        Completables.runAll(tasks, executor, Completables.RunPolicy.failFast().maxConcurrency(1));
+
+    assertThat(completable.unsafeGetError(), is(Collections.singletonList(error)));
+    assertThat(runs.get(), is(1));
+  }
+
+  @Test
+  void shouldNotExceedMaxConcurrency() {
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger peak = new AtomicInteger();
+    final List<CheckedRunnable> tasks = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      tasks.add(
+          () -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            running.decrementAndGet();
+          });
+    }
+
+    assertThat(
+        Completables.runAll(tasks, executor, Completables.RunPolicy.collectAll().maxConcurrency(2)),
+        is(Completable.success()));
+    assertThat(peak.get() <= 2, is(true));
+  }
+
+  @Test
+  void shouldRunTasksInParallel() throws InterruptedException {
+    final CountDownLatch started = new CountDownLatch(3);
+    final List<CheckedRunnable> tasks = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      tasks.add(
+          () -> {
+            started.countDown();
+            if (!started.await(5, TimeUnit.SECONDS)) {
+              throw new IllegalStateException("tasks did not run in parallel");
+            }
+          });
+    }
+
+    final AsyncCompletable<List<Throwable>> completable =
+        Completables.runAllAsync(tasks, executor, Completables.RunPolicy.collectAll());
+
+    assertThat(
+        completable.toCompletionStage().toCompletableFuture().join(), is(Completable.success()));
+  }
+
+  @Test
+  void shouldReportRejectionAndRunTasksOnRemainingWorkers() {
+    final AtomicInteger submissions = new AtomicInteger();
+    final AtomicInteger runs = new AtomicInteger();
+    final List<CheckedRunnable> tasks = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      tasks.add(runs::incrementAndGet);
+    }
+
+    final Completable<List<Throwable>> completable =
+        Completables.runAll(
+            tasks,
+            r -> {
+              if (submissions.incrementAndGet() == 1) {
+                throw new RejectedExecutionException("REJECTED");
+              }
+              r.run();
+            },
+            Completables.RunPolicy.collectAll().maxConcurrency(2));
+
+    assertThat(completable.unsafeGetError().size(), is(1));
+    assertThat(completable.unsafeGetError().get(0), instanceOf(RejectedExecutionException.class));
+    assertThat(runs.get(), is(5));
+  }
+
+  @Test
+  void rejectionShouldNotStopOtherWorkersWhenFailingFast() {
+    final AtomicInteger submissions = new AtomicInteger();
+    final AtomicInteger runs = new AtomicInteger();
+    final List<CheckedRunnable> tasks = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      tasks.add(runs::incrementAndGet);
+    }
+
+    final Completable<List<Throwable>> completable =
+        Completables.runAll(
+            tasks,
+            r -> {
+              if (submissions.incrementAndGet() == 1) {
+                throw new RejectedExecutionException("REJECTED");
+              }
+              r.run();
+            },
+            Completables.RunPolicy.failFast().maxConcurrency(2));
+
+    assertThat(completable.unsafeGetError().size(), is(1));
+    assertThat(runs.get(), is(5));
+  }
+
+  @Test
+  void shouldReportEveryTaskWhenAllWorkersAreRejected() {
+    final AtomicInteger runs = new AtomicInteger();
+    final RejectedExecutionException rejection = new RejectedExecutionException("REJECTED");
+
+    final Completable<List<Throwable>> completable =
+        Completables.runAll(
+            Arrays.asList(runs::incrementAndGet, runs::incrementAndGet, runs::incrementAndGet),
+            r -> {
+              throw rejection;
+            },
+            Completables.RunPolicy.failFast().maxConcurrency(2));
+
+    final List<Throwable> errors = completable.unsafeGetError();
+    assertThat(runs.get(), is(0));
+    assertThat(errors.size(), is(5));
+    assertThat(errors.get(0), is(rejection));
+    assertThat(errors.get(1), is(rejection));
+    for (int i = 2; i < 5; i++) {
+      assertThat(errors.get(i), instanceOf(Completables.NotStartedException.class));
+      assertThat(errors.get(i).getCause(), is(rejection));
+    }
+    assertThat(errors.get(4).getMessage(), is("task 2 was not started"));
+  }
+
+  @Test
+  void shouldRejectNullTask() {
+    assertThrows(
+        NullPointerException.class,
+        () ->
+            Completables.runAll(
+                Collections.singletonList(null), executor, Completables.RunPolicy.collectAll()));
+  }
+
+  @Test
+  void shouldRejectNonPositiveMaxConcurrency() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Completables.RunPolicy.collectAll().maxConcurrency(0));
+  }
+
+  @Test
+  void shouldDescribePolicy() {
+    assertThat(
+        Completables.RunPolicy.failFast().maxConcurrency(3).toString(),
+        is("RunPolicy[failFast, maxConcurrency=3]"));
+    assertThat(Completables.RunPolicy.collectAll().toString(), is("RunPolicy[collectAll]"));
+  }
+}
@@ -0,0 +1,31 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import org.junit.jupiter.api.Test;
+
+class DoneTest {
+
+  @Test
+  void toStringShouldMatch() {
+    assertThat(Done.DONE.toString(), is("Done"));
+  }
+
+  @Test
+  void deserializationShouldPreserveIdentity() throws Exception {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(Done.DONE);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertThat(in.readObject(), sameInstance(Done.DONE));
+    }
+  }
+}
@@ -0,0 +1,161 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import com.github.hekmekk.result4j.DoubleResult.Failure;
+import com.github.hekmekk.result4j.DoubleResult.Success;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.ToDoubleFunction;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+class DoubleResultTest {
+
+  @Test
+  @SuppressWarnings("ResultOfMethodCallIgnored")
+  void successAndFailure() {
+    assertThat(DoubleResult.success(1.0), instanceOf(Success.class));
+    assertThrows(NullPointerException.class, () -> DoubleResult.failure(null));
+    assertThat(DoubleResult.failure(1), instanceOf(Failure.class));
+  }
+
+  @Test
+  void verifyEqualsAndHashcodeContract() {
+    EqualsVerifier.forClass(Success.class).verify();
+    EqualsVerifier.forClass(Failure.class).verify();
+  }
+
+  @Test
+  void toStringShouldMatch() {
+    assertThat(DoubleResult.success(1.0).toString(), is("Success[value=1.0]"));
+    assertThat(DoubleResult.failure(1).toString(), is("Failure[error=1]"));
+  }
+
+  @Test
+  void map() {
+    assertThrows(NullPointerException.class, () -> DoubleResult.success(1.0).map(null));
+    assertThat(DoubleResult.success(1.0).map(v -> v + 1), is(DoubleResult.success(2.0)));
+    assertThat(DoubleResult.failure(1).map(v -> v + 1), is(DoubleResult.failure(1)));
+  }
+
+  @Test
+  void mapToObj() {
+    assertThrows(NullPointerException.class, () -> DoubleResult.success(1.0).mapToObj(null));
+    assertThat(DoubleResult.success(1.0).mapToObj(String::valueOf), is(Result.success("1.0")));
+    assertThat(DoubleResult.failure(1).mapToObj(String::valueOf), is(Result.failure(1)));
+  }
+
+  @Test
+  void flatMap() {
+    assertThrows(NullPointerException.class, () -> DoubleResult.success(1.0).flatMap(null));
+    final DoubleResult<Integer> success = DoubleResult.success(1.0);
+    final DoubleResult<Integer> failure = DoubleResult.failure(1);
+    assertThat(success.flatMap(v -> DoubleResult.success(v + 1)), is(DoubleResult.success(2.0)));
+    assertThat(success.flatMap(v -> DoubleResult.failure(23)), is(DoubleResult.failure(23)));
+    assertThat(failure.flatMap(v -> DoubleResult.success(v + 1)), is(failure));
+  }
+
+  @Test
+  void recover() {
+    final DoubleResult<String> success = DoubleResult.success(1.0);
+    final DoubleResult<String> failure = DoubleResult.failure("FAILURE");
+    assertThrows(NullPointerException.class, () -> failure.recover(null, String::length));
+    assertThrows(NullPointerException.class, () -> failure.recover(String.class, null));
+    assertThrows(NullPointerException.class, () -> failure.recover(null));
+    assertThat(success.recover(String.class, String::length), is(success));
+    assertThat(failure.recover(String::length), is(DoubleResult.success(7)));
+
+    final DoubleResult<Throwable> recoverException =
+        DoubleResult.<Throwable>failure(new IOException("FAILURE"))
+            .recover(IllegalStateException.class, e -> 42)
+            .recover(IOException.class, e -> 23);
+    assertThat(recoverException, is(DoubleResult.success(23)));
+  }
+
+  @Test
+  void recoverWith() {
+    final DoubleResult<String> success = DoubleResult.success(1.0);
+    final DoubleResult<String> failure = DoubleResult.failure("FAILURE");
+    assertThrows(NullPointerException.class, () -> failure.recoverWith(null));
+    assertThrows(NullPointerException.class, () -> failure.recoverWith(String.class, null));
+    assertThat(success.recoverWith(null), is(success));
+    assertThat(failure.recoverWith(e -> DoubleResult.success(2.0)), is(DoubleResult.success(2.0)));
+
+    final DoubleResult<Throwable> recoverException =
+        DoubleResult.<Throwable>failure(new IOException("FAILURE"))
+            .recoverWith(IllegalStateException.class, e -> DoubleResult.success(42))
+            .recoverWith(IOException.class, e -> DoubleResult.success(23));
+    assertThat(recoverException, is(DoubleResult.success(23)));
+  }
+
+  @Test
+  void fold() {
+    assertThrows(
+        NullPointerException.class, () -> DoubleResult.success(1.0).fold(null, e -> "failure"));
+    assertThrows(
+        NullPointerException.class, () -> DoubleResult.failure(1).fold(v -> "success", null));
+    assertThat(DoubleResult.success(1.0).fold(v -> "success", e -> "failure"), is("success"));
+    assertThat(DoubleResult.failure(1).fold(v -> "success", e -> "failure"), is("failure"));
+  }
+
+  @Test
+  void orElse() {
+    assertThrows(
+        NullPointerException.class, () -> DoubleResult.failure(1).orElse((DoubleSupplier) null));
+    assertThrows(
+        NullPointerException.class,
+        () -> DoubleResult.<Integer>failure(1).orElse((ToDoubleFunction<Integer>) null));
+    assertThat(DoubleResult.success(1.0).orElse(2.0), is(1.0));
+    assertThat(DoubleResult.failure(1).orElse(2.0), is(2.0));
+    assertThat(DoubleResult.success(1.0).orElse(() -> 2.0), is(1.0));
+    assertThat(DoubleResult.failure(1).orElse(() -> 2.0), is(2.0));
+    assertThat(DoubleResult.<Integer>success(1.0).orElse(e -> e + 1), is(1.0));
+    assertThat(DoubleResult.<Integer>failure(1).orElse(e -> e + 1), is(2.0));
+  }
+
+  @Test
+  void unsafeGet() {
+    assertThat(DoubleResult.success(1.0).unsafeGet(), is(1.0));
+    assertThrows(NoSuchElementException.class, () -> DoubleResult.failure(1).unsafeGet());
+    assertThat(DoubleResult.failure(1).unsafeGetError(), is(1));
+    assertThrows(NoSuchElementException.class, () -> DoubleResult.success(1.0).unsafeGetError());
+  }
+
+  @Test
+  void onSuccess() {
+    final DoubleConsumer consumer = mock(DoubleConsumer.class);
+    assertThrows(NullPointerException.class, () -> DoubleResult.success(1.0).onSuccess(null));
+    DoubleResult.failure(1).onSuccess(consumer);
+    verifyZeroInteractions(consumer);
+    DoubleResult.success(1.0).onSuccess(consumer);
+    verify(consumer, times(1)).accept(1.0);
+  }
+
+  @Test
+  void onFailure() {
+    @SuppressWarnings("unchecked")
+    final Consumer<Integer> consumer = mock(Consumer.class);
+    assertThrows(NullPointerException.class, () -> DoubleResult.failure(1).onFailure(null));
+    DoubleResult.<Integer>success(1.0).onFailure(consumer);
+    verifyZeroInteractions(consumer);
+    DoubleResult.failure(1).onFailure(consumer);
+    verify(consumer, times(1)).accept(1);
+  }
+
+  @Test
+  void toResult() {
+    assertThat(DoubleResult.success(1.0).toResult(), is(Result.success(1.0)));
+    assertThat(DoubleResult.failure(1).toResult(), is(Result.failure(1)));
+  }
+}
@@ -0,0 +1,158 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import com.github.hekmekk.result4j.IntResult.Failure;
+import com.github.hekmekk.result4j.IntResult.Success;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+class IntResultTest {
+
+  @Test
+  @SuppressWarnings("ResultOfMethodCallIgnored")
+  void successAndFailure() {
+    assertThat(IntResult.success(1), instanceOf(Success.class));
+    assertThrows(NullPointerException.class, () -> IntResult.failure(null));
+    assertThat(IntResult.failure(1), instanceOf(Failure.class));
+  }
+
+  @Test
+  void verifyEqualsAndHashcodeContract() {
+    EqualsVerifier.forClass(Success.class).verify();
+    EqualsVerifier.forClass(Failure.class).verify();
+  }
+
+  @Test
+  void toStringShouldMatch() {
+    assertThat(IntResult.success(1).toString(), is("Success[value=1]"));
+    assertThat(IntResult.failure(1).toString(), is("Failure[error=1]"));
+  }
+
+  @Test
+  void map() {
+    assertThrows(NullPointerException.class, () -> IntResult.success(1).map(null));
+    assertThat(IntResult.success(1).map(v -> v + 1), is(IntResult.success(2)));
+    assertThat(IntResult.failure(1).map(v -> v + 1), is(IntResult.failure(1)));
+  }
+
+  @Test
+  void mapToObj() {
+    assertThrows(NullPointerException.class, () -> IntResult.success(1).mapToObj(null));
+    assertThat(IntResult.success(1).mapToObj(String::valueOf), is(Result.success("1")));
+    assertThat(IntResult.failure(1).mapToObj(String::valueOf), is(Result.failure(1)));
+  }
+
+  @Test
+  void flatMap() {
+    assertThrows(NullPointerException.class, () -> IntResult.success(1).flatMap(null));
+    final IntResult<Integer> success = IntResult.success(1);
+    final IntResult<Integer> failure = IntResult.failure(1);
+    assertThat(success.flatMap(v -> IntResult.success(v + 1)), is(IntResult.success(2)));
+    assertThat(success.flatMap(v -> IntResult.failure(23)), is(IntResult.failure(23)));
+    assertThat(failure.flatMap(v -> IntResult.success(v + 1)), is(failure));
+  }
+
+  @Test
+  void recover() {
+    final IntResult<String> success = IntResult.success(1);
+    final IntResult<String> failure = IntResult.failure("FAILURE");
+    assertThrows(NullPointerException.class, () -> failure.recover(null, String::length));
+    assertThrows(NullPointerException.class, () -> failure.recover(String.class, null));
+    assertThrows(NullPointerException.class, () -> failure.recover(null));
+    assertThat(success.recover(String.class, String::length), is(success));
+    assertThat(failure.recover(String::length), is(IntResult.success(7)));
+
+    final IntResult<Throwable> recoverException =
+        IntResult.<Throwable>failure(new IOException("FAILURE"))
+            .recover(IllegalStateException.class, e -> 42)
+            .recover(IOException.class, e -> 23);
+    assertThat(recoverException, is(IntResult.success(23)));
+  }
+
+  @Test
+  void recoverWith() {
+    final IntResult<String> success = IntResult.success(1);
+    final IntResult<String> failure = IntResult.failure("FAILURE");
+    assertThrows(NullPointerException.class, () -> failure.recoverWith(null));
+    assertThrows(NullPointerException.class, () -> failure.recoverWith(String.class, null));
+    assertThat(success.recoverWith(null), is(success));
+    assertThat(failure.recoverWith(e -> IntResult.success(2)), is(IntResult.success(2)));
+
+    final IntResult<Throwable> recoverException =
+        IntResult.<Throwable>failure(new IOException("FAILURE"))
+            .recoverWith(IllegalStateException.class, e -> IntResult.success(42))
+            .recoverWith(IOException.class, e -> IntResult.success(23));
+    assertThat(recoverException, is(IntResult.success(23)));
+  }
+
+  @Test
+  void fold() {
+    assertThrows(NullPointerException.class, () -> IntResult.success(1).fold(null, e -> "failure"));
+    assertThrows(NullPointerException.class, () -> IntResult.failure(1).fold(v -> "success", null));
+    assertThat(IntResult.success(1).fold(v -> "success", e -> "failure"), is("success"));
+    assertThat(IntResult.failure(1).fold(v -> "success", e -> "failure"), is("failure"));
+  }
+
+  @Test
+  void orElse() {
+    assertThrows(NullPointerException.class, () -> IntResult.failure(1).orElse((IntSupplier) null));
+    assertThrows(
+        NullPointerException.class,
+        () -> IntResult.<Integer>failure(1).orElse((ToIntFunction<Integer>) null));
+    assertThat(IntResult.success(1).orElse(2), is(1));
+    assertThat(IntResult.failure(1).orElse(2), is(2));
+    assertThat(IntResult.success(1).orElse(() -> 2), is(1));
+    assertThat(IntResult.failure(1).orElse(() -> 2), is(2));
+    assertThat(IntResult.<Integer>success(1).orElse(e -> e + 1), is(1));
+    assertThat(IntResult.<Integer>failure(1).orElse(e -> e + 1), is(2));
+  }
+
+  @Test
+  void unsafeGet() {
+    assertThat(IntResult.success(1).unsafeGet(), is(1));
+    assertThrows(NoSuchElementException.class, () -> IntResult.failure(1).unsafeGet());
+    assertThat(IntResult.failure(1).unsafeGetError(), is(1));
+    assertThrows(NoSuchElementException.class, () -> IntResult.success(1).unsafeGetError());
+  }
+
+  @Test
+  void onSuccess() {
+    final IntConsumer consumer = mock(IntConsumer.class);
+    assertThrows(NullPointerException.class, () -> IntResult.success(1).onSuccess(null));
+    IntResult.failure(1).onSuccess(consumer);
+    verifyZeroInteractions(consumer);
+    IntResult.success(1).onSuccess(consumer);
+    verify(consumer, times(1)).accept(1);
+  }
+
+  @Test
+  void onFailure() {
+    @SuppressWarnings("unchecked")
+    final Consumer<Integer> consumer = mock(Consumer.class);
+    assertThrows(NullPointerException.class, () -> IntResult.failure(1).onFailure(null));
+    IntResult.<Integer>success(1).onFailure(consumer);
+    verifyZeroInteractions(consumer);
+    IntResult.failure(1).onFailure(consumer);
+    verify(consumer, times(1)).accept(1);
+  }
+
+  @Test
+  void toResult() {
+    assertThat(IntResult.success(1).toResult(), is(Result.success(1)));
+    assertThat(IntResult.failure(1).toResult(), is(Result.failure(1)));
+  }
+}
@@ -0,0 +1,143 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LazyResultTest {
+
+  @Test
+  void ofShouldNotEvaluateUntilNeeded() {
+    final AtomicInteger calls = new AtomicInteger();
+    final LazyResult<Integer, Throwable> lazy = LazyResult.of(calls::incrementAndGet);
+    final LazyResult<String, Throwable> mapped =
+        lazy.map(n -> n + 1).flatMap(n -> LazyResult.success(n * 2)).map(String::valueOf);
+    assertThat(calls.get(), is(0));
+    assertThat(mapped.isEvaluated(), is(false));
+    assertThat(mapped.toString(), is("LazyResult[?]"));
+
+    assertThat(mapped.toResult(), is(Result.success("4")));
+    assertThat(mapped.toResult(), is(Result.success("4")));
+    assertThat(lazy.orElse(0), is(1));
+    assertThat(calls.get(), is(1));
+    assertThat(mapped.isEvaluated(), is(true));
+    assertThat(mapped.toString(), is("LazyResult[Success[value=4]]"));
+  }
+
+  @Test
+  void ofShouldCaptureFailures() {
+    assertThrows(NullPointerException.class, () -> LazyResult.of(null));
+    final LazyResult<Object, Throwable> lazy =
+        LazyResult.of(
+            () -> {
+              throw new IOException("FAILURE");
+            });
+    assertThat(lazy.toResult().unsafeGetError(), instanceOf(IOException.class));
+    assertThat(lazy.fold(v -> "success", e -> "failure"), is("failure"));
+  }
+
+  @Test
+  void fromShouldRetryIfSupplierThrows() {
+    final AtomicInteger calls = new AtomicInteger();
+    final LazyResult<Integer, String> lazy =
+        LazyResult.from(
+            () -> {
+              if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+              }
+              return Result.success(calls.get());
+            });
+    assertThrows(IllegalStateException.class, lazy::toResult);
+    assertThat(lazy.isEvaluated(), is(false));
+    assertThat(lazy.toResult(), is(Result.success(2)));
+    assertThat(lazy.toResult(), is(Result.success(2)));
+  }
+
+  @Test
+  void fromResult() {
+    final Result<Integer, String> result = Result.success(1);
+    assertThat(LazyResult.from(result).isEvaluated(), is(true));
+    assertThat(LazyResult.from(result).toResult(), sameInstance(result));
+  }
+
+  @Test
+  void recover() {
+    final LazyResult<Integer, Throwable> failure = LazyResult.failure(new IOException());
+    assertThat(failure.recover(e -> 1).toResult(), is(Result.success(1)));
+    assertThat(
+        failure
+            .recover(IllegalStateException.class, e -> 1)
+            .recover(IOException.class, e -> 2)
+            .toResult(),
+        is(Result.success(2)));
+    assertThat(failure.recoverWith(e -> LazyResult.success(3)).toResult(), is(Result.success(3)));
+    assertThat(
+        failure.recoverWith(IOException.class, e -> LazyResult.success(4)).toResult(),
+        is(Result.success(4)));
+    assertThat(LazyResult.success(1).recover(e -> 2).toResult(), is(Result.success(1)));
+  }
+
+  @Test
+  void orElseAndIterator() {
+    assertThat(LazyResult.failure(1).orElse(2), is(2));
+    assertThat(LazyResult.<Integer, Integer>failure(1).orElse(() -> 2), is(2));
+    assertThat(LazyResult.<Integer, Integer>failure(1).orElse(e -> e + 2), is(3));
+    final List<Integer> values = new ArrayList<>();
+    LazyResult.success(1).forEach(values::add);
+    LazyResult.<Integer, Integer>failure(1).forEach(values::add);
+    assertThat(values.size(), is(1));
+  }
+
+  @Test
+  void onSuccessAndOnFailure() {
+    final AtomicInteger calls = new AtomicInteger();
+    final LazyResult<Integer, Integer> lazy =
+        LazyResult.<Integer, Integer>success(1).onSuccess(v -> calls.incrementAndGet());
+    assertThat(calls.get(), is(0));
+    lazy.toResult();
+    lazy.toResult();
+    LazyResult.failure(1).onFailure(e -> calls.incrementAndGet()).toResult();
+    assertThat(calls.get(), is(2));
+  }
+
+  @Test
+  void supplierShouldRunOnceAcrossThreads() throws Exception {
+    final int threads = 8;
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int round = 0; round < 100; round++) {
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyResult<Integer, Throwable> lazy = LazyResult.of(calls::incrementAndGet);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Result<Integer, Throwable>>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+          futures.add(
+              executor.submit(
+                  () -> {
+                    start.await();
+                    return lazy.toResult();
+                  }));
+        }
+        start.countDown();
+        for (final Future<Result<Integer, Throwable>> future : futures) {
+          assertThat(future.get(), is(Result.success(1)));
+        }
+        assertThat(calls.get(), is(1));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
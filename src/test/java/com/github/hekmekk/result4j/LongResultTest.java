@@ -0,0 +1,161 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+import com.github.hekmekk.result4j.LongResult.Failure;
+import com.github.hekmekk.result4j.LongResult.Success;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+class LongResultTest {
+
+  @Test
+  @SuppressWarnings("ResultOfMethodCallIgnored")
+  void successAndFailure() {
+    assertThat(LongResult.success(1L), instanceOf(Success.class));
+    assertThrows(NullPointerException.class, () -> LongResult.failure(null));
+    assertThat(LongResult.failure(1), instanceOf(Failure.class));
+  }
+
+  @Test
+  void verifyEqualsAndHashcodeContract() {
+    EqualsVerifier.forClass(Success.class).verify();
+    EqualsVerifier.forClass(Failure.class).verify();
+  }
+
+  @Test
+  void toStringShouldMatch() {
+    assertThat(LongResult.success(1L).toString(), is("Success[value=1]"));
+    assertThat(LongResult.failure(1).toString(), is("Failure[error=1]"));
+  }
+
+  @Test
+  void map() {
+    assertThrows(NullPointerException.class, () -> LongResult.success(1L).map(null));
+    assertThat(LongResult.success(1L).map(v -> v + 1), is(LongResult.success(2L)));
+    assertThat(LongResult.failure(1).map(v -> v + 1), is(LongResult.failure(1)));
+  }
+
+  @Test
+  void mapToObj() {
+    assertThrows(NullPointerException.class, () -> LongResult.success(1L).mapToObj(null));
+    assertThat(LongResult.success(1L).mapToObj(String::valueOf), is(Result.success("1")));
+    assertThat(LongResult.failure(1).mapToObj(String::valueOf), is(Result.failure(1)));
+  }
+
+  @Test
+  void flatMap() {
+    assertThrows(NullPointerException.class, () -> LongResult.success(1L).flatMap(null));
+    final LongResult<Integer> success = LongResult.success(1L);
+    final LongResult<Integer> failure = LongResult.failure(1);
+    assertThat(success.flatMap(v -> LongResult.success(v + 1)), is(LongResult.success(2L)));
+    assertThat(success.flatMap(v -> LongResult.failure(23)), is(LongResult.failure(23)));
+    assertThat(failure.flatMap(v -> LongResult.success(v + 1)), is(failure));
+  }
+
+  @Test
+  void recover() {
+    final LongResult<String> success = LongResult.success(1L);
+    final LongResult<String> failure = LongResult.failure("FAILURE");
+    assertThrows(NullPointerException.class, () -> failure.recover(null, String::length));
+    assertThrows(NullPointerException.class, () -> failure.recover(String.class, null));
+    assertThrows(NullPointerException.class, () -> failure.recover(null));
+    assertThat(success.recover(String.class, String::length), is(success));
+    assertThat(failure.recover(String::length), is(LongResult.success(7)));
+
+    final LongResult<Throwable> recoverException =
+        LongResult.<Throwable>failure(new IOException("FAILURE"))
+            .recover(IllegalStateException.class, e -> 42)
+            .recover(IOException.class, e -> 23);
+    assertThat(recoverException, is(LongResult.success(23)));
+  }
+
+  @Test
+  void recoverWith() {
+    final LongResult<String> success = LongResult.success(1L);
+    final LongResult<String> failure = LongResult.failure("FAILURE");
+    assertThrows(NullPointerException.class, () -> failure.recoverWith(null));
+    assertThrows(NullPointerException.class, () -> failure.recoverWith(String.class, null));
+    assertThat(success.recoverWith(null), is(success));
+    assertThat(failure.recoverWith(e -> LongResult.success(2L)), is(LongResult.success(2L)));
+
+    final LongResult<Throwable> recoverException =
+        LongResult.<Throwable>failure(new IOException("FAILURE"))
+            .recoverWith(IllegalStateException.class, e -> LongResult.success(42))
+            .recoverWith(IOException.class, e -> LongResult.success(23));
+    assertThat(recoverException, is(LongResult.success(23)));
+  }
+
+  @Test
+  void fold() {
+    assertThrows(
+        NullPointerException.class, () -> LongResult.success(1L).fold(null, e -> "failure"));
+    assertThrows(
+        NullPointerException.class, () -> LongResult.failure(1).fold(v -> "success", null));
+    assertThat(LongResult.success(1L).fold(v -> "success", e -> "failure"), is("success"));
+    assertThat(LongResult.failure(1).fold(v -> "success", e -> "failure"), is("failure"));
+  }
+
+  @Test
+  void orElse() {
+    assertThrows(
+        NullPointerException.class, () -> LongResult.failure(1).orElse((LongSupplier) null));
+    assertThrows(
+        NullPointerException.class,
+        () -> LongResult.<Integer>failure(1).orElse((ToLongFunction<Integer>) null));
+    assertThat(LongResult.success(1L).orElse(2L), is(1L));
+    assertThat(LongResult.failure(1).orElse(2L), is(2L));
+    assertThat(LongResult.success(1L).orElse(() -> 2L), is(1L));
+    assertThat(LongResult.failure(1).orElse(() -> 2L), is(2L));
+    assertThat(LongResult.<Integer>success(1L).orElse(e -> e + 1), is(1L));
+    assertThat(LongResult.<Integer>failure(1).orElse(e -> e + 1), is(2L));
+  }
+
+  @Test
+  void unsafeGet() {
+    assertThat(LongResult.success(1L).unsafeGet(), is(1L));
+    assertThrows(NoSuchElementException.class, () -> LongResult.failure(1).unsafeGet());
+    assertThat(LongResult.failure(1).unsafeGetError(), is(1));
+    assertThrows(NoSuchElementException.class, () -> LongResult.success(1L).unsafeGetError());
+  }
+
+  @Test
+  void onSuccess() {
+    final LongConsumer consumer = mock(LongConsumer.class);
+    assertThrows(NullPointerException.class, () -> LongResult.success(1L).onSuccess(null));
+    LongResult.failure(1).onSuccess(consumer);
+    verifyZeroInteractions(consumer);
+    LongResult.success(1L).onSuccess(consumer);
+    verify(consumer, times(1)).accept(1L);
+  }
+
+  @Test
+  void onFailure() {
+    @SuppressWarnings("unchecked")
+    final Consumer<Integer> consumer = mock(Consumer.class);
+    assertThrows(NullPointerException.class, () -> LongResult.failure(1).onFailure(null));
+    LongResult.<Integer>success(1L).onFailure(consumer);
+    verifyZeroInteractions(consumer);
+    LongResult.failure(1).onFailure(consumer);
+    verify(consumer, times(1)).accept(1);
+  }
+
+  @Test
+  void toResult() {
+    assertThat(LongResult.success(1L).toResult(), is(Result.success(1L)));
+    assertThat(LongResult.failure(1).toResult(), is(Result.failure(1)));
+  }
+}
@@ -0,0 +1,132 @@
+package com.github.hekmekk.result4j;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ResultBatchTest {
+
+  private static ResultBatch<Integer, String> batch() {
+    return ResultBatch.of(
+        asList("1", "x", "3", "", "5"),
+        s ->
+            s.isEmpty()
+                ? Result.failure("EMPTY")
+                : s.chars().allMatch(Character::isDigit)
+                    ? Result.success(Integer.parseInt(s))
+                    : Result.failure("NAN"));
+  }
+
+  @Test
+  void of() {
+    final ResultBatch<Integer, String> batch = batch();
+    assertThat(batch.size(), is(5));
+    assertThat(batch.successCount(), is(3));
+    assertThat(batch.failureCount(), is(2));
+    assertThat(batch.isSuccess(0), is(true));
+    assertThat(batch.isSuccess(1), is(false));
+    assertThat(batch.get(2), is(Result.success(3)));
+    assertThat(batch.get(3), is(Result.failure("EMPTY")));
+    assertThat(batch.toString(), is("ResultBatch[size=5, successes=3]"));
+    assertThrows(IndexOutOfBoundsException.class, () -> batch.get(5));
+    assertThrows(IndexOutOfBoundsException.class, () -> batch.isSuccess(-1));
+  }
+
+  @Test
+  void views() {
+    final ResultBatch<Integer, String> batch = batch();
+    assertThat(batch.successes(), is(asList(1, 3, 5)));
+    assertThat(batch.failures(), is(asList("NAN", "EMPTY")));
+    assertThrows(UnsupportedOperationException.class, () -> batch.successes().add(7));
+    assertThat(
+        ResultBatch.fromResults(Collections.<Result<Integer, String>>emptyList()).successes(),
+        is(Collections.emptyList()));
+  }
+
+  @Test
+  void map() {
+    final AtomicInteger calls = new AtomicInteger();
+    final ResultBatch<String, String> mapped =
+        batch()
+            .map(
+                n -> {
+                  calls.incrementAndGet();
+                  return "#" + n;
+                });
+    assertThat(calls.get(), is(3));
+    assertThat(mapped.successes(), is(asList("#1", "#3", "#5")));
+    assertThat(mapped.failures(), is(asList("NAN", "EMPTY")));
+    assertThrows(NullPointerException.class, () -> batch().map(null));
+    assertThrows(NullPointerException.class, () -> batch().map(n -> null));
+  }
+
+  @Test
+  void flatMap() {
+    final ResultBatch<Integer, String> batch = batch();
+    final ResultBatch<Integer, String> mapped =
+        batch.flatMap(n -> n > 2 ? Result.success(n * 10) : Result.failure("SMALL"));
+    assertThat(
+        mapped.toList(),
+        is(
+            asList(
+                Result.failure("SMALL"),
+                Result.failure("NAN"),
+                Result.success(30),
+                Result.failure("EMPTY"),
+                Result.success(50))));
+    assertThat(batch.successes(), is(asList(1, 3, 5)));
+  }
+
+  @Test
+  void recover() {
+    final ResultBatch<Integer, String> batch = batch();
+    assertThat(batch.recover(String::length).toList().get(1), is(Result.success(3)));
+    assertThat(batch.recover(String::length).successes(), is(asList(1, 3, 3, 5, 5)));
+    assertThat(batch.failureCount(), is(2));
+    assertThat(
+        batch
+            .recoverWith(e -> e.equals("EMPTY") ? Result.success(0) : Result.failure("STILL_" + e))
+            .failures(),
+        is(asList("STILL_NAN")));
+    assertThrows(NullPointerException.class, () -> batch.recover(null, String::length));
+    assertThat(batch.recover(String::length).failures(), is(Collections.emptyList()));
+    assertThrows(NullPointerException.class, () -> batch.recover(e -> null));
+  }
+
+  @Test
+  void recoverByErrorType() {
+    final ResultBatch<Integer, Throwable> batch =
+        ResultBatch.<Integer, Throwable>builder(3)
+            .addSuccess(1)
+            .addFailure(new IOException())
+            .addFailure(new IllegalStateException())
+            .build();
+    final List<Integer> recovered = batch.recover(IOException.class, e -> 2).successes();
+    assertThat(recovered, is(asList(1, 2)));
+    assertThat(
+        batch.recoverWith(IllegalStateException.class, e -> Result.success(3)).successes(),
+        is(asList(1, 3)));
+  }
+
+  @Test
+  void builder() {
+    assertThrows(IllegalArgumentException.class, () -> ResultBatch.builder(-1));
+    final ResultBatch.Builder<Integer, String> builder = ResultBatch.builder(0);
+    for (int i = 0; i < 100; i++) {
+      builder.add(i % 10 == 0 ? Result.failure("E" + i) : Result.success(i));
+    }
+    final ResultBatch<Integer, String> batch = builder.build();
+    assertThat(batch.size(), is(100));
+    assertThat(batch.failureCount(), is(10));
+    assertThat(batch.failures().get(9), is("E90"));
+    assertThrows(NullPointerException.class, () -> ResultBatch.builder(1).addSuccess(null));
+    assertThrows(NullPointerException.class, () -> ResultBatch.builder(1).addFailure(null));
+  }
+}
@@ -0,0 +1,251 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class ResultCacheTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private final Function<Integer, Result<String, String>> loader =
+      n -> {
+        loads.incrementAndGet();
+        return n < 0 ? Result.failure("NEGATIVE " + n) : Result.success("#" + n);
+      };
+
+  private void advance(final Duration d) {
+    now.addAndGet(d.toNanos());
+  }
+
+  @Test
+  void shouldLoadOnce() {
+    final ResultCache<Integer, String, String> cache = ResultCache.builder().build(loader);
+    assertThat(cache.get(1), is(Result.success("#1")));
+    assertThat(cache.get(1), is(Result.success("#1")));
+    assertThat(cache.getIfPresent(1), is(Result.success("#1")));
+    assertThat(cache.getIfPresent(2), nullValue());
+    assertThat(loads.get(), is(1));
+  }
+
+  @Test
+  void successesAndFailuresShouldExpireSeparately() {
+    final ResultCache<Integer, String, String> cache =
+        ResultCache.builder()
+            .successTtl(Duration.ofMinutes(10))
+            .failureTtl(Duration.ofSeconds(5))
+            .ticker(now::get)
+            .build(loader);
+    cache.get(1);
+    cache.get(-1);
+    cache.get(-1);
+    assertThat(loads.get(), is(2));
+
+    advance(Duration.ofSeconds(5));
+    assertThat(cache.getIfPresent(-1), nullValue());
+    assertThat(cache.get(-1), is(Result.failure("NEGATIVE -1")));
+    cache.get(1);
+    assertThat(loads.get(), is(3));
+
+    advance(Duration.ofMinutes(10));
+    cache.get(1);
+    assertThat(loads.get(), is(4));
+  }
+
+  @Test
+  void failuresShouldNotBeCachedByDefault() {
+    final ResultCache<Integer, String, String> cache = ResultCache.builder().build(loader);
+    cache.get(-1);
+    cache.get(-1);
+    assertThat(loads.get(), is(2));
+    assertThat(cache.size(), is(0L));
+  }
+
+  @Test
+  void concurrentLoadsShouldBeDeduplicated() throws Exception {
+    final CountDownLatch loading = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final ResultCache<Integer, String, String> cache =
+        ResultCache.builder()
+            .build(
+                n -> {
+                  loads.incrementAndGet();
+                  loading.countDown();
+                  try {
+                    release.await();
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                  return Result.failure("FAILURE");
+                });
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      final List<Future<Result<String, String>>> futures = new ArrayList<>();
+      futures.add(executor.submit(() -> cache.get(1)));
+      assertThat(loading.await(5, TimeUnit.SECONDS), is(true));
+      for (int i = 0; i < 7; i++) {
+        futures.add(executor.submit(() -> cache.get(1)));
+      }
+      Thread.sleep(50);
+      release.countDown();
+      for (Future<Result<String, String>> future : futures) {
+        assertThat(future.get(5, TimeUnit.SECONDS), is(Result.failure("FAILURE")));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(loads.get(), is(1));
+  }
+
+  @Test
+  void loaderExceptionShouldNotBeCached() {
+    final ResultCache<Integer, String, String> cache =
+        ResultCache.builder()
+            .build(
+                n -> {
+                  if (loads.incrementAndGet() == 1) {
+                    throw new IllegalStateException();
+                  }
+                  return Result.success("#" + n);
+                });
+    assertThrows(IllegalStateException.class, () -> cache.get(1));
+    assertThat(cache.get(1), is(Result.success("#1")));
+    assertThrows(NullPointerException.class, () -> ResultCache.builder().build(n -> null).get(1));
+  }
+
+  @Test
+  void shouldEvictUnreferencedEntriesFirst() {
+    final ResultCache<Integer, String, String> cache =
+        ResultCache.builder().maximumSize(3).build(loader);
+    cache.get(1);
+    cache.get(2);
+    cache.get(3);
+    cache.get(1);
+    cache.get(4);
+    assertThat(cache.size(), is(3L));
+    assertThat(cache.getIfPresent(1), is(Result.success("#1")));
+    assertThat(cache.getIfPresent(2), nullValue());
+  }
+
+  @Test
+  void sizeShouldStayBoundedUnderChurn() {
+    final ResultCache<Integer, String, String> cache =
+        ResultCache.builder().maximumSize(100).build(loader);
+    for (int i = 0; i < 10_000; i++) {
+      cache.get(i % 1000);
+      if (i % 3 == 0) {
+        cache.invalidate(i % 1000);
+      }
+    }
+    assertThat(cache.size() <= 100, is(true));
+    cache.invalidateAll();
+    assertThat(cache.size(), is(0L));
+  }
+
+  @Test
+  void loadsInProgressShouldNotCauseEvictions() throws Exception {
+    final CountDownLatch loading = new CountDownLatch(8);
+    final CountDownLatch release = new CountDownLatch(1);
+    final ResultCache<Integer, String, String> cache =
+        ResultCache.builder()
+            .maximumSize(10)
+            .build(
+                n -> {
+                  if (n >= 100) {
+                    loading.countDown();
+                    try {
+                      release.await();
+                    } catch (InterruptedException e) {
+                      Thread.currentThread().interrupt();
+                    }
+                  }
+                  return Result.success("#" + n);
+                });
+    for (int i = 0; i < 10; i++) {
+      cache.get(i);
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      for (int i = 0; i < 8; i++) {
+        final int key = 100 + i;
+        executor.submit(() -> cache.get(key));
+      }
+      assertThat(loading.await(5, TimeUnit.SECONDS), is(true));
+
+      cache.get(10);
+      int present = 0;
+      for (int i = 0; i <= 10; i++) {
+        if (cache.getIfPresent(i) != null) {
+          present++;
+        }
+      }
+      assertThat(present, is(10));
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void expiredEntriesShouldBeRemovedWithoutFurtherLookups() {
+    final ResultCache<Integer, String, String> cache =
+        ResultCache.builder()
+            .successTtl(Duration.ofMinutes(10))
+            .failureTtl(Duration.ofSeconds(5))
+            .ticker(now::get)
+            .build(loader);
+    cache.get(1);
+    cache.get(-1);
+    assertThat(cache.size(), is(2L));
+
+    advance(Duration.ofSeconds(5));
+    cache.get(2);
+    assertThat(cache.size(), is(2L));
+    assertThat(cache.getIfPresent(1), is(Result.success("#1")));
+
+    advance(Duration.ofMinutes(10));
+    for (int i = 3; i < 6; i++) {
+      cache.get(i);
+    }
+    assertThat(cache.size(), is(3L));
+    assertThat(cache.getIfPresent(1), nullValue());
+    assertThat(cache.getIfPresent(2), nullValue());
+  }
+
+  @Test
+  void expiredEntriesShouldNotAccumulateUnderChurn() {
+    final ResultCache<Integer, String, String> cache =
+        ResultCache.builder().successTtl(Duration.ofSeconds(1)).ticker(now::get).build(loader);
+    for (int i = 0; i < 10_000; i++) {
+      cache.get(i);
+      advance(Duration.ofMillis(10));
+    }
+    assertThat(cache.size() < 200, is(true));
+  }
+
+  @Test
+  void invalidArguments() {
+    final ResultCache.Builder builder = ResultCache.builder();
+    assertThrows(IllegalArgumentException.class, () -> builder.maximumSize(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.successTtl(Duration.ofSeconds(-1)));
+    assertThrows(NullPointerException.class, () -> builder.failureTtl(null));
+    assertThrows(NullPointerException.class, () -> builder.build(null));
+    assertThrows(NullPointerException.class, () -> builder.build(loader).get(null));
+  }
+}
@@ -0,0 +1,110 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class ResultCodecTest {
+
+  private final ResultCodec<Long, String> codec =
+      ResultCodec.of(ResultCodec.longCodec(), ResultCodec.stringCodec());
+
+  private <V, E> Result<V, E> roundTrip(
+      final ResultCodec<V, E> codec, final Result<V, E> result, final ByteBuffer buffer) {
+    codec.encode(result, buffer);
+    assertThat(buffer.position(), is(codec.sizeOf(result)));
+    buffer.flip();
+    final Result<V, E> decoded = codec.decode(buffer);
+    assertThat(buffer.hasRemaining(), is(false));
+    return decoded;
+  }
+
+  @Test
+  void resultsShouldRoundTrip() {
+    assertThat(
+        roundTrip(codec, Result.success(42L), ByteBuffer.allocate(64)), is(Result.success(42L)));
+    assertThat(codec.sizeOf(Result.success(42L)), is(9));
+    assertThat(
+        roundTrip(codec, Result.failure("FAILURE"), ByteBuffer.allocateDirect(64)),
+        is(Result.failure("FAILURE")));
+    assertThat(codec.sizeOf(Result.failure("FAILURE")), is(12));
+
+    final ResultCodec<Integer, Integer> ints =
+        ResultCodec.of(ResultCodec.intCodec(), ResultCodec.intCodec());
+    assertThat(roundTrip(ints, Result.failure(-1), ByteBuffer.allocate(5)), is(Result.failure(-1)));
+  }
+
+  @Test
+  void completablesShouldRoundTrip() {
+    final ResultCodec<Done, String> dones =
+        ResultCodec.of(ResultCodec.doneCodec(), ResultCodec.stringCodec());
+    final ByteBuffer buffer = ByteBuffer.allocate(32);
+    dones.encode(Completable.<String>success(), buffer);
+    dones.encode(Completable.failure("FAILURE"), buffer);
+    assertThat(
+        buffer.position(),
+        is(
+            dones.sizeOf(Completable.<String>success())
+                + dones.sizeOf(Completable.failure("FAILURE"))));
+    buffer.flip();
+    assertThat(dones.decodeCompletable(buffer), sameInstance(Completable.success()));
+    assertThat(dones.decodeCompletable(buffer), is(Completable.failure("FAILURE")));
+    assertThat(
+        roundTrip(dones, Result.success(Done.DONE), ByteBuffer.allocate(1)),
+        sameInstance(Result.success(Done.DONE)));
+  }
+
+  @Test
+  void stringsShouldBeEncodedAsUtf8() {
+    final String value = "aé€😀";
+    final ByteBuffer buffer = ByteBuffer.allocate(64);
+    codec.encode(Result.failure(value), buffer);
+    final byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+    assertThat(buffer.position(), is(1 + 4 + expected.length));
+    buffer.flip();
+    assertThat(codec.decode(buffer), is(Result.failure(value)));
+    assertThat(
+        roundTrip(codec, Result.failure("\ud800"), ByteBuffer.allocate(8)),
+        is(Result.failure("?")));
+  }
+
+  @Test
+  void shouldNotDecodeForeignTags() {
+    final ByteBuffer buffer = ByteBuffer.allocate(16);
+    codec.encode(Completable.failure("E"), buffer);
+    buffer.flip();
+    assertThrows(IllegalArgumentException.class, () -> codec.decode(buffer));
+
+    final ByteBuffer other = ByteBuffer.allocate(16);
+    codec.encode(Result.success(1L), other);
+    other.flip();
+    assertThrows(IllegalArgumentException.class, () -> codec.decodeCompletable(other));
+
+    final ByteBuffer truncated = ByteBuffer.allocate(16);
+    truncated.put((byte) 2).putInt(100).flip();
+    assertThrows(IllegalArgumentException.class, () -> codec.decode(truncated));
+  }
+
+  @Test
+  void shouldNotWritePastTheLimit() {
+    assertThrows(
+        BufferOverflowException.class,
+        () -> codec.encode(Result.success(1L), ByteBuffer.allocate(8)));
+  }
+
+  @Test
+  void nullArguments() {
+    assertThrows(NullPointerException.class, () -> ResultCodec.of(null, ResultCodec.intCodec()));
+    assertThrows(NullPointerException.class, () -> ResultCodec.of(ResultCodec.intCodec(), null));
+    assertThrows(
+        NullPointerException.class,
+        () -> codec.encode((Result<Long, String>) null, ByteBuffer.allocate(1)));
+    assertThrows(NullPointerException.class, () -> codec.decode(null));
+  }
+}
@@ -0,0 +1,79 @@
+package com.github.hekmekk.result4j;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ResultCollectorsTest {
+
+  private static final int SIZE = 100_000;
+
+  private static Stream<Result<Integer, String>> results(final boolean parallel) {
+    final IntStream range = IntStream.range(0, SIZE);
+    return (parallel ? range.parallel() : range)
+        .mapToObj(i -> i % 1000 == 999 ? Result.failure("E" + i) : Result.success(i));
+  }
+
+  private static Stream<Result<Integer, String>> successes(final boolean parallel) {
+    final IntStream range = IntStream.range(0, SIZE);
+    return (parallel ? range.parallel() : range).mapToObj(Result::success);
+  }
+
+  private static List<Integer> all() {
+    return IntStream.range(0, SIZE).boxed().collect(Collectors.toList());
+  }
+
+  @Test
+  void sequence() {
+    assertThat(
+        Stream.<Result<Integer, String>>empty().collect(ResultCollectors.sequence()),
+        is(Result.success(emptyList())));
+    for (final boolean parallel : new boolean[] {false, true}) {
+      assertThat(
+          results(parallel).collect(ResultCollectors.sequence()), is(Result.failure("E999")));
+      assertThat(
+          successes(parallel).collect(ResultCollectors.sequence()), is(Result.success(all())));
+    }
+  }
+
+  @Test
+  void partition() {
+    final ResultCollectors.Partition<Integer, String> partition =
+        Stream.<Result<Integer, String>>of(
+                Result.success(1), Result.failure("A"), Result.success(2))
+            .collect(ResultCollectors.partition());
+    assertThat(partition.successes(), is(asList(1, 2)));
+    assertThat(partition.failures(), is(asList("A")));
+    assertThat(partition.toString(), is("Partition[successes=[1, 2], failures=[A]]"));
+
+    assertThat(
+        results(true).collect(ResultCollectors.partition()),
+        is(results(false).collect(ResultCollectors.partition())));
+    assertThat(results(true).collect(ResultCollectors.partition()).failures().size(), is(100));
+  }
+
+  @Test
+  void accumulate() {
+    assertThat(
+        Stream.<Result<Integer, String>>of(
+                Result.success(1), Result.failure("A"), Result.failure("B"))
+            .collect(ResultCollectors.accumulate()),
+        is(Result.failure(asList("A", "B"))));
+    for (final boolean parallel : new boolean[] {false, true}) {
+      final List<String> errors =
+          results(parallel).collect(ResultCollectors.accumulate()).unsafeGetError();
+      assertThat(errors.size(), is(100));
+      assertThat(errors.get(0), is("E999"));
+      assertThat(errors.get(99), is("E99999"));
+      assertThat(
+          successes(parallel).collect(ResultCollectors.accumulate()), is(Result.success(all())));
+    }
+  }
+}
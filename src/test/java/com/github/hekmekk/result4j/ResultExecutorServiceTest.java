@@ -0,0 +1,119 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class ResultExecutorServiceTest {
+
+  private static boolean virtualThreadsAvailable() {
+    try {
+      Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  @Test
+  void create() throws Exception {
+    assertThrows(NullPointerException.class, () -> ResultExecutorService.create(null));
+    final AtomicBoolean fallbackUsed = new AtomicBoolean();
+    try (ResultExecutorService executor =
+        ResultExecutorService.create(
+            () -> {
+              fallbackUsed.set(true);
+              return Executors.newSingleThreadExecutor();
+            })) {
+      assertThat(executor.usesVirtualThreads(), is(virtualThreadsAvailable()));
+      assertThat(fallbackUsed.get(), is(!virtualThreadsAvailable()));
+      assertThat(executor.supply(() -> 1).get(), is(Result.success(1)));
+    }
+  }
+
+  @Test
+  void supply() throws Exception {
+    try (ResultExecutorService executor =
+        ResultExecutorService.wrap(Executors.newSingleThreadExecutor())) {
+      assertThrows(NullPointerException.class, () -> executor.supply(null));
+      assertThat(executor.supply(() -> "SUCCESS").get(), is(Result.success("SUCCESS")));
+      assertThat(
+          executor
+              .supply(
+                  () -> {
+                    throw new IOException("FAILURE");
+                  })
+              .get()
+              .unsafeGetError(),
+          instanceOf(IOException.class));
+      assertThat(
+          executor
+              .supply(
+                  () -> {
+                    throw new StackOverflowError();
+                  })
+              .get()
+              .unsafeGetError(),
+          instanceOf(StackOverflowError.class));
+    }
+  }
+
+  @Test
+  void run() throws Exception {
+    try (ResultExecutorService executor =
+        ResultExecutorService.wrap(Executors.newSingleThreadExecutor())) {
+      assertThrows(NullPointerException.class, () -> executor.run(null));
+      assertThat(executor.run(() -> {}).get(), is(Completable.success()));
+      assertThat(
+          executor
+              .run(
+                  () -> {
+                    throw new IOException("FAILURE");
+                  })
+              .get()
+              .unsafeGetError(),
+          instanceOf(IOException.class));
+    }
+  }
+
+  @Test
+  void shutdown() throws Exception {
+    final ExecutorService delegate = Executors.newSingleThreadExecutor();
+    final ResultExecutorService executor = ResultExecutorService.wrap(delegate);
+    executor.shutdown();
+    assertThat(executor.awaitTermination(1, TimeUnit.SECONDS), is(true));
+    assertThat(delegate.isTerminated(), is(true));
+  }
+
+  @Test
+  void closeShouldInterruptTasksAndRestoreInterruptStatus() throws Exception {
+    final ExecutorService delegate = Executors.newSingleThreadExecutor();
+    final ResultExecutorService executor = ResultExecutorService.wrap(delegate);
+    final CountDownLatch started = new CountDownLatch(1);
+    final Future<Result<String, Throwable>> blocked =
+        executor.supply(
+            () -> {
+              started.countDown();
+              Thread.sleep(30_000);
+              return "SLOW";
+            });
+    started.await();
+
+    Thread.currentThread().interrupt();
+    executor.close();
+
+    assertThat(Thread.interrupted(), is(true));
+    assertThat(delegate.isTerminated(), is(true));
+    assertThat(blocked.get().unsafeGetError(), instanceOf(InterruptedException.class));
+  }
+}
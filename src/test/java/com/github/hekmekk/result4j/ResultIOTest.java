@@ -0,0 +1,166 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ResultIOTest {
+
+  private static final int DEPTH = 1_000_000;
+
+  @Test
+  void shouldRunPureComputation() {
+    assertThat(ResultIO.success(1).run(), is(Result.success(1)));
+    assertThat(ResultIO.failure("FAILURE").run(), is(Result.failure("FAILURE")));
+    assertThat(ResultIO.from(Result.success(1)).run(), is(Result.success(1)));
+  }
+
+  @Test
+  void shouldNotRunBeforeRun() {
+    final AtomicInteger calls = new AtomicInteger();
+    final ResultIO<Integer, Throwable> io = ResultIO.of(calls::incrementAndGet).map(i -> i * 10);
+    assertThat(calls.get(), is(0));
+
+    assertThat(io.run(), is(Result.success(10)));
+    assertThat(io.run(), is(Result.success(20)));
+    assertThat(calls.get(), is(2));
+  }
+
+  @Test
+  void shouldCatchExceptionsOfCheckedSupplier() {
+    final IOException error = new IOException("FAILURE");
+    assertThat(
+        ResultIO.of(
+                () -> {
+                  throw error;
+                })
+            .run(),
+        is(Result.failure(error)));
+  }
+
+  @Test
+  void shouldSkipFlatMapOnFailureAndRecoverWithOnSuccess() {
+    final ResultIO<Integer, String> failed =
+        ResultIO.<Integer, String>failure("FAILURE")
+            .map(i -> i + 1)
+            .flatMap(i -> ResultIO.success(i + 1))
+            .recover(String::length)
+            .map(i -> i * 2);
+    assertThat(failed.run(), is(Result.success(14)));
+
+    final ResultIO<Integer, String> succeeded =
+        ResultIO.<Integer, String>success(1).recoverWith(e -> ResultIO.success(-1)).map(i -> i + 1);
+    assertThat(succeeded.run(), is(Result.success(2)));
+  }
+
+  @Test
+  void shouldEvaluateLongLeftNestedChain() {
+    ResultIO<Integer, String> io = ResultIO.success(0);
+    for (int i = 0; i < DEPTH; i++) {
+      io = io.flatMap(n -> ResultIO.success(n + 1));
+    }
+    assertThat(io.run(), is(Result.success(DEPTH)));
+  }
+
+  private static ResultIO<Integer, String> countDown(final int n) {
+    return ResultIO.<Integer, String>success(n)
+        .flatMap(i -> i == 0 ? ResultIO.success(0) : countDown(i - 1).map(j -> j + 1));
+  }
+
+  @Test
+  void shouldEvaluateDeepRecursion() {
+    assertThat(countDown(DEPTH).run(), is(Result.success(DEPTH)));
+  }
+
+  @Test
+  void shouldRecoverDeepInsideRecursion() {
+    final ResultIO<Integer, String> io =
+        countDown(DEPTH)
+            .flatMap(i -> ResultIO.<Integer, String>failure("FAILURE"))
+            .recoverWith(e -> ResultIO.success(-1));
+    assertThat(io.run(), is(Result.success(-1)));
+  }
+
+  @Test
+  void shouldLoopWithTailRecM() {
+    final ResultIO<Long, String> sum =
+        ResultIO.tailRecM(
+            new long[] {0, 0},
+            acc ->
+                ResultIO.success(
+                    acc[0] == DEPTH
+                        ? ResultIO.Step.done(acc[1])
+                        : ResultIO.Step.loop(new long[] {acc[0] + 1, acc[1] + acc[0] + 1})));
+
+    assertThat(sum.run(), is(Result.success((long) DEPTH * (DEPTH + 1) / 2)));
+  }
+
+  @Test
+  void shouldStopTailRecMAtFirstFailure() {
+    final AtomicInteger calls = new AtomicInteger();
+    final ResultIO<Integer, String> io =
+        ResultIO.tailRecM(
+            0,
+            i -> {
+              calls.incrementAndGet();
+              return i == 10
+                  ? ResultIO.failure("FAILURE AT " + i)
+                  : ResultIO.success(ResultIO.Step.loop(i + 1));
+            });
+
+    assertThat(io.run(), is(Result.failure("FAILURE AT 10")));
+    assertThat(calls.get(), is(11));
+  }
+
+  @Test
+  void shouldLoopOverPlainResults() {
+    final Result<Integer, String> result =
+        ResultIO.loop(
+            0,
+            i ->
+                Result.success(
+                    i == DEPTH
+                        ? ResultIO.Step.<Integer, Integer>done(i)
+                        : ResultIO.Step.loop(i + 1)));
+    assertThat(result, is(Result.success(DEPTH)));
+
+    assertThat(
+        ResultIO.<Integer, Integer, String>loop(0, i -> Result.failure("FAILURE")),
+        is(Result.failure("FAILURE")));
+  }
+
+  @Test
+  void shouldPassOnExceptionsOfFunctions() {
+    final ResultIO<Integer, String> io =
+        ResultIO.<Integer, String>success(1)
+            .map(
+                i -> {
+                  throw new IllegalStateException("BOOM");
+                });
+    assertThrows(IllegalStateException.class, io::run);
+  }
+
+  @Test
+  void shouldRejectNull() {
+    assertThrows(NullPointerException.class, () -> ResultIO.from(null));
+    assertThrows(NullPointerException.class, () -> ResultIO.success(1).flatMap(null));
+    assertThrows(
+        NullPointerException.class,
+        () -> ResultIO.<Integer, String>success(1).flatMap(i -> null).run());
+    assertThrows(NullPointerException.class, () -> ResultIO.defer(() -> null).run());
+    assertThrows(NullPointerException.class, () -> ResultIO.Step.loop(null));
+  }
+
+  @Test
+  void shouldDescribeItself() {
+    assertThat(ResultIO.success(1).toString(), is("ResultIO[Success[value=1]]"));
+    assertThat(ResultIO.success(1).map(i -> i).toString(), is("ResultIO[?]"));
+    assertThat(ResultIO.Step.loop(1).toString(), is("Step[loop=1]"));
+    assertThat(ResultIO.of(() -> 1).run().unsafeGet(), instanceOf(Integer.class));
+  }
+}
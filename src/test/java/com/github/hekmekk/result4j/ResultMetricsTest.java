@@ -0,0 +1,121 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class ResultMetricsTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  private final ResultMetrics metrics = ResultMetrics.create(() -> now.getAndAdd(100));
+
+  @Test
+  void shouldCountOutcomesPerSiteAndErrorType() {
+    final ResultMetrics.Site site = metrics.site("lookup");
+    assertThat(metrics.site("lookup"), sameInstance(site));
+    assertThat(site.of(() -> "SUCCESS"), is(Result.success("SUCCESS")));
+    site.of(
+        () -> {
+          throw new IOException();
+        });
+    site.of(
+        () -> {
+          throw new IOException();
+        });
+    site.of(
+        (CheckedRunnable)
+            () -> {
+              throw new IllegalStateException();
+            });
+    site.of((CheckedRunnable) () -> {});
+
+    final ResultMetrics.Snapshot snapshot = metrics.snapshot().get(0);
+    assertThat(snapshot.site(), is("lookup"));
+    assertThat(snapshot.successes(), is(2L));
+    assertThat(snapshot.failures(), is(3L));
+    assertThat(snapshot.failuresByType().get(IOException.class), is(2L));
+    assertThat(snapshot.failuresByType().get(IllegalStateException.class), is(1L));
+  }
+
+  @Test
+  void shouldRecordLatency() {
+    final ResultMetrics.Site site = metrics.site("lookup");
+    site.of(() -> 1);
+    site.of(() -> now.addAndGet(1000));
+
+    final ResultMetrics.Snapshot snapshot = metrics.snapshot().get(0);
+    assertThat(snapshot.totalNanos(), is(1200L));
+    assertThat(snapshot.maxNanos(), is(1100L));
+    final long[] histogram = snapshot.latencyHistogram();
+    assertThat(histogram[7], is(1L));
+    assertThat(histogram[11], is(1L));
+    assertThat(Arrays.stream(histogram).sum(), is(2L));
+  }
+
+  @Test
+  void snapshotShouldBeOrderedByName() {
+    metrics.site("b").of(() -> 1);
+    metrics.site("a").of(() -> 1);
+    final AtomicReference<List<ResultMetrics.Snapshot>> exported = new AtomicReference<>();
+    metrics.export(exported::set);
+    assertThat(exported.get().size(), is(2));
+    assertThat(exported.get().get(0).site(), is("a"));
+    assertThat(exported.get().get(1).site(), is("b"));
+  }
+
+  @Test
+  void concurrentCallsShouldAllBeCounted() throws Exception {
+    final ResultMetrics.Site site = ResultMetrics.create().site("concurrent");
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < 10_000; i++) {
+                    final int n = i;
+                    site.of(
+                        () -> {
+                          if (n % 4 == 0) {
+                            throw new IOException();
+                          }
+                          return n;
+                        });
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    final ResultMetrics.Snapshot snapshot = site.snapshot();
+    assertThat(snapshot.successes(), is(30_000L));
+    assertThat(snapshot.failures(), is(10_000L));
+    assertThat(snapshot.failuresByType().get(IOException.class), is(10_000L));
+  }
+
+  @Test
+  void nullArguments() {
+    assertThrows(NullPointerException.class, () -> metrics.site(null));
+    assertThrows(NullPointerException.class, () -> metrics.export(null));
+    assertThrows(NullPointerException.class, () -> metrics.site("a").of((CheckedSupplier<?>) null));
+    assertThrows(NullPointerException.class, () -> metrics.site("a").of((CheckedRunnable) null));
+  }
+}
@@ -0,0 +1,112 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class ResultPipelineTest {
+
+  private static final ResultPipeline<String, Integer, String> PARSE =
+      ResultPipeline.<String, String>start()
+          .map(String::trim)
+          .flatMap(s -> s.isEmpty() ? Result.failure("EMPTY") : Result.success(s))
+          .flatMap(
+              s ->
+                  s.chars().allMatch(Character::isDigit)
+                      ? Result.success(Integer.parseInt(s))
+                      : Result.failure("NOT_A_NUMBER"))
+          .map(n -> n * 2);
+
+  private static Result<Integer, String> parse(final String input) {
+    return Result.<String, String>success(input)
+        .map(String::trim)
+        .flatMap(s -> s.isEmpty() ? Result.failure("EMPTY") : Result.success(s))
+        .flatMap(
+            s ->
+                s.chars().allMatch(Character::isDigit)
+                    ? Result.success(Integer.parseInt(s))
+                    : Result.failure("NOT_A_NUMBER"))
+        .map(n -> n * 2);
+  }
+
+  @Test
+  void shouldMatchEquivalentChain() {
+    for (final String input : new String[] {" 21 ", "", "  ", "x1", "0"}) {
+      assertThat(PARSE.apply(input), is(parse(input)));
+    }
+  }
+
+  @Test
+  void start() {
+    assertThat(ResultPipeline.<Integer, String>start().apply(1), is(Result.success(1)));
+    assertThat(ResultPipeline.start().toString(), is("ResultPipeline[stages=0]"));
+    assertThat(PARSE.toString(), is("ResultPipeline[stages=4]"));
+  }
+
+  @Test
+  void nullArgumentsShouldThrow() {
+    final ResultPipeline<Integer, Integer, Throwable> p = ResultPipeline.start();
+    assertThrows(NullPointerException.class, () -> p.map(null));
+    assertThrows(NullPointerException.class, () -> p.flatMap(null));
+    assertThrows(NullPointerException.class, () -> p.recover(null));
+    assertThrows(NullPointerException.class, () -> p.recover(null, t -> 1));
+    assertThrows(NullPointerException.class, () -> p.recoverWith(null));
+    assertThrows(NullPointerException.class, () -> p.recoverWith(IOException.class, null));
+    assertThrows(NullPointerException.class, () -> p.apply(null));
+    assertThrows(NullPointerException.class, () -> p.applyTo(null));
+    assertThrows(NullPointerException.class, () -> p.map(n -> null).apply(1));
+  }
+
+  @Test
+  void recover() {
+    final ResultPipeline<Integer, Integer, Throwable> p =
+        ResultPipeline.<Integer, Throwable>start()
+            .flatMap(n -> n < 0 ? Result.failure(new IOException()) : Result.success(n))
+            .recover(IllegalStateException.class, e -> 1)
+            .map(n -> n + 1)
+            .recover(IOException.class, e -> 23);
+    assertThat(p.apply(1), is(Result.success(2)));
+    assertThat(p.apply(-1), is(Result.success(23)));
+    assertThat(
+        ResultPipeline.<Integer, String>start().recover(e -> 5).applyTo(Result.failure("E")),
+        is(Result.success(5)));
+  }
+
+  @Test
+  void recoverWith() {
+    final ResultPipeline<Integer, Integer, Throwable> p =
+        ResultPipeline.<Integer, Throwable>start()
+            .recoverWith(IllegalStateException.class, e -> Result.success(1))
+            .recoverWith(IOException.class, e -> Result.failure(new IllegalStateException()))
+            .recoverWith(e -> Result.success(42));
+    assertThat(p.applyTo(Result.failure(new IOException())), is(Result.success(42)));
+    assertThat(p.applyTo(Result.failure(new IllegalStateException())), is(Result.success(1)));
+    assertThat(p.apply(7), is(Result.success(7)));
+  }
+
+  @Test
+  void applyToShouldKeepUntouchedFailure() {
+    final Result<Integer, String> failure = Result.failure("E");
+    final ResultPipeline<Integer, String, String> p =
+        ResultPipeline.<Integer, String>start().map(n -> n + 1).map(String::valueOf);
+    assertThat(p.applyTo(failure), sameInstance(failure));
+    assertThat(Result.<Integer, String>success(1).transform(p::applyTo), is(Result.success("2")));
+  }
+
+  @Test
+  void stagesShouldNotLeakIntoOtherPipelines() {
+    final ResultPipeline<Integer, Integer, String> base =
+        ResultPipeline.<Integer, String>start().map(n -> n + 1);
+    final ResultPipeline<Integer, Integer, String> doubled = base.map(n -> n * 2);
+    final ResultPipeline<Integer, Integer, String> negated = base.map(n -> -n);
+    assertThat(base.apply(1), is(Result.success(2)));
+    assertThat(doubled.apply(1), is(Result.success(4)));
+    assertThat(negated.apply(1), is(Result.success(-2)));
+    assertThat(base.map(Function.identity()).apply(1), is(Result.success(2)));
+  }
+}
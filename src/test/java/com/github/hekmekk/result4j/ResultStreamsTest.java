@@ -0,0 +1,57 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ResultStreamsTest {
+
+  private static Stream<Result<Integer, String>> results() {
+    return Stream.of(
+        Result.success(1), Result.failure("A"), Result.success(2), Result.failure("B"));
+  }
+
+  @Test
+  void shouldKeepSuccessValuesInOrder() {
+    final List<Integer> successes = ResultStreams.successes(results()).collect(Collectors.toList());
+    assertThat(successes, is(Arrays.asList(1, 2)));
+  }
+
+  @Test
+  void shouldKeepErrorsInOrder() {
+    final List<String> failures = ResultStreams.failures(results()).collect(Collectors.toList());
+    assertThat(failures, is(Arrays.asList("A", "B")));
+  }
+
+  @Test
+  void shouldMatchFlatMapOverResultStream() {
+    assertThat(
+        ResultStreams.successes(results()).collect(Collectors.toList()),
+        is(results().flatMap(Result::stream).collect(Collectors.toList())));
+  }
+
+  @Test
+  void shouldWorkOnParallelStreams() {
+    final long sum =
+        ResultStreams.successes(
+                Stream.iterate(0, i -> i + 1)
+                    .limit(10_000)
+                    .parallel()
+                    .map(i -> i % 2 == 0 ? Result.<Integer, Integer>success(i) : Result.failure(i)))
+            .mapToLong(Integer::longValue)
+            .sum();
+    assertThat(sum, is(24_995_000L));
+  }
+
+  @Test
+  void shouldRejectNull() {
+    assertThrows(NullPointerException.class, () -> ResultStreams.successes(null));
+    assertThrows(NullPointerException.class, () -> ResultStreams.failures(null));
+  }
+}
@@ -1,9 +1,15 @@
 package com.github.hekmekk.result4j;
 
+import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -12,10 +18,16 @@ import static org.mockito.Mockito.verifyZeroInteractions;
 import com.github.hekmekk.result4j.Result.Failure;
 import com.github.hekmekk.result4j.Result.Success;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
 
@@ -41,6 +53,32 @@ class ResultTest {
         instanceOf(RuntimeException.class));
   }
 
+  @Test
+  void ofWithStackCapture() {
+    assertThrows(NullPointerException.class, () -> Result.of(() -> 1, (StackCapture) null));
+    assertThat(Result.of(() -> 1, StackCapture.suppressed()), is(Result.success(1)));
+    assertThat(
+        Result.of(
+                () -> {
+                  throw new Exception("FAILURE");
+                },
+                StackCapture.suppressed())
+            .unsafeGetError()
+            .getStackTrace()
+            .length,
+        is(0));
+    assertThat(
+        Result.of(
+                () -> {
+                  throw new Exception("FAILURE");
+                },
+                StackCapture.truncated(1))
+            .unsafeGetError()
+            .getStackTrace()
+            .length,
+        is(1));
+  }
+
   @Test
   @SuppressWarnings("ResultOfMethodCallIgnored")
   void success() {
@@ -48,6 +86,27 @@ class ResultTest {
     assertThat(Result.success(1), instanceOf(Result.Success.class));
   }
 
+  @Test
+  void successShouldShareCanonicalInstances() {
+    assertThat(Result.success(Done.DONE), sameInstance(Result.success(Done.DONE)));
+    assertThat(Result.success(true), sameInstance(Result.success(Boolean.TRUE)));
+    assertThat(Result.success(false), sameInstance(Result.success(Boolean.FALSE)));
+    assertThat(Result.success(-128), sameInstance(Result.success(-128)));
+    assertThat(Result.success(127), sameInstance(Result.success(127)));
+    assertThat(Result.success(128), not(sameInstance(Result.success(128))));
+    assertThat(Result.success(128), is(Result.success(128)));
+    assertThat(Result.success(1L), not(sameInstance(Result.success(1L))));
+  }
+
+  @Test
+  void successOfCanonicalValuesShouldNotAllocate() {
+    for (final Object value : new Object[] {Done.DONE, Boolean.TRUE, Boolean.FALSE, 42}) {
+      final double allocated = Allocations.perIteration(100_000, () -> Result.success(value));
+      assertTrue(allocated < 1, () -> allocated + " bytes allocated per iteration for " + value);
+    }
+    assertTrue(Allocations.perIteration(100_000, () -> Result.success(1000)) >= 16);
+  }
+
   @Test
   @SuppressWarnings("ResultOfMethodCallIgnored")
   void failure() {
@@ -67,6 +126,42 @@ class ResultTest {
     assertThat(Result.failure(1).toString(), is("Failure[error=1]"));
   }
 
+  @Test
+  void ofWithTimeout() {
+    assertThat(Result.of(() -> "SUCCESS", Duration.ofSeconds(10)), is(Result.success("SUCCESS")));
+
+    final IOException error = new IOException("FAILURE");
+    assertThat(
+        Result.of(
+            () -> {
+              throw error;
+            },
+            Duration.ofSeconds(10)),
+        is(Result.failure(error)));
+    assertThat(Thread.currentThread().isInterrupted(), is(false));
+  }
+
+  @Test
+  void ofWithTimeoutShouldInterruptWhenDeadlinePasses() {
+    final Result<String, Throwable> result =
+        Result.of(
+            () -> {
+              Thread.sleep(10_000);
+              return "SUCCESS";
+            },
+            Duration.ofMillis(20));
+
+    assertThat(result.unsafeGetError(), instanceOf(TimeoutException.class));
+    assertThat(result.unsafeGetError().getCause(), instanceOf(InterruptedException.class));
+    assertThat(Thread.currentThread().isInterrupted(), is(false));
+  }
+
+  @Test
+  void ofWithTimeoutShouldRejectNegativeTimeout() {
+    assertThrows(
+        IllegalArgumentException.class, () -> Result.of(() -> "SUCCESS", Duration.ofMillis(-1)));
+  }
+
   @Test
   void iteratorShouldRun() {
     @SuppressWarnings("unchecked")
@@ -85,6 +180,48 @@ class ResultTest {
     verifyZeroInteractions(consumer);
   }
 
+  @Test
+  void iteratorShouldBeExhausted() {
+    final Iterator<Integer> success = Result.<Integer, Integer>success(1).iterator();
+    assertThat(success.next(), is(1));
+    assertThat(success.hasNext(), is(false));
+    assertThrows(NoSuchElementException.class, success::next);
+
+    final Iterator<Integer> failure = Result.<Integer, Integer>failure(1).iterator();
+    assertThat(failure.hasNext(), is(false));
+    assertThrows(NoSuchElementException.class, failure::next);
+    assertThat(failure, sameInstance(Result.<Integer, Integer>failure(2).iterator()));
+  }
+
+  @Test
+  void toOptional() {
+    assertThat(Result.success(1).toOptional(), is(Optional.of(1)));
+    assertThat(Result.failure(1).toOptional(), is(Optional.empty()));
+  }
+
+  @Test
+  void stream() {
+    assertThat(Result.success(1).stream().collect(Collectors.toList()), is(singletonList(1)));
+    assertThat(Result.failure(1).stream().count(), is(0L));
+  }
+
+  @Test
+  void spliterator() {
+    final Spliterator<Integer> success = Result.<Integer, Integer>success(1).spliterator();
+    assertTrue(
+        success.hasCharacteristics(
+            Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE));
+    assertThat(success.getExactSizeIfKnown(), is(1L));
+    assertThat(success.trySplit(), is(nullValue()));
+    assertThat(success.tryAdvance(i -> assertThat(i, is(1))), is(true));
+    assertThat(success.getExactSizeIfKnown(), is(0L));
+    assertThat(success.tryAdvance(i -> fail("exhausted")), is(false));
+
+    final Spliterator<Integer> failure = Result.<Integer, Integer>failure(1).spliterator();
+    assertThat(failure.getExactSizeIfKnown(), is(0L));
+    assertThat(failure, sameInstance(Result.<Integer, Integer>failure(2).spliterator()));
+  }
+
   @Test
   void map() {
     assertThrows(NullPointerException.class, () -> Result.success(1).map(null));
@@ -183,6 +320,14 @@ class ResultTest {
     assertThrows(NoSuchElementException.class, () -> Result.success(1).unsafeGetError());
   }
 
+  @Test
+  void accessors() {
+    assertThat(
+        ((Result.Success<Integer, String>) Result.<Integer, String>success(1)).value(), is(1));
+    assertThat(
+        ((Result.Failure<Integer, String>) Result.<Integer, String>failure("E")).error(), is("E"));
+  }
+
   @Test
   void onSuccessShouldThrowNPE() {
     assertThrows(NullPointerException.class, () -> Result.success(1).onSuccess(null));
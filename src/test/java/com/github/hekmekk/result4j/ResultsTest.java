@@ -0,0 +1,247 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ResultsTest {
+
+  private static final Duration LONG = Duration.ofSeconds(30);
+
+  private static ExecutorService executor;
+
+  @BeforeAll
+  static void startExecutor() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterAll
+  static void stopExecutor() {
+    executor.shutdownNow();
+  }
+
+  private static <V, E> Result<V, E> join(final AsyncResult<V, E> result) throws Exception {
+    return result.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+  }
+
+  private static CheckedSupplier<String> blocking(
+      final CountDownLatch started, final CountDownLatch interrupted) {
+    return () -> {
+      started.countDown();
+      try {
+        Thread.sleep(30_000);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+        throw e;
+      }
+      return "SLOW";
+    };
+  }
+
+  @Test
+  void shouldNotHedgeWhenFirstSucceedsInTime() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    final List<CheckedSupplier<String>> suppliers =
+        Arrays.asList(
+            () -> {
+              calls.incrementAndGet();
+              return "FIRST";
+            },
+            () -> {
+              calls.incrementAndGet();
+              return "SECOND";
+            });
+
+    assertThat(join(Results.firstSuccess(suppliers, executor, LONG)), is(Result.success("FIRST")));
+    Thread.sleep(20);
+    assertThat(calls.get(), is(1));
+  }
+
+  @Test
+  void shouldHedgeSlowAttemptAndInterruptIt() throws Exception {
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final List<CheckedSupplier<String>> suppliers =
+        Arrays.asList(blocking(started, interrupted), () -> "FAST");
+
+    final Result<String, List<Throwable>> result =
+        join(Results.firstSuccess(suppliers, executor, Duration.ofMillis(20)));
+
+    assertThat(result, is(Result.success("FAST")));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void shouldStartNextAttemptRightAwayOnFailure() throws Exception {
+    final List<CheckedSupplier<String>> suppliers =
+        Arrays.asList(
+            () -> {
+              throw new IOException("FAILURE");
+            },
+            () -> "SECOND");
+
+    final long start = System.nanoTime();
+    final Result<String, List<Throwable>> result =
+        join(Results.firstSuccess(suppliers, executor, LONG));
+
+    assertThat(result, is(Result.success("SECOND")));
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+  }
+
+  @Test
+  void shouldCollectAllErrorsInOrder() throws Exception {
+    final IOException first = new IOException("FIRST");
+    final IOException second = new IOException("SECOND");
+    final IOException third = new IOException("THIRD");
+    final List<CheckedSupplier<String>> suppliers =
+        Arrays.asList(
+            () -> {
+              Thread.sleep(50);
+              throw first;
+            },
+            () -> {
+              throw second;
+            },
+            () -> {
+              throw third;
+            });
+
+    final Result<String, List<Throwable>> result =
+        join(Results.firstSuccess(suppliers, executor, Duration.ofMillis(1)));
+
+    assertThat(result, is(Result.failure(Arrays.asList(first, second, third))));
+  }
+
+  @Test
+  void shouldStartAllAtOnceWithoutHedgeDelay() throws Exception {
+    final CountDownLatch all = new CountDownLatch(3);
+    final CheckedSupplier<String> waiting =
+        () -> {
+          all.countDown();
+          if (!all.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("attempts did not run at once");
+          }
+          return "SUCCESS";
+        };
+
+    final Result<String, List<Throwable>> result =
+        join(
+            Results.firstSuccess(
+                Arrays.asList(waiting, waiting, waiting), executor, Duration.ZERO));
+
+    assertThat(result, is(Result.success("SUCCESS")));
+  }
+
+  @Test
+  void shouldCountRejectionAsFailure() throws Exception {
+    final AtomicInteger submissions = new AtomicInteger();
+    final Executor rejectingFirst =
+        r -> {
+          if (submissions.incrementAndGet() == 1) {
+            throw new RejectedExecutionException("REJECTED");
+          }
+          executor.execute(r);
+        };
+
+    final Result<String, List<Throwable>> result =
+        join(
+            Results.firstSuccess(
+                Arrays.asList(() -> "FIRST", () -> "SECOND"), rejectingFirst, LONG));
+
+    assertThat(result, is(Result.success("SECOND")));
+  }
+
+  @Test
+  void shouldReportRejectionWhenAllAreRejected() throws Exception {
+    final Result<String, List<Throwable>> result =
+        join(
+            Results.firstSuccess(
+                Collections.<CheckedSupplier<String>>singletonList(() -> "FIRST"),
+                r -> {
+                  throw new RejectedExecutionException("REJECTED");
+                },
+                LONG));
+
+    assertThat(result.unsafeGetError().get(0), instanceOf(RejectedExecutionException.class));
+  }
+
+  @Test
+  void executorRunningHedgedCallShouldNotDelayOtherDeadlines() throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    final CountDownLatch hedged = new CountDownLatch(1);
+    final AtomicInteger submissions = new AtomicInteger();
+    final Executor callerRunsHedges =
+        r -> {
+          if (submissions.incrementAndGet() == 1) {
+            executor.execute(r);
+          } else {
+            r.run();
+          }
+        };
+    final CheckedSupplier<String> waiting =
+        () -> {
+          release.await();
+          return "SLOW";
+        };
+    final CheckedSupplier<String> hedge =
+        () -> {
+          hedged.countDown();
+          release.await();
+          return "HEDGE";
+        };
+
+    try {
+      Results.firstSuccess(Arrays.asList(waiting, hedge), callerRunsHedges, Duration.ofMillis(10));
+      assertTrue(hedged.await(5, TimeUnit.SECONDS));
+
+      final long start = System.nanoTime();
+      final Result<String, Throwable> result =
+          Result.of(
+              () -> {
+                Thread.sleep(30_000);
+                return "SLOW";
+              },
+              Duration.ofMillis(20));
+
+      assertThat(result.unsafeGetError(), instanceOf(TimeoutException.class));
+      assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  void shouldRejectInvalidArguments() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Results.firstSuccess(Collections.emptyList(), executor, LONG));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            Results.firstSuccess(
+                Collections.singletonList(() -> 1), executor, Duration.ofMillis(-1)));
+    assertThrows(
+        NullPointerException.class,
+        () -> Results.firstSuccess(Collections.singletonList(null), executor, LONG));
+  }
+}
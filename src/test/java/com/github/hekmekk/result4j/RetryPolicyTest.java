@@ -0,0 +1,84 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RetryPolicyTest {
+
+  private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Test
+  void delaysShouldGrowExponentiallyUpToMaxDelay() {
+    final RetryPolicy policy =
+        RetryPolicy.builder()
+            .backoff(Duration.ofMillis(10), Duration.ofMillis(50), 2)
+            .jitter(0)
+            .build();
+    assertThat(policy.delayNanos(1), is(10 * MS));
+    assertThat(policy.delayNanos(2), is(20 * MS));
+    assertThat(policy.delayNanos(3), is(40 * MS));
+    assertThat(policy.delayNanos(4), is(50 * MS));
+    assertThat(policy.delayNanos(100), is(50 * MS));
+  }
+
+  @Test
+  void jitterShouldShortenDelays() {
+    final RetryPolicy policy =
+        RetryPolicy.builder().fixedDelay(Duration.ofMillis(100)).jitter(0.5).build();
+    assertThat(policy.delayNanos(1, 0), is(100 * MS));
+    assertThat(policy.delayNanos(1, 0.5), is(75 * MS));
+    assertThat(policy.delayNanos(1, 1), is(50 * MS));
+    for (int i = 0; i < 100; i++) {
+      final long delay = policy.delayNanos(1);
+      assertThat(delay >= 50 * MS && delay <= 100 * MS, is(true));
+    }
+  }
+
+  @Test
+  void shouldRetry() {
+    final RetryPolicy any = RetryPolicy.builder().maxAttempts(2).build();
+    assertThat(any.shouldRetry(1, new Error()), is(true));
+    assertThat(any.shouldRetry(2, new Error()), is(false));
+
+    final RetryPolicy selective =
+        RetryPolicy.builder()
+            .maxAttempts(5)
+            .retryOn(IOException.class)
+            .retryIf(t -> "TRANSIENT".equals(t.getMessage()))
+            .build();
+    assertThat(selective.shouldRetry(1, new IOException()), is(true));
+    assertThat(selective.shouldRetry(1, new IllegalStateException("TRANSIENT")), is(true));
+    assertThat(selective.shouldRetry(1, new IllegalStateException()), is(false));
+  }
+
+  @Test
+  void withinDeadline() {
+    assertThat(RetryPolicy.builder().build().withinDeadline(Long.MAX_VALUE - 1, 1), is(true));
+    final RetryPolicy policy = RetryPolicy.builder().deadline(Duration.ofMillis(100)).build();
+    assertThat(policy.withinDeadline(60 * MS, 40 * MS), is(true));
+    assertThat(policy.withinDeadline(60 * MS, 41 * MS), is(false));
+  }
+
+  @Test
+  void invalidArguments() {
+    final RetryPolicy.Builder builder = RetryPolicy.builder();
+    assertThrows(IllegalArgumentException.class, () -> builder.maxAttempts(0));
+    assertThrows(IllegalArgumentException.class, () -> builder.jitter(1.5));
+    assertThrows(IllegalArgumentException.class, () -> builder.jitter(Double.NaN));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> builder.backoff(Duration.ofSeconds(2), Duration.ofSeconds(1), 2));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> builder.backoff(Duration.ZERO, Duration.ofSeconds(1), 0.5));
+    assertThrows(IllegalArgumentException.class, () -> builder.deadline(Duration.ofSeconds(-1)));
+    assertThrows(NullPointerException.class, () -> builder.retryOn(null));
+    assertThrows(NullPointerException.class, () -> builder.retryIf(null));
+  }
+}
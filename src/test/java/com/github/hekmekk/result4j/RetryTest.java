@@ -0,0 +1,189 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class RetryTest {
+
+  private static final RetryPolicy FAST =
+      RetryPolicy.builder().maxAttempts(4).fixedDelay(Duration.ofMillis(1)).build();
+
+  private static ExecutorService executor;
+
+  @BeforeAll
+  static void startExecutor() {
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterAll
+  static void stopExecutor() {
+    executor.shutdownNow();
+  }
+
+  private static CheckedSupplier<String> failingTimes(final int n, final AtomicInteger calls) {
+    return () -> {
+      if (calls.incrementAndGet() <= n) {
+        throw new IOException("FAILURE " + calls.get());
+      }
+      return "SUCCESS";
+    };
+  }
+
+  private static <V, E> Result<V, E> join(final AsyncResult<V, E> result) {
+    return result.toCompletionStage().toCompletableFuture().join();
+  }
+
+  @Test
+  void shouldRetryUntilSuccess() {
+    final AtomicInteger calls = new AtomicInteger();
+    assertThat(Retry.of(failingTimes(3, calls), FAST), is(Result.success("SUCCESS")));
+    assertThat(calls.get(), is(4));
+  }
+
+  @Test
+  void shouldReturnLastFailureWhenAttemptsAreExhausted() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Result<String, Throwable> result = Retry.of(failingTimes(10, calls), FAST);
+    assertThat(result.unsafeGetError().getMessage(), is("FAILURE 4"));
+    assertThat(calls.get(), is(4));
+  }
+
+  @Test
+  void shouldNotRetryErrorsRejectedByThePolicy() {
+    final AtomicInteger calls = new AtomicInteger();
+    final RetryPolicy policy =
+        RetryPolicy.builder()
+            .maxAttempts(4)
+            .fixedDelay(Duration.ZERO)
+            .retryOn(IllegalStateException.class)
+            .build();
+    assertThat(
+        Retry.of(failingTimes(10, calls), policy).unsafeGetError(), instanceOf(IOException.class));
+    assertThat(calls.get(), is(1));
+  }
+
+  @Test
+  void shouldStopAtTheDeadline() {
+    final AtomicInteger calls = new AtomicInteger();
+    final RetryPolicy policy =
+        RetryPolicy.builder()
+            .maxAttempts(100)
+            .fixedDelay(Duration.ofMillis(20))
+            .jitter(0)
+            .deadline(Duration.ofMillis(50))
+            .build();
+    assertThat(Retry.of(failingTimes(100, calls), policy) instanceof Result.Failure, is(true));
+    assertThat(calls.get() <= 3, is(true));
+  }
+
+  @Test
+  void interruptShouldStopRetrying() {
+    final AtomicInteger calls = new AtomicInteger();
+    final RetryPolicy policy =
+        RetryPolicy.builder().fixedDelay(Duration.ofSeconds(10)).jitter(0).build();
+    Thread.currentThread().interrupt();
+    try {
+      assertThat(Retry.of(failingTimes(10, calls), policy) instanceof Result.Failure, is(true));
+      assertThat(Thread.currentThread().isInterrupted(), is(true));
+      assertThat(calls.get(), is(1));
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  void runnable() {
+    final AtomicInteger calls = new AtomicInteger();
+    assertThat(
+        Retry.of(
+            () -> {
+              failingTimes(2, calls).get();
+            },
+            FAST),
+        is(Completable.success()));
+    assertThat(calls.get(), is(3));
+  }
+
+  @Test
+  void async() {
+    final AtomicInteger calls = new AtomicInteger();
+    assertThat(
+        join(Retry.ofAsync(failingTimes(3, calls), FAST, executor)), is(Result.success("SUCCESS")));
+    assertThat(calls.get(), is(4));
+
+    final AtomicInteger more = new AtomicInteger();
+    assertThat(
+        join(Retry.ofAsync(failingTimes(10, more), FAST, executor)).unsafeGetError().getMessage(),
+        is("FAILURE 4"));
+  }
+
+  @Test
+  void asyncRunnable() {
+    final AtomicInteger calls = new AtomicInteger();
+    assertThat(
+        Retry.ofAsync(
+                () -> {
+                  failingTimes(1, calls).get();
+                },
+                FAST,
+                executor)
+            .toCompletionStage()
+            .toCompletableFuture()
+            .join(),
+        is(Completable.success()));
+    assertThat(calls.get(), is(2));
+  }
+
+  @Test
+  void asyncShouldUseTheGivenScheduler() {
+    final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    try {
+      final AtomicInteger calls = new AtomicInteger();
+      assertThat(
+          join(Retry.ofAsync(failingTimes(1, calls), FAST, executor, scheduler)),
+          is(Result.success("SUCCESS")));
+    } finally {
+      scheduler.shutdownNow();
+    }
+
+    final AtomicInteger calls = new AtomicInteger();
+    assertThat(
+        join(Retry.ofAsync(failingTimes(1, calls), FAST, executor, scheduler)).unsafeGetError(),
+        instanceOf(IOException.class));
+  }
+
+  @Test
+  void asyncRejectionShouldFail() throws InterruptedException {
+    final ExecutorService stopped = Executors.newSingleThreadExecutor();
+    stopped.shutdown();
+    assertThat(stopped.awaitTermination(1, TimeUnit.SECONDS), is(true));
+    assertThat(
+        join(Retry.ofAsync(() -> 1, FAST, stopped)).unsafeGetError(),
+        instanceOf(RejectedExecutionException.class));
+  }
+
+  @Test
+  void nullArguments() {
+    assertThrows(NullPointerException.class, () -> Retry.of((CheckedSupplier<?>) null, FAST));
+    assertThrows(NullPointerException.class, () -> Retry.of(() -> 1, null));
+    assertThrows(NullPointerException.class, () -> Retry.of((CheckedRunnable) null, FAST));
+    assertThrows(NullPointerException.class, () -> Retry.ofAsync(() -> 1, FAST, null));
+    assertThrows(
+        NullPointerException.class,
+        () -> Retry.ofAsync(() -> 1, FAST, executor, (ScheduledExecutorService) null));
+  }
+}
@@ -0,0 +1,53 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import org.junit.jupiter.api.Test;
+
+class SerializedResultTest {
+
+  private static byte[] serialize(final Object o) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(o);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static Object deserialize(final byte[] bytes) throws Exception {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return in.readObject();
+    }
+  }
+
+  @Test
+  void resultsShouldRoundTrip() throws Exception {
+    assertThat(deserialize(serialize(Result.success("SUCCESS"))), is(Result.success("SUCCESS")));
+    assertThat(deserialize(serialize(Result.failure("FAILURE"))), is(Result.failure("FAILURE")));
+    assertThat(deserialize(serialize(Result.success(1))), sameInstance(Result.success(1)));
+  }
+
+  @Test
+  void completablesShouldRoundTrip() throws Exception {
+    assertThat(deserialize(serialize(Completable.success())), sameInstance(Completable.success()));
+    assertThat(
+        deserialize(serialize(Completable.failure("FAILURE"))), is(Completable.failure("FAILURE")));
+  }
+
+  @Test
+  void serializedFormShouldNotDescribeTheCases() throws IOException {
+    final byte[] bytes = serialize(Result.success(Done.DONE));
+    final String content = new String(bytes, "ISO-8859-1");
+    assertThat(content.contains("Result$Success"), is(false));
+    assertThat(content.contains("value"), is(false));
+    assertTrue(serialize(Completable.success()).length < 80);
+  }
+}
@@ -0,0 +1,50 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class StackCaptureTest {
+
+  private static Throwable deep(final int depth) {
+    return depth == 0 ? new Exception("FAILURE") : deep(depth - 1);
+  }
+
+  @Test
+  void full() {
+    final Throwable t = deep(20);
+    final int depth = t.getStackTrace().length;
+    assertThat(StackCapture.full().apply(t), sameInstance(t));
+    assertThat(t.getStackTrace().length, is(depth));
+  }
+
+  @Test
+  void truncated() {
+    assertThrows(IllegalArgumentException.class, () -> StackCapture.truncated(-1));
+    assertThat(StackCapture.truncated(0), sameInstance(StackCapture.suppressed()));
+
+    final Throwable t = deep(20);
+    final StackTraceElement innermost = t.getStackTrace()[0];
+    assertThat(StackCapture.truncated(5).apply(t).getStackTrace().length, is(5));
+    assertThat(t.getStackTrace()[0], is(innermost));
+
+    final Throwable shallow = new Exception();
+    final int depth = shallow.getStackTrace().length;
+    assertThat(StackCapture.truncated(depth + 1).apply(shallow).getStackTrace().length, is(depth));
+  }
+
+  @Test
+  void suppressed() {
+    assertThat(StackCapture.suppressed().apply(deep(20)).getStackTrace().length, is(0));
+  }
+
+  @Test
+  void toStringShouldMatch() {
+    assertThat(StackCapture.full().toString(), is("StackCapture[full]"));
+    assertThat(StackCapture.truncated(3).toString(), is("StackCapture[truncated=3]"));
+    assertThat(StackCapture.suppressed().toString(), is("StackCapture[suppressed]"));
+  }
+}
@@ -0,0 +1,40 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class StacklessExceptionTest {
+
+  private static final StacklessException SHARED = new StacklessException("NOT_FOUND");
+
+  @Test
+  void shouldNotRecordStackTrace() {
+    assertThat(new StacklessException("FAILURE").getStackTrace().length, is(0));
+    final IOException cause = new IOException();
+    final StacklessException e = new StacklessException("FAILURE", cause);
+    assertThat(e.getMessage(), is("FAILURE"));
+    assertThat(e.getCause(), sameInstance(cause));
+  }
+
+  @Test
+  void sharedInstanceShouldStayUnchanged() {
+    SHARED.addSuppressed(new IOException());
+    SHARED.setStackTrace(new Throwable().getStackTrace());
+    assertThat(SHARED.getSuppressed().length, is(0));
+    assertThat(SHARED.getStackTrace().length, is(0));
+  }
+
+  @Test
+  void shouldBeReturnedAsFailure() {
+    final Result<Object, Throwable> result =
+        Result.of(
+            () -> {
+              throw SHARED;
+            });
+    assertThat(result.unsafeGetError(), sameInstance(SHARED));
+  }
+}
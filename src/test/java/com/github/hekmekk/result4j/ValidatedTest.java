@@ -0,0 +1,197 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+class ValidatedTest {
+
+  private static final Validated<Integer, String> ONE = Validated.valid(1);
+
+  private static final Validated<Integer, String> TWO = Validated.valid(2);
+
+  private static Validated<Integer, String> invalid(final String error) {
+    return Validated.invalid(error);
+  }
+
+  @Test
+  void shouldMapValid() {
+    assertThat(ONE.map(i -> i + 1), is(TWO));
+  }
+
+  @Test
+  void shouldNotMapInvalid() {
+    assertThat(invalid("FAILURE").map(i -> i + 1), is(invalid("FAILURE")));
+  }
+
+  @Test
+  void shouldCombineValidValues() {
+    assertThat(Validated.map2(ONE, TWO, Integer::sum), is(Validated.valid(3)));
+    assertThat(
+        Validated.map3(ONE, TWO, TWO, (a, b, c) -> a + b + c),
+        is(Validated.<Integer, String>valid(5)));
+    assertThat(
+        Validated.map4(ONE, TWO, TWO, TWO, (a, b, c, d) -> a + b + c + d),
+        is(Validated.<Integer, String>valid(7)));
+    assertThat(
+        Validated.map5(ONE, TWO, TWO, TWO, TWO, (a, b, c, d, e) -> a + b + c + d + e),
+        is(Validated.<Integer, String>valid(9)));
+  }
+
+  @Test
+  void shouldCollectErrorsInArgumentOrder() {
+    final Validated<Integer, String> result =
+        Validated.map5(
+            invalid("A"),
+            ONE,
+            invalid("C"),
+            invalid("D"),
+            invalid("E"),
+            (a, b, c, d, e) -> a + b + c + d + e);
+
+    assertThat(result.unsafeGetErrors().toList(), is(Arrays.asList("A", "C", "D", "E")));
+  }
+
+  @Test
+  void shouldZip() {
+    assertThat(ONE.zip(TWO, Integer::sum), is(Validated.valid(3)));
+    assertThat(
+        invalid("A").zip(invalid("B"), Integer::sum).unsafeGetErrors().toList(),
+        is(Arrays.asList("A", "B")));
+  }
+
+  @Test
+  void shouldNotApplyFunctionToInvalid() {
+    assertThat(
+        Validated.map2(
+            ONE,
+            invalid("B"),
+            (a, b) -> {
+              throw new AssertionError("must not be called");
+            }),
+        is(invalid("B")));
+  }
+
+  @Test
+  void shouldSequenceValidValues() {
+    assertThat(
+        Validated.sequence(Arrays.asList(ONE, TWO)),
+        is(Validated.<List<Integer>, String>valid(Arrays.asList(1, 2))));
+  }
+
+  @Test
+  void shouldSequenceManyErrors() {
+    final List<Validated<Integer, String>> fields = new ArrayList<>();
+    final List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 150; i++) {
+      if (i % 3 == 0) {
+        fields.add(ONE);
+      } else {
+        fields.add(invalid("E" + i));
+        expected.add("E" + i);
+      }
+    }
+
+    final Validated.Errors<String> errors = Validated.sequence(fields).unsafeGetErrors();
+
+    assertThat(errors.size(), is(100));
+    assertThat(errors.first(), is("E1"));
+    assertThat(errors.toList(), is(expected));
+  }
+
+  @Test
+  void shouldIterateDeepErrorsWithoutRecursion() {
+    Validated.Errors<String> errors = Validated.Errors.of("E0");
+    for (int i = 1; i < 100_000; i++) {
+      errors = errors.concat(Validated.Errors.of("E" + i));
+    }
+
+    int count = 0;
+    for (String e : errors) {
+      assertThat(e, is("E" + count++));
+    }
+    assertThat(count, is(100_000));
+    assertThat(errors.first(), is("E0"));
+  }
+
+  @Test
+  void shouldConcatInConstantSpace() {
+    final Validated.Errors<String> a = Validated.Errors.ofAll(Collections.nCopies(1000, "A"));
+    final Validated.Errors<String> b = Validated.Errors.ofAll(Collections.nCopies(1000, "B"));
+
+    final double bytes = Allocations.perIteration(10_000, () -> a.concat(b));
+
+    assertThat(bytes < 64, is(true));
+  }
+
+  @Test
+  void shouldCompareErrorsByElements() {
+    final Validated.Errors<String> tree =
+        Validated.Errors.of("A").concat(Validated.Errors.of("B")).concat(Validated.Errors.of("C"));
+    final Validated.Errors<String> flat = Validated.Errors.ofAll(Arrays.asList("A", "B", "C"));
+
+    assertThat(tree, is(flat));
+    assertThat(tree.hashCode(), is(flat.hashCode()));
+    assertThat(tree.hashCode(), is(Arrays.asList("A", "B", "C").hashCode()));
+    assertThat(tree.toString(), is("Errors[A, B, C]"));
+  }
+
+  @Test
+  void shouldConvertFromResult() {
+    assertThat(Validated.from(Result.success(1)), is(Validated.valid(1)));
+    assertThat(Validated.from(Result.failure("FAILURE")), is(Validated.invalid("FAILURE")));
+  }
+
+  @Test
+  void shouldConvertToResult() {
+    assertThat(ONE.toResult(), is(Result.success(1)));
+    assertThat(invalid("FAILURE").toResult(), is(Result.failure(Validated.Errors.of("FAILURE"))));
+  }
+
+  @Test
+  void shouldFold() {
+    assertThat(ONE.fold(i -> "VALID", e -> "INVALID"), is("VALID"));
+    assertThat(invalid("FAILURE").fold(i -> "VALID", e -> e.first()), is("FAILURE"));
+  }
+
+  @Test
+  void shouldThrowOnUnsafeAccessToWrongCase() {
+    assertThrows(NoSuchElementException.class, ONE::unsafeGetErrors);
+    assertThrows(NoSuchElementException.class, invalid("FAILURE")::unsafeGet);
+  }
+
+  @Test
+  void shouldRejectEmptyErrors() {
+    assertThrows(
+        IllegalArgumentException.class, () -> Validated.Errors.ofAll(Collections.emptyList()));
+  }
+
+  @Test
+  void shouldSerializeDeepErrorsFlat() throws Exception {
+    Validated.Errors<String> errors = Validated.Errors.of("E0");
+    for (int i = 1; i < 100_000; i++) {
+      errors = errors.concat(Validated.Errors.of("E" + i));
+    }
+    final Validated<Integer, String> invalid = Validated.invalid(errors);
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(invalid);
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertThat(in.readObject(), is(invalid));
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WheelTimerTest {
+
+  private static final long TICK = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private WheelTimer timer;
+
+  @BeforeEach
+  void startTimer() {
+    timer = new WheelTimer(TICK, 8, "wheel-timer-test");
+  }
+
+  @AfterEach
+  void stopTimer() {
+    timer.stop();
+  }
+
+  private static final class Latch extends WheelTimer.Timeout {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    private volatile long expiredAt;
+
+    @Override
+    void expire() {
+      expiredAt = System.nanoTime();
+      latch.countDown();
+    }
+
+    boolean await() throws InterruptedException {
+      return latch.await(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void shouldExpireAfterDelay() throws InterruptedException {
+    final Latch timeout = new Latch();
+    final long scheduledAt = System.nanoTime();
+    timer.schedule(timeout, TimeUnit.MILLISECONDS.toNanos(20));
+
+    assertTrue(timeout.await());
+    assertTrue(timeout.expiredAt - scheduledAt >= TimeUnit.MILLISECONDS.toNanos(20));
+    assertThat(timeout.isExpired(), is(true));
+    assertThat(timeout.cancel(), is(false));
+  }
+
+  @Test
+  void shouldExpireDelaysBeyondOneRoundOfTheWheel() throws InterruptedException {
+    final Latch timeout = new Latch();
+    final long scheduledAt = System.nanoTime();
+    timer.schedule(timeout, TimeUnit.MILLISECONDS.toNanos(30));
+
+    assertTrue(timeout.await());
+    assertTrue(timeout.expiredAt - scheduledAt >= TimeUnit.MILLISECONDS.toNanos(30));
+  }
+
+  @Test
+  void shouldNotExpireCancelledTimeout() throws InterruptedException {
+    final Latch cancelled = new Latch();
+    final Latch later = new Latch();
+    timer.schedule(cancelled, TimeUnit.MILLISECONDS.toNanos(5));
+    timer.schedule(later, TimeUnit.MILLISECONDS.toNanos(20));
+
+    assertThat(cancelled.cancel(), is(true));
+    assertThat(cancelled.cancel(), is(false));
+    assertTrue(later.await());
+    assertThat(cancelled.isExpired(), is(false));
+    assertThat(cancelled.latch.getCount(), is(1L));
+  }
+
+  @Test
+  void shouldExpireEveryTimeoutWhichIsNotCancelled() throws InterruptedException {
+    final int n = 10_000;
+    final AtomicInteger expired = new AtomicInteger();
+    final WheelTimer.Timeout[] timeouts = new WheelTimer.Timeout[n];
+    for (int i = 0; i < n; i++) {
+      timeouts[i] =
+          new WheelTimer.Timeout() {
+            @Override
+            void expire() {
+              expired.incrementAndGet();
+            }
+          };
+      timer.schedule(timeouts[i], TimeUnit.MILLISECONDS.toNanos(1 + i % 50));
+    }
+    int cancelled = 0;
+    for (int i = 1; i < n; i += 2) {
+      if (timeouts[i].cancel()) {
+        cancelled++;
+      }
+    }
+
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (expired.get() < n - cancelled && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    Thread.sleep(60);
+    assertThat(expired.get(), is(n - cancelled));
+  }
+
+  @Test
+  void shouldWakeUpWhenIdle() throws InterruptedException {
+    final Latch first = new Latch();
+    timer.schedule(first, 0);
+    assertTrue(first.await());
+
+    Thread.sleep(20);
+
+    final Latch second = new Latch();
+    timer.schedule(second, TimeUnit.MILLISECONDS.toNanos(1));
+    assertTrue(second.await());
+  }
+
+  @Test
+  void shouldRejectSchedulingTwice() {
+    final Latch timeout = new Latch();
+    timer.schedule(timeout, TimeUnit.SECONDS.toNanos(10));
+
+    assertThrows(IllegalStateException.class, () -> timer.schedule(timeout, 0));
+  }
+
+  @Test
+  void shouldRejectInvalidConfiguration() {
+    assertThrows(IllegalArgumentException.class, () -> new WheelTimer(0, 8, "invalid"));
+    assertThrows(IllegalArgumentException.class, () -> new WheelTimer(TICK, 6, "invalid"));
+  }
+}
@@ -0,0 +1,128 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Runs against the jar, which holds the Java 11 {@code JfrEvents}. */
+class ResultEventsIT {
+
+  private static final String FAILURE = "com.github.hekmekk.result4j.Failure";
+
+  private static final String SLOW_CALL = "com.github.hekmekk.result4j.SlowCall";
+
+  @BeforeEach
+  void requireFlightRecorder() {
+    assumeTrue(FlightRecorder.isAvailable());
+  }
+
+  private static List<RecordedEvent> record(final Recording recording, final Runnable r)
+      throws IOException {
+    final Path file = Files.createTempFile("result4j", ".jfr");
+    try {
+      recording.start();
+      r.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file).stream()
+          .filter(e -> e.getEventType().getName().startsWith("com.github.hekmekk.result4j"))
+          .collect(Collectors.toList());
+    } finally {
+      recording.close();
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  void failuresShouldBeRecorded() throws IOException {
+    final Recording recording = new Recording();
+    recording.enable(FAILURE).withStackTrace();
+    final List<RecordedEvent> events =
+        record(
+            recording,
+            () -> {
+              Result.of(() -> "SUCCESS");
+              Result.of(
+                  () -> {
+                    throw new IOException("FAILURE");
+                  });
+              Completable.of(
+                  () -> {
+                    throw new IllegalStateException();
+                  },
+                  StackCapture.suppressed());
+            });
+
+    assertThat(events.size(), is(2));
+    final RecordedEvent first = events.get(0);
+    assertThat(first.getString("operation"), is("Result.of"));
+    assertThat(first.getClass("errorClass").getName(), is(IOException.class.getName()));
+    assertThat(first.getString("message"), is("FAILURE"));
+    assertThat(first.getStackTrace(), notNullValue());
+    final RecordedEvent second = events.get(1);
+    assertThat(second.getString("operation"), is("Completable.of"));
+    assertThat(second.getClass("errorClass").getName(), is(IllegalStateException.class.getName()));
+  }
+
+  @Test
+  void slowCallsShouldBeRecordedAboveTheThreshold() throws IOException {
+    final Recording recording = new Recording();
+    recording.enable(SLOW_CALL).withThreshold(Duration.ofMillis(50));
+    final List<RecordedEvent> events =
+        record(
+            recording,
+            () -> {
+              Result.of(() -> "FAST");
+              Completable.of(() -> Thread.sleep(100));
+            });
+
+    assertThat(events.size(), is(1));
+    assertThat(events.get(0).getString("operation"), is("Completable.of"));
+    assertThat(events.get(0).getDuration().toMillis() >= 100, is(true));
+  }
+
+  @Test
+  void slowCallsShouldNotBeCreatedByDefault() throws IOException {
+    final List<RecordedEvent> events =
+        record(
+            new Recording(),
+            () -> {
+              assertThat(ResultEvents.begin(), nullValue());
+              Completable.of(() -> Thread.sleep(50));
+            });
+
+    assertThat(events.isEmpty(), is(true));
+  }
+
+  @Test
+  void nothingShouldBeRecordedWhenDisabled() throws IOException {
+    final Recording recording = new Recording();
+    recording.disable(FAILURE);
+    recording.disable(SLOW_CALL);
+    final List<RecordedEvent> events =
+        record(
+            recording,
+            () ->
+                Result.of(
+                    () -> {
+                      throw new IOException();
+                    }));
+    assertThat(events.isEmpty(), is(true));
+    assertThat(ResultEvents.begin(), nullValue());
+  }
+}
@@ -0,0 +1,77 @@
+package com.github.hekmekk.result4j;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.InvocationTargetException;
+import org.junit.jupiter.api.Test;
+
+class MultiReleaseIT {
+
+  private static String describe(final Result<Integer, String> result) {
+    if (result instanceof Result.Success<Integer, String> s) {
+      return "value " + s.unsafeGet();
+    } else if (result instanceof Result.Failure<Integer, String> f) {
+      return "error " + f.unsafeGetError();
+    }
+    throw new AssertionError("unreachable");
+  }
+
+  /** Calls the public canonical constructor, which the Java 8 classes used for compiling lack. */
+  private static Object newInstance(final Class<?> record, final Object component)
+      throws Throwable {
+    try {
+      return record.getConstructor(Object.class).newInstance(component);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  @Test
+  void casesShouldBeSealedRecords() {
+    assertThat(Result.class.isSealed(), is(true));
+    assertThat(Result.Success.class.isRecord(), is(true));
+    assertThat(Result.Failure.class.isRecord(), is(true));
+    assertThat(Completable.class.isSealed(), is(true));
+    assertThat(Completable.Success.class.isRecord(), is(true));
+    assertThat(Completable.Failure.class.isRecord(), is(true));
+  }
+
+  @Test
+  void recordsShouldBehaveLikeTheJava8Classes() throws Throwable {
+    assertThat(describe(Result.success(1)), is("value 1"));
+    assertThat(describe(Result.failure("E")), is("error E"));
+    assertThat(Result.success(1), sameInstance(Result.success(1)));
+    assertThat(Result.success(1000).toString(), is("Success[value=1000]"));
+    assertThat(Result.failure("E").toString(), is("Failure[error=E]"));
+    assertThat(Result.success(1000), is(newInstance(Result.Success.class, 1000)));
+    assertThat(
+        ((Result.Success<Integer, String>) Result.<Integer, String>success(1)).value(), is(1));
+    assertThat(Completable.success().toString(), is("Success[]"));
+    assertThat(Completable.failure("E").toString(), is("Failure[error=E]"));
+    assertThrows(NullPointerException.class, () -> newInstance(Result.Success.class, null));
+    assertThrows(NullPointerException.class, () -> newInstance(Completable.Failure.class, null));
+    assertThat(Result.of(() -> 41).map(n -> n + 1), is(Result.success(42)));
+    assertThat(Completable.from(Result.success(Done.DONE)), sameInstance(Completable.success()));
+  }
+
+  @Test
+  void recordsShouldSerializeThroughTheProxy() throws Exception {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(Result.failure("E"));
+      out.writeObject(Completable.success());
+    }
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertThat(in.readObject(), is(Result.failure("E")));
+      assertThat(in.readObject(), sameInstance(Completable.success()));
+    }
+  }
+}